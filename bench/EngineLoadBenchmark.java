@@ -0,0 +1,105 @@
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Load test for {@link WeaverEngine}: measures move throughput as the number of player threads grows.
+ * Every thread owns its own sessions and replays each session's shortest solution path, starting a new
+ * game on every win, so all moves are legal and threads never contend for the same session.
+ *
+ * <p>With moves on different sessions fully independent, throughput should scale linearly up to the
+ * number of cores; the last column reports the speedup over one thread.</p>
+ *
+ * <p>Usage: {@code java EngineLoadBenchmark [sessionsPerThread] [seconds] [maxThreads]}</p>
+ */
+public class EngineLoadBenchmark {
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        int sessionsPerThread = args.length > 0 ? Integer.parseInt(args[0]) : 64;
+        double seconds = args.length > 1 ? Double.parseDouble(args[1]) : 2.0;
+        int cores = Runtime.getRuntime().availableProcessors();
+        int maxThreads = args.length > 2 ? Integer.parseInt(args[2]) : Math.max(2, cores);
+
+        WeaverEngine engine = new WeaverEngine();
+        System.out.printf("%d cores, %d sessions per thread, %.1f s per run%n", cores, sessionsPerThread, seconds);
+        run(engine, 1, sessionsPerThread, seconds / 2); // warm-up
+
+        double baseline = 0;
+        for (int threads = 1; threads <= maxThreads; threads *= 2) {
+            double movesPerSecond = run(engine, threads, sessionsPerThread, seconds);
+            if (threads == 1) {
+                baseline = movesPerSecond;
+            }
+            System.out.printf("  %3d threads  %,14.0f moves/s  speedup %5.2fx%n",
+                    threads, movesPerSecond, movesPerSecond / baseline);
+        }
+    }
+
+    /**
+     * Plays the engine from several threads for a fixed time.
+     *
+     * @return Moves applied per second across all threads
+     */
+    private static double run(WeaverEngine engine, int threads, int sessionsPerThread, double seconds)
+            throws InterruptedException {
+        AtomicBoolean stop = new AtomicBoolean();
+        CountDownLatch ready = new CountDownLatch(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        long[] moves = new long[threads];
+        Thread[] workers = new Thread[threads];
+
+        for (int t = 0; t < threads; t++) {
+            int index = t;
+            workers[t] = new Thread(() -> {
+                String[] ids = new String[sessionsPerThread];
+                ArrayList<ArrayList<String>> solutions = new ArrayList<>();
+                int[] step = new int[sessionsPerThread];
+                for (int s = 0; s < sessionsPerThread; s++) {
+                    ids[s] = engine.createSession();
+                    solutions.add(engine.getSolutionPath(ids[s]));
+                    step[s] = 1;
+                }
+                ready.countDown();
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                long count = 0;
+                while (!stop.get()) {
+                    for (int s = 0; s < sessionsPerThread; s++) {
+                        ArrayList<String> solution = solutions.get(s);
+                        engine.tick(ids[s], solution.get(step[s]));
+                        count++;
+                        if (++step[s] == solution.size()) {
+                            engine.reset(ids[s]);
+                            step[s] = 1;
+                        }
+                    }
+                }
+                for (String id : ids) {
+                    engine.closeSession(id);
+                }
+                moves[index] = count;
+            });
+            workers[t].start();
+        }
+
+        ready.await();
+        long begin = System.nanoTime();
+        start.countDown();
+        Thread.sleep((long) (seconds * 1000));
+        stop.set(true);
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        double elapsed = (System.nanoTime() - begin) / 1e9;
+
+        long total = 0;
+        for (long count : moves) {
+            total += count;
+        }
+        return total / elapsed;
+    }
+}
@@ -0,0 +1,181 @@
+import java.net.URL;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * The hot-path benchmark suite: dictionary loading and model construction, validation, shortest-path
+ * search on near and far pairs, random pair generation, path scoring and full tick sequences. Each
+ * benchmark reports throughput, average time and allocation (see {@link Microbench}).
+ *
+ * <p>Usage: {@code java HotPathBenchmark [--warmup N] [--iterations N] [--time ms]
+ * [--save file] [--baseline file] [name filter...]}. Save a run on the baseline commit, then pass it
+ * as {@code --baseline} to print each benchmark's change in average time.</p>
+ */
+public class HotPathBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        int warmup = 3;
+        int iterations = 5;
+        long millis = 300;
+        String save = null;
+        List<String> filters = new ArrayList<>();
+        String baselineFile = null;
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--warmup":
+                    warmup = Integer.parseInt(args[++i]);
+                    break;
+                case "--iterations":
+                    iterations = Integer.parseInt(args[++i]);
+                    break;
+                case "--time":
+                    millis = Long.parseLong(args[++i]);
+                    break;
+                case "--save":
+                    save = args[++i];
+                    break;
+                case "--baseline":
+                    baselineFile = args[++i];
+                    break;
+                default:
+                    filters.add(args[i]);
+            }
+        }
+        Microbench bench = new Microbench(warmup, iterations, millis);
+        if (baselineFile != null) {
+            bench.loadBaseline(Paths.get(baselineFile));
+        }
+        new HotPathBenchmark(bench, filters).runAll();
+        if (save != null) {
+            bench.save(Paths.get(save));
+        }
+    }
+
+    private final Microbench bench;
+    private final List<String> filters;
+    private final WordDictionary dictionary;
+    private final WordGraph graph;
+    private final String[][] randomPairs;
+    private final String[][] nearPairs;
+    private final String[][] farPairs;
+
+    private HotPathBenchmark(Microbench bench, List<String> filters) throws Exception {
+        this.bench = bench;
+        this.filters = filters;
+        CompiledDictionary compiled = CompiledDictionary.getBundled();
+        this.dictionary = compiled.getDictionary();
+        this.graph = compiled.getGraph();
+
+        // Fixed seeds, so every run measures the same inputs
+        Random random = new Random(42L);
+        randomPairs = new String[1024][];
+        for (int i = 0; i < randomPairs.length; i++) {
+            randomPairs[i] = new String[] {randomWord(random), randomWord(random)};
+        }
+        nearPairs = samplePairs(random, 1, 3);
+        farPairs = samplePairs(random, 8, Integer.MAX_VALUE);
+    }
+
+    private String randomWord(Random random) {
+        return dictionary.get(random.nextInt(dictionary.size()));
+    }
+
+    /**
+     * Samples 64 connected pairs whose shortest ladder has between minSteps and maxSteps moves.
+     */
+    private String[][] samplePairs(Random random, int minSteps, int maxSteps) {
+        List<String[]> pairs = new ArrayList<>();
+        while (pairs.size() < 64) {
+            String initial = randomWord(random);
+            String target = randomWord(random);
+            int steps = PathFinder.findPathByBFS(initial, target, graph).size() - 1;
+            if (steps >= minSteps && steps <= maxSteps) {
+                pairs.add(new String[] {initial, target});
+            }
+        }
+        return pairs.toArray(new String[0][]);
+    }
+
+    private void runAll() throws Exception {
+        bench.printHeader();
+        URL resource = CompiledDictionary.class.getResource("/dictionary.txt");
+        run("dictionary.load", n -> CompiledDictionary.loadOrCompile(resource));
+        run("model.construct", n -> new WeaverModel());
+
+        BasicValidator basic = new BasicValidator();
+        run("validator.basic", n -> {
+            String[] pair = randomPairs[(int) (n & 1023)];
+            return basic.validate(pair[0], pair[1], dictionary);
+        });
+        run("validator.basic.rejected", n -> {
+            String[] pair = randomPairs[(int) (n & 1023)];
+            return basic.evaluate("ZZZZ", pair[1], dictionary);
+        });
+        FeedbackTableValidator table = new FeedbackTableValidator(FeedbackTable.loadOrBuild(dictionary));
+        run("validator.feedbackTable", n -> {
+            String[] pair = randomPairs[(int) (n & 1023)];
+            return table.validate(pair[0], pair[1], dictionary);
+        });
+
+        run("path.bfs.near", n -> {
+            String[] pair = nearPairs[(int) (n & 63)];
+            return PathFinder.findPathByBFS(pair[0], pair[1], graph);
+        });
+        run("path.bfs.far", n -> {
+            String[] pair = farPairs[(int) (n & 63)];
+            return PathFinder.findPathByBFS(pair[0], pair[1], graph);
+        });
+        run("strategy.withPath", n -> new WithPath(new RandomWordStrategy(dictionary), graph).generateWords(dictionary));
+
+        List<ArrayList<String>> farPaths = new ArrayList<>();
+        for (String[] pair : farPairs) {
+            farPaths.add(PathFinder.findPathByBFS(pair[0], pair[1], graph));
+        }
+        run("path.getValidations", n -> {
+            ArrayList<String> path = farPaths.get((int) (n & 63));
+            return PathFinder.getValidations(path.get(path.size() - 1), path, dictionary);
+        });
+
+        // A fixed-pair model game (EAST -> WAST -> WEST), replayed from a reset
+        WeaverModel model = new WeaverModel();
+        model.initialize();
+        run("model.tickSequence", n -> {
+            model.resetGame();
+            model.tick("WAST");
+            return model.tick("WEST");
+        });
+        // The same sequence with metrics recording, to show their overhead
+        GameMetrics.setEnabled(true);
+        run("model.tickSequence.metrics", n -> {
+            model.resetGame();
+            model.tick("WAST");
+            return model.tick("WEST");
+        });
+        GameMetrics.setEnabled(false);
+
+        // Far-pair games on the engine, each replayed move by move from a reset
+        WeaverEngine engine = new WeaverEngine();
+        String[] sessions = new String[farPairs.length];
+        for (int i = 0; i < sessions.length; i++) {
+            sessions[i] = engine.createSession(farPairs[i][0], farPairs[i][1]);
+        }
+        run("engine.tickSequence.far", n -> {
+            int game = (int) (n & 63);
+            ArrayList<String> path = farPaths.get(game);
+            engine.reset(sessions[game]);
+            ValidationResult last = null;
+            for (int step = 1; step < path.size(); step++) {
+                last = engine.tick(sessions[game], path.get(step));
+            }
+            return last;
+        });
+    }
+
+    private void run(String name, Microbench.Operation operation) throws Exception {
+        if (filters.isEmpty() || filters.stream().anyMatch(name::contains)) {
+            bench.run(name, operation);
+        }
+    }
+}
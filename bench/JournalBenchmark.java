@@ -0,0 +1,112 @@
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Measures the {@link GameJournal}: sustained append throughput of an engine playing many sessions
+ * (compared with the same games unjournaled), and the time to rebuild every session after a restart,
+ * once by replaying the whole journal and once from a snapshot plus the records after it.
+ *
+ * <p>Usage: {@code java JournalBenchmark [records] [sessions]}</p>
+ */
+public class JournalBenchmark {
+
+    public static void main(String[] args) throws IOException {
+        long records = args.length > 0 ? Long.parseLong(args[0]) : 1_000_000;
+        int sessions = args.length > 1 ? Integer.parseInt(args[1]) : 1000;
+
+        play(null, records / 10, sessions); // warm-up
+        long plain = play(null, records, sessions);
+        System.out.printf("%-28s %,12d moves  %7.2f s  %,12.0f moves/s%n",
+                "unjournaled", records, plain / 1e9, records / (plain / 1e9));
+
+        run("journal only", records, sessions, Long.MAX_VALUE);
+        run("journal with snapshots", records, sessions, records / 4);
+    }
+
+    private static void run(String label, long records, int sessions, long snapshotInterval) throws IOException {
+        Path directory = Files.createTempDirectory("weaver-journal");
+        try {
+            WeaverEngine engine = new WeaverEngine();
+            GameJournal journal = GameJournal.open(directory, GameJournal.DEFAULT_SYNC_INTERVAL_MILLIS, snapshotInterval);
+            engine.attachJournal(journal);
+            long nanos = play(engine, records, sessions);
+            long syncBegin = System.nanoTime();
+            journal.sync();
+            nanos += System.nanoTime() - syncBegin;
+            long appended = journal.getNextLsn();
+            journal.close();
+            System.out.printf("%-28s %,12d records %7.2f s  %,12.0f records/s  %,d bytes on disk%n",
+                    label, appended, nanos / 1e9, appended / (nanos / 1e9), sizeOf(directory));
+
+            long begin = System.nanoTime();
+            WeaverEngine recovered = new WeaverEngine();
+            GameJournal reopened = GameJournal.open(directory, GameJournal.DEFAULT_SYNC_INTERVAL_MILLIS, snapshotInterval);
+            recovered.attachJournal(reopened);
+            long recovery = System.nanoTime() - begin;
+            reopened.close();
+            System.out.printf("%-28s %,12d sessions %6.2f s  %s%n", "  recovery", recovered.sessionCount(),
+                    recovery / 1e9, sameSessions(engine, recovered) ? "identical" : "MISMATCH");
+        } finally {
+            try (Stream<Path> files = Files.walk(directory)) {
+                files.sorted(Comparator.reverseOrder()).forEach(file -> file.toFile().delete());
+            }
+        }
+    }
+
+    /**
+     * Plays the given number of moves round-robin over the sessions, each following its solution path
+     * and resetting at the target, and returns the elapsed time.
+     */
+    private static long play(WeaverEngine journaled, long moves, int sessionCount) throws IOException {
+        WeaverEngine engine = journaled != null ? journaled : new WeaverEngine();
+        List<String> ids = new ArrayList<>();
+        List<List<String>> paths = new ArrayList<>();
+        for (int s = 0; s < sessionCount; s++) {
+            String id = engine.createSession();
+            ids.add(id);
+            paths.add(engine.getSolutionPath(id));
+        }
+        int[] steps = new int[sessionCount];
+
+        long begin = System.nanoTime();
+        for (long move = 0; move < moves; move++) {
+            int s = (int) (move % sessionCount);
+            List<String> path = paths.get(s);
+            if (steps[s] == path.size() - 1) {
+                engine.reset(ids.get(s));
+                steps[s] = 0;
+            } else {
+                engine.tick(ids.get(s), path.get(++steps[s]));
+            }
+        }
+        return System.nanoTime() - begin;
+    }
+
+    private static boolean sameSessions(WeaverEngine expected, WeaverEngine actual) {
+        boolean[] same = {expected.sessionCount() == actual.sessionCount()};
+        expected.forEachSession((id, session) -> {
+            // A session missing from the recovered engine is a mismatch, not an error
+            GameSession recovered = actual.findSession(id);
+            if (recovered == null) {
+                same[0] = false;
+                return;
+            }
+            GameState state = session.snapshot();
+            GameState other = recovered.snapshot();
+            same[0] &= state.getPath().equals(other.getPath()) && state.getTargetWord().equals(other.getTargetWord())
+                    && state.isWon() == other.isWon();
+        });
+        return same[0];
+    }
+
+    private static long sizeOf(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.mapToLong(file -> file.toFile().length()).sum();
+        }
+    }
+}
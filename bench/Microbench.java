@@ -0,0 +1,213 @@
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A small benchmark harness in the spirit of JMH, for a tree that has no build tool to pull JMH in.
+ * Each benchmark runs warm-up iterations, then measurement iterations of a fixed duration on the
+ * calling thread, and reports throughput, average time per operation (with the standard deviation over
+ * iterations) and allocation per operation and per second, read from the thread's allocation counter
+ * ({@code com.sun.management.ThreadMXBean}), as JMH's GC profiler does.
+ *
+ * <p>Results can be saved to a file and later runs compared against it, so a change can be checked
+ * against a baseline.</p>
+ */
+public final class Microbench {
+
+    /**
+     * A benchmarked operation. Its return value is consumed so the JIT cannot drop the work.
+     */
+    public interface Operation {
+        /**
+         * Runs the operation once.
+         *
+         * @param invocation The running invocation count, e.g. to cycle through inputs
+         * @return Any value depending on the work done
+         * @throws Exception if the operation fails, which aborts the benchmark
+         */
+        Object run(long invocation) throws Exception;
+    }
+
+    /**
+     * The measurement of one benchmark.
+     */
+    public static final class Result {
+        final String name;
+        final double nanosPerOp;
+        final double nanosPerOpError;
+        final double bytesPerOp;
+
+        Result(String name, double nanosPerOp, double nanosPerOpError, double bytesPerOp) {
+            this.name = name;
+            this.nanosPerOp = nanosPerOp;
+            this.nanosPerOpError = nanosPerOpError;
+            this.bytesPerOp = bytesPerOp;
+        }
+    }
+
+    private final int warmupIterations;
+    private final int measurementIterations;
+    private final long iterationNanos;
+    private final List<Result> results = new ArrayList<>();
+    private final Map<String, Double> baseline = new HashMap<>();
+
+    private volatile Object barrier = new Object();
+    private long consumed;
+
+    /**
+     * Constructs a harness.
+     *
+     * @pre.    warmupIterations ≥ 0 ∧ measurementIterations > 0 ∧ iterationMillis > 0
+     *
+     * @param warmupIterations      Iterations run and discarded before measuring
+     * @param measurementIterations Iterations measured
+     * @param iterationMillis       Duration of each iteration
+     */
+    public Microbench(int warmupIterations, int measurementIterations, long iterationMillis) {
+        this.warmupIterations = warmupIterations;
+        this.measurementIterations = measurementIterations;
+        this.iterationNanos = iterationMillis * 1_000_000L;
+    }
+
+    /**
+     * Loads a baseline saved by {@link #save(Path)}; later results are printed with their change
+     * relative to it.
+     *
+     * @param file The baseline file
+     * @throws IOException if the file cannot be read
+     */
+    public void loadBaseline(Path file) throws IOException {
+        for (String line : Files.readAllLines(file)) {
+            String[] fields = line.split("\t");
+            if (fields.length >= 2 && !line.startsWith("#")) {
+                baseline.put(fields[0], Double.parseDouble(fields[1]));
+            }
+        }
+    }
+
+    /**
+     * Measures an operation and prints its result line.
+     *
+     * @pre.    name ≠ null ∧ operation ≠ null
+     *
+     * @param name      The benchmark name
+     * @param operation The operation to measure
+     * @return The result
+     * @throws Exception if the operation fails
+     */
+    public Result run(String name, Operation operation) throws Exception {
+        long invocation = 0;
+        // Calibrate a batch size so the clock is read about once per millisecond
+        long batch = 1;
+        long begin = System.nanoTime();
+        while (System.nanoTime() - begin < 1_000_000L && batch < (1L << 30)) {
+            for (long i = 0; i < batch; i++) {
+                consume(operation.run(invocation++));
+            }
+            batch *= 2;
+        }
+
+        for (int i = 0; i < warmupIterations; i++) {
+            invocation = iteration(operation, batch, invocation, null);
+        }
+        double[] nanosPerOp = new double[measurementIterations];
+        long[] totals = new long[2]; // operations, allocated bytes
+        for (int i = 0; i < measurementIterations; i++) {
+            long[] measured = new long[3];
+            invocation = iteration(operation, batch, invocation, measured);
+            nanosPerOp[i] = (double) measured[1] / measured[0];
+            totals[0] += measured[0];
+            totals[1] += measured[2];
+        }
+
+        double mean = 0;
+        for (double value : nanosPerOp) {
+            mean += value / nanosPerOp.length;
+        }
+        double variance = 0;
+        for (double value : nanosPerOp) {
+            variance += (value - mean) * (value - mean) / Math.max(1, nanosPerOp.length - 1);
+        }
+        Result result = new Result(name, mean, Math.sqrt(variance), totals[1] < 0 ? Double.NaN : (double) totals[1] / totals[0]);
+        results.add(result);
+        print(result);
+        return result;
+    }
+
+    /**
+     * Runs batches for one iteration; if measured is given, stores operations, nanoseconds and
+     * allocated bytes (-1 if unavailable) in it.
+     */
+    private long iteration(Operation operation, long batch, long invocation, long[] measured) throws Exception {
+        long operations = 0;
+        long allocatedBefore = allocatedBytes();
+        long begin = System.nanoTime();
+        long elapsed;
+        do {
+            for (long i = 0; i < batch; i++) {
+                consume(operation.run(invocation++));
+            }
+            operations += batch;
+            elapsed = System.nanoTime() - begin;
+        } while (elapsed < iterationNanos);
+        if (measured != null) {
+            long allocatedAfter = allocatedBytes();
+            measured[0] = operations;
+            measured[1] = elapsed;
+            measured[2] = allocatedBefore < 0 ? -1 : allocatedAfter - allocatedBefore;
+        }
+        return invocation;
+    }
+
+    private void consume(Object value) {
+        if (value == barrier) {
+            consumed++;
+        }
+    }
+
+    private static long allocatedBytes() {
+        java.lang.management.ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        if (threads instanceof com.sun.management.ThreadMXBean) {
+            return ((com.sun.management.ThreadMXBean) threads).getCurrentThreadAllocatedBytes();
+        }
+        return -1;
+    }
+
+    /**
+     * Prints the column headers of the result lines.
+     */
+    public void printHeader() {
+        System.out.printf("%-28s %14s %19s %12s %12s %9s%n",
+                "Benchmark", "ops/s", "avg ns/op", "B/op", "alloc MB/s", "vs base");
+    }
+
+    private void print(Result result) {
+        double opsPerSecond = 1e9 / result.nanosPerOp;
+        Double base = baseline.get(result.name);
+        String change = base == null ? "" : String.format("%+8.1f%%", (result.nanosPerOp - base) / base * 100);
+        System.out.printf("%-28s %,14.0f %,11.1f +- %-5.1f %,12.1f %,12.1f %9s%n",
+                result.name, opsPerSecond, result.nanosPerOp, result.nanosPerOpError,
+                result.bytesPerOp, result.bytesPerOp * opsPerSecond / (1024 * 1024), change);
+    }
+
+    /**
+     * Saves the results measured so far as a baseline for {@link #loadBaseline(Path)}.
+     *
+     * @param file The file to write
+     * @throws IOException if the file cannot be written
+     */
+    public void save(Path file) throws IOException {
+        try (BufferedWriter out = Files.newBufferedWriter(file)) {
+            out.write("# benchmark\tavg ns/op\tB/op\n");
+            for (Result result : results) {
+                out.write(result.name + "\t" + result.nanosPerOp + "\t" + result.bytesPerOp + "\n");
+            }
+        }
+    }
+}
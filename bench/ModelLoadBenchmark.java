@@ -0,0 +1,313 @@
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Simulated-player load generator for the model layer: runs N headless {@link WeaverModel} instances on a
+ * pool of threads and plays them with bot policies, driving {@code initialize}, {@code tick} and
+ * "show path" (the solution path with its feedback, as {@link CLIMain} prints it).
+ *
+ * <p>Policies:</p>
+ * <ul>
+ *   <li>{@code OPTIMAL} plays the shortest ladder to the target;</li>
+ *   <li>{@code RANDOM_NEIGHBOR} plays a random legal neighbour of its last word, giving up after
+ *       {@value #MAX_MOVES} moves;</li>
+ *   <li>{@code TYPO} plays the shortest ladder but makes a mistake on about 30% of its moves: a misspelt word,
+ *       a word of the wrong length or a word that skips a step. The validator checks the dictionary before
+ *       the length, and the dictionary only holds 4-letter words, so the first two are both rejected as
+ *       not in the dictionary and the third as not one letter apart;</li>
+ *   <li>{@code MIXED} assigns the three policies to players in turn.</li>
+ * </ul>
+ *
+ * <p>Actions can be throttled to a target rate across all threads. Latency is then measured from each
+ * action's scheduled start, so a stall also counts against the actions queued behind it. Latencies are
+ * recorded in {@link GameMetrics} histograms, which are switched on for the run; the model's own metrics
+ * (path search, notification fan-out) are printed with them. Allocation per game is read from each
+ * thread's allocation counter.</p>
+ *
+ * <p>Usage: {@code java ModelLoadBenchmark [--players N] [--threads N] [--seconds S] [--warmup S]
+ * [--rate actions/s] [--policy OPTIMAL|RANDOM_NEIGHBOR|TYPO|MIXED] [--show-path fraction] [--seed N]}</p>
+ */
+public class ModelLoadBenchmark {
+
+    /** Moves after which a game that is not won is abandoned and a new one started. */
+    static final int MAX_MOVES = 30;
+
+    /**
+     * How a simulated player picks its moves.
+     */
+    enum Policy {
+        OPTIMAL, RANDOM_NEIGHBOR, TYPO, MIXED
+    }
+
+    private static final GameMetrics.Histogram INITIALIZE = GameMetrics.histogram("load.initialize", true);
+    private static final GameMetrics.Histogram TICK = GameMetrics.histogram("load.tick", true);
+    private static final GameMetrics.Histogram SHOW_PATH = GameMetrics.histogram("load.showPath", true);
+    private static final GameMetrics.Counter REJECTED = GameMetrics.counter("load.tick.rejected");
+    private static final GameMetrics.Counter WON = GameMetrics.counter("load.games.won");
+    private static final GameMetrics.Counter ABANDONED = GameMetrics.counter("load.games.abandoned");
+
+    public static void main(String[] args) throws Exception {
+        int players = 64;
+        int threads = Runtime.getRuntime().availableProcessors();
+        double seconds = 10;
+        double warmup = 2;
+        double rate = 0;
+        Policy policy = Policy.MIXED;
+        double showPath = 0.25;
+        long seed = 42;
+        for (int i = 0; i < args.length; i++) {
+            switch (args[i]) {
+                case "--players":
+                    players = Integer.parseInt(args[++i]);
+                    break;
+                case "--threads":
+                    threads = Integer.parseInt(args[++i]);
+                    break;
+                case "--seconds":
+                    seconds = Double.parseDouble(args[++i]);
+                    break;
+                case "--warmup":
+                    warmup = Double.parseDouble(args[++i]);
+                    break;
+                case "--rate":
+                    rate = Double.parseDouble(args[++i]);
+                    break;
+                case "--policy":
+                    policy = Policy.valueOf(args[++i].toUpperCase(Locale.ROOT));
+                    break;
+                case "--show-path":
+                    showPath = Double.parseDouble(args[++i]);
+                    break;
+                case "--seed":
+                    seed = Long.parseLong(args[++i]);
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown option: " + args[i]);
+            }
+        }
+        threads = Math.max(1, Math.min(threads, players));
+        new ModelLoadBenchmark(players, threads, policy, showPath, rate, seed).run(warmup, seconds);
+    }
+
+    private final int threads;
+    private final double showPathFraction;
+    private final long periodNanos; // Interval between one thread's actions, or 0 if unthrottled
+    private final ArrayList<ArrayList<Player>> playersByThread = new ArrayList<>();
+    private final String description;
+
+    private volatile boolean measuring;
+    private volatile boolean stopped;
+
+    private ModelLoadBenchmark(int players, int threads, Policy policy, double showPathFraction, double rate, long seed)
+            throws Exception {
+        this.threads = threads;
+        this.showPathFraction = showPathFraction;
+        this.periodNanos = rate > 0 ? (long) (threads * 1e9 / rate) : 0;
+        this.description = String.format("%d players (%s) on %d threads, %s", players, policy, threads,
+                rate > 0 ? String.format("%,.0f actions/s target", rate) : "unthrottled");
+        for (int t = 0; t < threads; t++) {
+            playersByThread.add(new ArrayList<>());
+        }
+        Policy[] cycle = {Policy.OPTIMAL, Policy.RANDOM_NEIGHBOR, Policy.TYPO};
+        for (int p = 0; p < players; p++) {
+            Policy assigned = policy == Policy.MIXED ? cycle[p % cycle.length] : policy;
+            playersByThread.get(p % threads).add(new Player(assigned, new Random(seed + p)));
+        }
+    }
+
+    private void run(double warmupSeconds, double seconds) throws InterruptedException {
+        boolean metricsWereEnabled = GameMetrics.isEnabled();
+        GameMetrics.setEnabled(true);
+        long[] games = new long[threads];
+        long[] allocated = new long[threads];
+        CountDownLatch done = new CountDownLatch(threads);
+        for (int t = 0; t < threads; t++) {
+            int index = t;
+            Thread worker = new Thread(() -> {
+                try {
+                    play(playersByThread.get(index), index, games, allocated);
+                } catch (Exception e) {
+                    e.printStackTrace();
+                } finally {
+                    done.countDown();
+                }
+            }, "player-" + t);
+            worker.setDaemon(true);
+            worker.start();
+        }
+
+        Thread.sleep((long) (warmupSeconds * 1000));
+        GameMetrics.reset();
+        measuring = true;
+        long begin = System.nanoTime();
+        Thread.sleep((long) (seconds * 1000));
+        stopped = true;
+        done.await();
+        double elapsed = (System.nanoTime() - begin) / 1e9;
+
+        long totalGames = 0;
+        long totalAllocated = 0;
+        for (int t = 0; t < threads; t++) {
+            totalGames += games[t];
+            totalAllocated += allocated[t];
+        }
+        long ticks = TICK.getCount();
+        long actions = ticks + INITIALIZE.getCount() + SHOW_PATH.getCount();
+        System.out.println(description + String.format(", %.1f s", elapsed));
+        System.out.printf("  %,12.0f actions/s   %,12.0f ticks/s (%.1f%% rejected)   %,10.1f games/s%n",
+                actions / elapsed, ticks / elapsed, ticks == 0 ? 0 : 100.0 * REJECTED.get() / ticks, totalGames / elapsed);
+        System.out.printf("  %,12d games won   %,12d abandoned   %,12.0f bytes allocated per game%n",
+                WON.get(), ABANDONED.get(), totalGames == 0 ? 0 : (double) totalAllocated / totalGames);
+        System.out.println();
+        System.out.print(GameMetrics.snapshot());
+        GameMetrics.setEnabled(metricsWereEnabled);
+    }
+
+    /**
+     * Plays one thread's players in turn, one action per player per turn, until stopped.
+     */
+    private void play(ArrayList<Player> players, int index, long[] games, long[] allocated) {
+        long startAllocated = 0;
+        long startGames = 0;
+        boolean counting = false;
+        long next = System.nanoTime();
+        while (!stopped) {
+            if (!counting && measuring) {
+                counting = true;
+                startAllocated = allocatedBytes();
+                startGames = sumGames(players);
+            }
+            for (Player player : players) {
+                long scheduled;
+                if (periodNanos > 0) {
+                    next += periodNanos;
+                    long wait = next - System.nanoTime();
+                    if (wait > 0) {
+                        LockSupport.parkNanos(wait);
+                    }
+                    scheduled = next;
+                } else {
+                    scheduled = System.nanoTime();
+                }
+                player.act(scheduled);
+            }
+        }
+        if (counting) {
+            games[index] = sumGames(players) - startGames;
+            allocated[index] = allocatedBytes() - startAllocated;
+        }
+    }
+
+    private static long sumGames(ArrayList<Player> players) {
+        long sum = 0;
+        for (Player player : players) {
+            sum += player.games;
+        }
+        return sum;
+    }
+
+    private static long allocatedBytes() {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        return bean instanceof com.sun.management.ThreadMXBean
+                ? ((com.sun.management.ThreadMXBean) bean).getCurrentThreadAllocatedBytes() : 0;
+    }
+
+    /**
+     * One simulated player with its own model, used by a single thread.
+     */
+    private final class Player {
+        private final Policy policy;
+        private final Random random;
+        private final WeaverModel model;
+        private final WordGraph graph;
+        private ArrayList<String> solution;  // Shortest ladder of the current game, for OPTIMAL and TYPO
+        private String lastWord;             // Last accepted word, or null before the first game
+        private int moves;
+        private boolean pathShown;
+        long games;
+
+        Player(Policy policy, Random random) throws Exception {
+            this.policy = policy;
+            this.random = random;
+            this.model = new WeaverModel();
+            this.model.setRandomWordFlag(true);
+            this.graph = model.getWordGraph();
+        }
+
+        /**
+         * Takes the player's next action: starting a game, asking for the solution path once per game
+         * with the configured probability, or making a move.
+         */
+        void act(long scheduled) {
+            if (lastWord == null) {
+                model.initialize();
+                INITIALIZE.record(System.nanoTime() - scheduled);
+                lastWord = model.getInitialWord();
+                moves = 0;
+                pathShown = random.nextDouble() >= showPathFraction;
+                solution = policy == Policy.RANDOM_NEIGHBOR ? null
+                        : PathFinder.findPathByBFS(lastWord, model.getTargetWord(), graph);
+            } else if (!pathShown) {
+                pathShown = true;
+                ArrayList<String> path = model.getFullSolutionPath();
+                PathFinder.getValidations(model.getTargetWord(), path, model.getDictionary());
+                SHOW_PATH.record(System.nanoTime() - scheduled);
+            } else {
+                String guess = nextGuess();
+                GuessVerdict verdict = model.tryTick(guess);
+                TICK.record(System.nanoTime() - scheduled);
+                moves++;
+                if (!verdict.isOk()) {
+                    REJECTED.increment();
+                } else {
+                    lastWord = guess;
+                }
+                if (model.isWon() || moves >= MAX_MOVES) {
+                    (model.isWon() ? WON : ABANDONED).increment();
+                    games++;
+                    lastWord = null;
+                }
+            }
+        }
+
+        private String nextGuess() {
+            int step = model.getCurrentStep();
+            switch (policy) {
+                case RANDOM_NEIGHBOR:
+                    int id = graph.indexOf(lastWord);
+                    int degree = graph.degree(id);
+                    return degree == 0 ? lastWord : graph.wordAt(graph.neighborAt(graph.neighborStart(id) + random.nextInt(degree)));
+                case TYPO:
+                    if (random.nextDouble() < 0.3) {
+                        return typo(step);
+                    }
+                    return solution.get(step + 1);
+                case OPTIMAL:
+                default:
+                    return solution.get(step + 1);
+            }
+        }
+
+        /**
+         * Makes an invalid guess: a misspelt word or a word of the wrong length (both rejected as not in the
+         * dictionary), or a word two steps ahead (rejected as not one letter apart).
+         */
+        private String typo(int step) {
+            switch (random.nextInt(3)) {
+                case 0:
+                    char[] letters = solution.get(step + 1).toCharArray();
+                    letters[random.nextInt(letters.length)] = (char) ('A' + random.nextInt(26));
+                    String misspelt = new String(letters);
+                    return model.getDictionary().contains(misspelt) ? "QXZJ" : misspelt;
+                case 1:
+                    return solution.get(step + 1) + "S";
+                default:
+                    return step + 2 < solution.size() ? solution.get(step + 2) : "QXZJ";
+            }
+        }
+    }
+}
@@ -0,0 +1,134 @@
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.util.ArrayList;
+import java.util.Objects;
+import java.util.Random;
+
+/**
+ * Compares one-sided and bidirectional BFS in {@link PathFinder}.
+ * For every sampled word pair both modes are run on the same {@link WordGraph}; the benchmark checks
+ * that they agree on the shortest-path length and reports the average number of visited words and
+ * the average search time of each mode.
+ *
+ * <p>Two dictionaries are measured: the bundled {@code /dictionary.txt} and a synthetic list of
+ * random 4-letter words (40,000 by default), which stands in for a dictionary with tens of thousands
+ * of entries.</p>
+ *
+ * <p>Usage: {@code java PathSearchBenchmark [pairs] [syntheticWords]}</p>
+ */
+public class PathSearchBenchmark {
+
+    public static void main(String[] args) throws IOException {
+        int pairs = args.length > 0 ? Integer.parseInt(args[0]) : 2000;
+        int syntheticWords = args.length > 1 ? Integer.parseInt(args[1]) : 40000;
+
+        run("bundled dictionary.txt", loadBundledDictionary(), pairs);
+        run("synthetic " + syntheticWords + " words", syntheticDictionary(syntheticWords, 42L), pairs);
+    }
+
+    /**
+     * Runs both search modes over the same random word pairs and prints a summary.
+     *
+     * @param label      Name of the dataset
+     * @param dictionary Dictionary to search
+     * @param pairs      Number of word pairs to sample
+     */
+    private static void run(String label, WordDictionary dictionary, int pairs) {
+        WordGraph graph = WordGraph.build(dictionary);
+        Random random = new Random(7L);
+        String[][] samples = new String[pairs][];
+        for (int i = 0; i < pairs; i++) {
+            samples[i] = new String[]{
+                    dictionary.get(random.nextInt(dictionary.size())),
+                    dictionary.get(random.nextInt(dictionary.size()))};
+        }
+
+        // Warm up both code paths before measuring
+        for (int i = 0; i < Math.min(pairs, 200); i++) {
+            for (PathFinder.SearchMode mode : PathFinder.SearchMode.values()) {
+                PathFinder.search(samples[i][0], samples[i][1], graph, mode);
+            }
+        }
+
+        long[] visited = new long[PathFinder.SearchMode.values().length];
+        long[] nanos = new long[PathFinder.SearchMode.values().length];
+        int found = 0;
+        for (String[] pair : samples) {
+            int expectedLength = -1;
+            for (PathFinder.SearchMode mode : PathFinder.SearchMode.values()) {
+                long start = System.nanoTime();
+                PathSearchResult result = PathFinder.search(pair[0], pair[1], graph, mode);
+                nanos[mode.ordinal()] += System.nanoTime() - start;
+                visited[mode.ordinal()] += result.getVisitedCount();
+                int length = result.getPath().size();
+                if (expectedLength < 0) {
+                    expectedLength = length;
+                } else if (expectedLength != length) {
+                    throw new IllegalStateException("Path length mismatch for " + pair[0] + " -> " + pair[1]
+                            + ": " + expectedLength + " vs " + length + " (" + mode + ")");
+                }
+            }
+            if (expectedLength > 0) {
+                found++;
+            }
+        }
+
+        System.out.printf("%s: %d words, %d edges, %d pairs (%d connected)%n",
+                label, graph.size(), graph.neighborEnd(graph.size() - 1) / 2, pairs, found);
+        for (PathFinder.SearchMode mode : PathFinder.SearchMode.values()) {
+            System.out.printf("  %-13s avg visited %9.1f   avg time %8.1f us%n", mode,
+                    visited[mode.ordinal()] / (double) pairs, nanos[mode.ordinal()] / 1000.0 / pairs);
+        }
+        double reduction = 1.0 - visited[PathFinder.SearchMode.BIDIRECTIONAL.ordinal()]
+                / (double) visited[PathFinder.SearchMode.BREADTH_FIRST.ordinal()];
+        System.out.printf("  visited-node reduction: %.1f%%%n%n", reduction * 100);
+    }
+
+    /**
+     * Loads the bundled dictionary the same way {@link WeaverModel} does.
+     *
+     * @return The bundled 4-letter dictionary
+     * @throws IOException if the dictionary resource cannot be read
+     */
+    static WordDictionary loadBundledDictionary() throws IOException {
+        ArrayList<String> words = new ArrayList<>();
+        try (BufferedReader br = new BufferedReader(new InputStreamReader(Objects.requireNonNull(
+                PathSearchBenchmark.class.getResourceAsStream("/dictionary.txt"),
+                "Dictionary file not found in classpath: /dictionary.txt")))) {
+            String line;
+            while ((line = br.readLine()) != null) {
+                if (line.length() == 4) {
+                    words.add(line.toUpperCase());
+                }
+            }
+        }
+        return WordDictionary.of(words);
+    }
+
+    /**
+     * Generates a dictionary of distinct random 4-letter words.
+     *
+     * @param count Number of words to generate (at most 26^4)
+     * @param seed  Random seed, for reproducible runs
+     * @return The synthetic dictionary
+     */
+    static WordDictionary syntheticDictionary(int count, long seed) {
+        Random random = new Random(seed);
+        ArrayList<String> words = new ArrayList<>(count);
+        long[] seen = new long[(1 << 20) / Long.SIZE];
+        char[] letters = new char[4];
+        while (words.size() < count) {
+            for (int i = 0; i < letters.length; i++) {
+                letters[i] = (char) ('A' + random.nextInt(26));
+            }
+            String word = new String(letters);
+            int code = WordDictionary.encode(word);
+            if ((seen[code >>> 6] & (1L << code)) == 0) {
+                seen[code >>> 6] |= 1L << code;
+                words.add(word);
+            }
+        }
+        return WordDictionary.of(words);
+    }
+}
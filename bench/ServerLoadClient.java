@@ -0,0 +1,180 @@
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Iterator;
+
+/**
+ * Load generator for {@link WeaverServer}. Opens many connections from one selector thread; every
+ * connection starts a random game, fetches its solution path and then plays it with {@code TICK}s,
+ * resetting after each win, with one request in flight at a time. The round-trip latency of every
+ * {@code TICK} is recorded and reported as percentiles.
+ *
+ * <p>Without a port argument, an in-process server on a free port is started and measured.</p>
+ *
+ * <p>Usage: {@code java ServerLoadClient [connections] [seconds] [port]}</p>
+ */
+public class ServerLoadClient {
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        int connections = args.length > 0 ? Integer.parseInt(args[0]) : 2000;
+        double seconds = args.length > 1 ? Double.parseDouble(args[1]) : 5.0;
+        WeaverServer server = null;
+        int port;
+        if (args.length > 2) {
+            port = Integer.parseInt(args[2]);
+        } else {
+            server = new WeaverServer(new WeaverEngine(), new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+            port = server.getLocalPort();
+            Thread serverThread = new Thread(server, "weaver-server");
+            serverThread.setDaemon(true);
+            serverThread.start();
+        }
+
+        run(port, connections, seconds / 4, false); // warm-up
+        run(port, connections, seconds, true);
+        if (server != null) {
+            server.close();
+        }
+    }
+
+    private static void run(int port, int connections, double seconds, boolean report) throws IOException {
+        InetSocketAddress address = new InetSocketAddress(InetAddress.getLoopbackAddress(), port);
+        long[] latencies = new long[1 << 20];
+        int latencyCount = 0;
+        long ticks = 0;
+
+        try (Selector selector = Selector.open()) {
+            for (int i = 0; i < connections; i++) {
+                SocketChannel channel = SocketChannel.open(address);
+                channel.configureBlocking(false);
+                channel.socket().setTcpNoDelay(true);
+                Client client = new Client(channel);
+                channel.register(selector, SelectionKey.OP_READ, client);
+                client.send("NEW");
+            }
+
+            long deadline = System.nanoTime() + (long) (seconds * 1e9);
+            long begin = System.nanoTime();
+            while (System.nanoTime() < deadline) {
+                selector.select(100);
+                Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    SelectionKey key = keys.next();
+                    keys.remove();
+                    Client client = (Client) key.attachment();
+                    String line;
+                    while ((line = client.readLine()) != null) {
+                        long now = System.nanoTime();
+                        if (!line.startsWith("OK")) {
+                            throw new IllegalStateException("Server error: " + line);
+                        }
+                        if (client.pending.equals("TICK")) {
+                            ticks++;
+                            if (latencyCount == latencies.length) {
+                                latencies = Arrays.copyOf(latencies, latencies.length * 2);
+                            }
+                            latencies[latencyCount++] = now - client.sentAt;
+                        }
+                        client.advance(line);
+                    }
+                }
+            }
+            double elapsed = (System.nanoTime() - begin) / 1e9;
+
+            for (SelectionKey key : selector.keys()) {
+                key.channel().close();
+            }
+            if (report) {
+                Arrays.sort(latencies, 0, latencyCount);
+                System.out.printf("%d connections, %.1f s: %,d ticks (%,.0f ticks/s)%n",
+                        connections, elapsed, ticks, ticks / elapsed);
+                System.out.printf("  tick latency p50 %7.1f us   p99 %7.1f us   max %8.1f us%n",
+                        percentile(latencies, latencyCount, 0.50) / 1e3,
+                        percentile(latencies, latencyCount, 0.99) / 1e3,
+                        latencyCount > 0 ? latencies[latencyCount - 1] / 1e3 : 0.0);
+            }
+        }
+    }
+
+    private static double percentile(long[] sorted, int count, double fraction) {
+        if (count == 0) {
+            return 0;
+        }
+        return sorted[Math.min(count - 1, (int) Math.ceil(fraction * count) - 1)];
+    }
+
+    /**
+     * One client connection playing its game as a small state machine: NEW, PATH, then TICKs along the
+     * path and RESET after each win.
+     */
+    private static final class Client {
+        final SocketChannel channel;
+        final ByteBuffer in = ByteBuffer.allocate(4096);
+        final StringBuilder partial = new StringBuilder();
+        String pending;
+        long sentAt;
+        String[] path;
+        int step;
+
+        Client(SocketChannel channel) {
+            this.channel = channel;
+        }
+
+        void send(String request) throws IOException {
+            pending = request.split(" ", 2)[0];
+            ByteBuffer out = ByteBuffer.wrap((request + "\n").getBytes(StandardCharsets.US_ASCII));
+            sentAt = System.nanoTime();
+            while (out.hasRemaining()) {
+                channel.write(out);
+            }
+        }
+
+        String readLine() throws IOException {
+            int newline = partial.indexOf("\n");
+            if (newline < 0) {
+                in.clear();
+                if (channel.read(in) <= 0) {
+                    return null;
+                }
+                in.flip();
+                partial.append(StandardCharsets.US_ASCII.decode(in));
+                newline = partial.indexOf("\n");
+                if (newline < 0) {
+                    return null;
+                }
+            }
+            String line = partial.substring(0, newline);
+            partial.delete(0, newline + 1);
+            return line;
+        }
+
+        void advance(String response) throws IOException {
+            switch (pending) {
+                case "NEW":
+                    send("PATH");
+                    break;
+                case "PATH":
+                    path = response.substring(3).split(" ");
+                    step = 1;
+                    send("TICK " + path[step]);
+                    break;
+                case "RESET":
+                    step = 1;
+                    send("TICK " + path[step]);
+                    break;
+                default:
+                    if (++step == path.length) {
+                        send("RESET");
+                    } else {
+                        send("TICK " + path[step]);
+                    }
+            }
+        }
+    }
+}
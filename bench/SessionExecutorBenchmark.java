@@ -0,0 +1,103 @@
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * Compares two ways of running many concurrent games on one {@link WeaverEngine}:
+ * one platform thread per session, and the mailbox mode of {@link SessionExecutor} (virtual threads
+ * where the runtime has them). In both, every session plays a number of games; each game computes its
+ * solution path and then plays it move by move.
+ *
+ * <p>Usage: {@code java SessionExecutorBenchmark [sessions] [gamesPerSession]}</p>
+ */
+public class SessionExecutorBenchmark {
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        int sessions = args.length > 0 ? Integer.parseInt(args[0]) : 2000;
+        int games = args.length > 1 ? Integer.parseInt(args[1]) : 20;
+        WeaverEngine engine = new WeaverEngine();
+
+        threadPerSession(engine, sessions / 10, games); // warm-up
+        executorMode(engine, sessions / 10, games, false);
+
+        threadPerSession(engine, sessions, games);
+        executorMode(engine, sessions, games, true);
+    }
+
+    private static void threadPerSession(WeaverEngine engine, int sessions, int games) throws InterruptedException {
+        long[] moves = new long[sessions];
+        CountDownLatch done = new CountDownLatch(sessions);
+        long begin = System.nanoTime();
+        for (int s = 0; s < sessions; s++) {
+            int index = s;
+            new Thread(() -> {
+                String id = engine.createSession();
+                for (int g = 0; g < games; g++) {
+                    ArrayList<String> path = engine.getSolutionPath(id);
+                    for (int step = 1; step < path.size(); step++) {
+                        engine.tick(id, path.get(step));
+                        moves[index]++;
+                    }
+                    engine.reset(id);
+                }
+                engine.closeSession(id);
+                done.countDown();
+            }).start();
+        }
+        done.await();
+        report("thread per session", sessions, sum(moves), System.nanoTime() - begin, null);
+    }
+
+    private static void executorMode(WeaverEngine engine, int sessions, int games, boolean print) {
+        long begin = System.nanoTime();
+        long moves;
+        try (SessionExecutor executor = new SessionExecutor(engine)) {
+            List<CompletableFuture<Long>> players = new ArrayList<>();
+            for (int s = 0; s < sessions; s++) {
+                players.add(executor.createSession().thenCompose(id -> play(executor, id, games, 0L)));
+            }
+            moves = 0;
+            for (CompletableFuture<Long> player : players) {
+                moves += player.join();
+            }
+            if (print) {
+                report("session executor", sessions, moves, System.nanoTime() - begin, executor.describeMetrics());
+            }
+        }
+    }
+
+    /**
+     * Plays the remaining games of a session asynchronously: fetch the path, queue all of its moves
+     * (the mailbox keeps them in order), reset, repeat.
+     */
+    private static CompletableFuture<Long> play(SessionExecutor executor, String id, int gamesLeft, long moves) {
+        if (gamesLeft == 0) {
+            return executor.closeSession(id).thenApply(removed -> moves);
+        }
+        return executor.solutionPath(id).thenCompose(path -> {
+            for (int step = 1; step < path.size(); step++) {
+                executor.tick(id, path.get(step));
+            }
+            return executor.reset(id).thenCompose(ignored -> play(executor, id, gamesLeft - 1, moves + path.size() - 1));
+        });
+    }
+
+    private static long sum(long[] values) {
+        long total = 0;
+        for (long value : values) {
+            total += value;
+        }
+        return total;
+    }
+
+    private static void report(String label, int sessions, long moves, long nanos, String metrics) {
+        double seconds = nanos / 1e9;
+        System.out.printf("%-20s %6d sessions  %,10d moves  %7.2f s  %,12.0f moves/s%n",
+                label, sessions, moves, seconds, moves / seconds);
+        if (metrics != null) {
+            System.out.println("  " + metrics);
+        }
+    }
+}
@@ -1,4 +1,5 @@
-import java.util.ArrayList;
+import exceptions.InvalidWordException;
+import java.util.Arrays;
 import java.util.LinkedHashMap;
 import java.util.Map;
 
@@ -11,12 +12,32 @@ import java.util.Map;
  * <ul>
  *   <li>{@code dictionary} is not empty and contains valid words</li>
  *   <li>{@code target} and {@code word} have the same length</li>
- *   <li>{@code originalCount} and {@code availableCount} contain non-negative integer counts for characters</li>
- *   <li>{@code result} map in {@link ValidationResult} maintains 1:1 mapping between character positions and valid {@link LetterState}</li>
+ *   <li>{@code availableCount} contains non-negative counts, one slot per letter 'A'..'Z'</li>
+ *   <li>{@code result} array in {@link ValidationResult} maintains 1:1 mapping between character positions and valid {@link LetterState}</li>
  * </ul>
+ *
+ * <p>Scoring works on primitive arrays: letter counts go into a 26-slot int array and letter states
+ * into a {@link LetterState} array, both reused per thread, and the states are then packed into the
+ * result, so validating a guess allocates only the result.</p>
+ *
+ * <p>The template methods {@link #validate} and {@link #evaluate} call the non-throwing checks
+ * {@link #isInDictionary} and {@link #hasSameLength}, then the array-based scoring hooks
+ * {@link #countCharacters(String, int[])}, {@link #processCorrectPositions(String, String, int[], LetterState[])}
+ * and {@link #processRemainingCharacters(String, int[], LetterState[])}. {@link #validInDictionary} and
+ * {@link #validLength} are throwing wrappers over the same checks, for callers that check one rule.</p>
  */
 public abstract class AbstractValidator implements WordValidator {
 
+    /** Number of count slots, one per letter 'A'..'Z'. */
+    protected static final int ALPHABET_SIZE = 26;
+
+    // Per-thread letter count scratch, so scoring does not allocate a count array per call
+    private static final ThreadLocal<int[]> LETTER_COUNTS = ThreadLocal.withInitial(() -> new int[ALPHABET_SIZE]);
+
+    // Per-thread letter state scratch, one array per word length; packed into the result after scoring
+    private static final ThreadLocal<LetterState[][]> LETTER_STATES =
+            ThreadLocal.withInitial(() -> new LetterState[ValidationResult.MAX_LENGTH + 1][]);
+
     /**
      * Validates the given word against the target based on dictionary rules and character matching logic.
      *
@@ -35,64 +56,204 @@ public abstract class AbstractValidator implements WordValidator {
      * @return A ValidationResult object that contains the result of character-by-character evaluation.
      */
     @Override
-    public ValidationResult validate(String word, String target, ArrayList<String> dictionary) {
+    public ValidationResult validate(String word, String target, WordDictionary dictionary) {
+        return evaluate(word, target, dictionary).getResultOrThrow();
+    }
+
+    /**
+     * Checks the given word against the target with the same rules, in the same order, as
+     * {@link #validate}, but reports a rejected guess as a shared verdict instead of throwing.
+     *
+     * @pre.    word ≠ null ∧ target ≠ null ∧ dictionary ≠ null
+     * @post.   NOT_IN_DICTIONARY if target or word is not in the dictionary, else WRONG_LENGTH if their
+     *          lengths differ, else OK with the same result validate returns
+     *
+     * @param word       The user's guessed word.
+     * @param target     The target word to compare against.
+     * @param dictionary The dictionary of valid words.
+     * @return The verdict
+     */
+    @Override
+    public GuessVerdict evaluate(String word, String target, WordDictionary dictionary) {
         // Ensure both words are valid according to dictionary rules
-        validInDictionary(target, dictionary);
-        validInDictionary(word, dictionary);
+        if (!isInDictionary(target, dictionary) || !isInDictionary(word, dictionary)) {
+            return GuessVerdict.NOT_IN_DICTIONARY;
+        }
         // Validate that both words have equal length
-        validLength(target, word);
-        // Count characters in the target word
-        Map<Character, Integer> originalCount = countCharacters(target);
-        // Create a copy of character counts to track usage
-        Map<Character, Integer> availableCount = new LinkedHashMap<>(originalCount);
-        // Store the result mapping from position to letter state
-        Map<Integer, LetterState> result = new LinkedHashMap<>();
+        if (!hasSameLength(target, word)) {
+            return GuessVerdict.WRONG_LENGTH;
+        }
+        return GuessVerdict.ok(score(word, target));
+    }
+
+    private ValidationResult score(String word, String target) {
+        // Count characters in the target word; counts are consumed as letters are matched
+        int[] availableCount = LETTER_COUNTS.get();
+        Arrays.fill(availableCount, 0);
+        countCharacters(target, availableCount);
+        // Store the result letter state of each position
+        LetterState[] result = letterStates(word.length());
 
-        processCorrectPositions(word, target, availableCount, result);
-        processRemainingCharacters(word, originalCount, availableCount, result); // (inputWord, originalCountForTarget, ...)
+        processCorrectPositions(target, word, availableCount, result);
+        processRemainingCharacters(word, availableCount, result);
 
         return new ValidationResult(result);
     }
 
     /**
-     * Ensures the provided word exists in the dictionary.
+     * Gets this thread's cleared state array for words of the given length.
+     *
+     * @param length The word length
+     * @return An all-null array of that length
+     */
+    private static LetterState[] letterStates(int length) {
+        if (length > ValidationResult.MAX_LENGTH) {
+            return new LetterState[length]; // rejected by ValidationResult with a clear message
+        }
+        LetterState[][] byLength = LETTER_STATES.get();
+        LetterState[] states = byLength[length];
+        if (states == null) {
+            states = new LetterState[length];
+            byLength[length] = states;
+        } else {
+            Arrays.fill(states, null);
+        }
+        return states;
+    }
+
+    /**
+     * Checks whether the provided word exists in the dictionary, without throwing.
+     *
+     * @pre.    word ≠ null ∧ dictionary ≠ null
+     *
+     * @param word       The word to check.
+     * @param dictionary The dictionary of valid words.
+     * @return true iff word ∈ dictionary
+     */
+    public abstract boolean isInDictionary(String word, WordDictionary dictionary);
+
+    /**
+     * Checks whether the two words have the same length, without throwing.
+     *
+     * @pre.    word ≠ null ∧ target ≠ null
+     *
+     * @param word   The first word (e.g., guess).
+     * @param target The second word (e.g., target).
+     * @return true iff word.length() == target.length()
+     */
+    public abstract boolean hasSameLength(String word, String target);
+
+    /**
+     * Ensures the provided word exists in the dictionary, as decided by {@link #isInDictionary}.
      *
      * @pre.    word ≠ null ∧ dictionary ≠ null
      *          dictionary is not empty
      * @post.   word ∈ dictionary
+     *          throws InvalidWordException if word is not in the dictionary
      *
      * @param word       The word to check.
      * @param dictionary The dictionary of valid words.
+     * @throws InvalidWordException if the word is not found in the dictionary.
      */
-    public abstract void validInDictionary(String word, ArrayList<String> dictionary);
+    public void validInDictionary(String word, WordDictionary dictionary) {
+        if (!isInDictionary(word, dictionary)) {
+            throw new InvalidWordException(GuessVerdict.NOT_IN_DICTIONARY.getMessage());
+        }
+    }
 
     /**
-     * Checks if the lengths of the two words match.
+     * Ensures the lengths of the two words match, as decided by {@link #hasSameLength}.
      *
      * @pre.    word ≠ null ∧ target ≠ null
      * @post.   word.length() == target.length()
+     *          throws InvalidWordException if lengths do not match
      *
      * @param word   The first word (e.g., guess).
      * @param target The second word (e.g., target).
+     * @throws InvalidWordException if the lengths do not match.
+     */
+    public void validLength(String word, String target) {
+        if (!hasSameLength(word, target)) {
+            throw new InvalidWordException(GuessVerdict.WRONG_LENGTH.getMessage());
+        }
+    }
+
+    /**
+     * Counts occurrences of each letter of the given word into a 26-slot array.
+     *
+     * @pre.    word ≠ null ∧ word consists of letters 'A'..'Z'
+     *          counts.length ≥ 26
+     * @post.   counts[c - 'A'] is increased by the number of occurrences of c in word
+     *
+     * @param word   The word to analyze.
+     * @param counts Letter counts indexed by {@code c - 'A'}.
+     */
+    public abstract void countCharacters(String word, int[] counts);
+
+    /**
+     * Processes the word to identify correct characters in correct positions (GREEN),
+     * using primitive letter counts.
+     *
+     * @pre.    word ≠ null ∧ target ≠ null
+     *          word.length() == target.length() == result.length
+     *          availableCount holds the letter counts of target
+     * @post.   For each index i:
+     *          - If word[i] == target[i], result[i] = GREEN and availableCount[word[i] - 'A'] decreases by 1
+     *          - Else, result[i] remains null (to be processed later)
+     *
+     * @param target         The target word.
+     * @param word           The guessed word.
+     * @param availableCount Letter counts still available for matching, indexed by {@code c - 'A'}.
+     * @param result         The resulting letter state of each position.
+     */
+    public abstract void processCorrectPositions(String target, String word, int[] availableCount, LetterState[] result);
+
+    /**
+     * Processes the remaining characters to determine if they exist in the target but are misplaced (YELLOW)
+     * or not present at all (GREY), using primitive letter counts.
+     *
+     * @pre.    word ≠ null ∧ word.length() == result.length
+     *          availableCount has remaining counts after processCorrectPositions
+     *          result contains GREEN assignments from processCorrectPositions
+     * @post.   For each index i not marked GREEN:
+     *          - If availableCount[word[i] - 'A'] > 0: result[i] = YELLOW and that count decreases by 1
+     *          - Else: result[i] = GREY
+     *
+     * @param word           The guessed word.
+     * @param availableCount Letter counts still available for matching, indexed by {@code c - 'A'}.
+     * @param result         The resulting letter state of each position.
      */
-    public abstract void validLength(String word, String target);
+    public abstract void processRemainingCharacters(String word, int[] availableCount, LetterState[] result);
 
     /**
-     * Counts occurrences of each character in the given word.
+     * Counts occurrences of each character in the given word, by delegating to
+     * {@link #countCharacters(String, int[])}.
      *
-     * @pre.    word ≠ null
+     * @pre.    word ≠ null ∧ word consists of letters 'A'..'Z'
      * @post.   returned map contains all characters in word with counts ≥ 0
-     *          returned map preserves character order if applicable
+     *          returned map preserves order of first appearance
      *
      * @param word The word to analyze.
      * @return A map where keys are characters and values are their counts.
+     * @deprecated {@link #validate} uses {@link #countCharacters(String, int[])}; kept for existing callers.
      */
-    public abstract Map<Character, Integer> countCharacters(String word);
+    @Deprecated
+    public Map<Character, Integer> countCharacters(String word) {
+        int[] counts = new int[ALPHABET_SIZE];
+        countCharacters(word, counts);
+        Map<Character, Integer> count = new LinkedHashMap<>();
+        for (int i = 0; i < word.length(); i++) {
+            char c = word.charAt(i);
+            count.put(c, counts[c - 'A']);
+        }
+        return count;
+    }
 
     /**
-     * Processes the word to identify correct characters in correct positions (GREEN).
+     * Processes the word to identify correct characters in correct positions (GREEN), by delegating to
+     * {@link #processCorrectPositions(String, String, int[], LetterState[])}.
      *
-     * @pre.    word ≠ null ∧ target ≠ null
+     * @pre.    word ≠ null ∧ target ≠ null ∧ both consist of letters 'A'..'Z'
      *          word.length() == target.length()
      *          availableCount contains character counts for all characters in target
      *          result is empty or partially populated
@@ -100,18 +261,27 @@ public abstract class AbstractValidator implements WordValidator {
      *          - If word[i] == target[i], result[i] = GREEN and availableCount[word[i]] decreases by 1
      *          - Else, result[i] remains unassigned (to be processed later)
      *
-     * @param word          The guessed word.
-     * @param target        The target word.
+     * @param target         The target word.
+     * @param word           The guessed word.
      * @param availableCount A map tracking how many times each character can still be used.
-     * @param result        A map storing the resulting letter states by position.
+     * @param result         A map storing the resulting letter states by position.
+     * @deprecated {@link #validate} uses {@link #processCorrectPositions(String, String, int[], LetterState[])};
+     *             kept for existing callers.
      */
-    public abstract void processCorrectPositions(String target, String word, Map<Character, Integer> availableCount, Map<Integer, LetterState> result);
+    @Deprecated
+    public void processCorrectPositions(String target, String word, Map<Character, Integer> availableCount, Map<Integer, LetterState> result) {
+        int[] counts = countsOf(availableCount);
+        LetterState[] states = new LetterState[word.length()];
+        processCorrectPositions(target, word, counts, states);
+        copyBack(word, counts, states, availableCount, result);
+    }
 
     /**
      * Processes the remaining characters to determine if they exist in the target but are misplaced (YELLOW)
-     * or not present at all (GREY).
+     * or not present at all (GREY), by delegating to
+     * {@link #processRemainingCharacters(String, int[], LetterState[])}.
      *
-     * @pre.    word ≠ null
+     * @pre.    word ≠ null ∧ word consists of letters 'A'..'Z'
      *          originalCount contains full character counts from target
      *          availableCount has remaining counts after processCorrectPositions
      *          result contains GREEN assignments from processCorrectPositions
@@ -123,7 +293,42 @@ public abstract class AbstractValidator implements WordValidator {
      * @param originalCount  A map of original character counts in the target word.
      * @param availableCount A map tracking how many times each character is still available for matching.
      * @param result         A map storing the resulting letter states by position.
+     * @deprecated {@link #validate} uses {@link #processRemainingCharacters(String, int[], LetterState[])};
+     *             kept for existing callers.
      */
-    public abstract void processRemainingCharacters(String word, Map<Character, Integer> originalCount, Map<Character, Integer> availableCount, Map<Integer, LetterState> result);
+    @Deprecated
+    public void processRemainingCharacters(String word, Map<Character, Integer> originalCount, Map<Character, Integer> availableCount, Map<Integer, LetterState> result) {
+        int[] counts = countsOf(availableCount);
+        LetterState[] states = new LetterState[word.length()];
+        for (Map.Entry<Integer, LetterState> entry : result.entrySet()) {
+            states[entry.getKey()] = entry.getValue();
+        }
+        processRemainingCharacters(word, counts, states);
+        copyBack(word, counts, states, availableCount, result);
+    }
+
+    private static int[] countsOf(Map<Character, Integer> availableCount) {
+        int[] counts = new int[ALPHABET_SIZE];
+        for (Map.Entry<Character, Integer> entry : availableCount.entrySet()) {
+            counts[entry.getKey() - 'A'] = entry.getValue();
+        }
+        return counts;
+    }
+
+    /**
+     * Writes the states assigned by an array-based hook, and the counts of their letters, back into the maps.
+     */
+    private static void copyBack(String word, int[] counts, LetterState[] states,
+                                 Map<Character, Integer> availableCount, Map<Integer, LetterState> result) {
+        for (int i = 0; i < states.length; i++) {
+            if (states[i] != null && !result.containsKey(i)) {
+                result.put(i, states[i]);
+                char c = word.charAt(i);
+                if (availableCount.containsKey(c)) {
+                    availableCount.put(c, counts[c - 'A']);
+                }
+            }
+        }
+    }
 
 }
\ No newline at end of file
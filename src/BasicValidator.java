@@ -1,8 +1,3 @@
-import exceptions.InvalidWordException;
-import java.util.ArrayList;
-import java.util.LinkedHashMap;
-import java.util.Map;
-
 /**
  * A concrete implementation of the {@link AbstractValidator} for validating a guessed word
  * against a target word using dictionary and character position rules.
@@ -28,117 +23,103 @@ import java.util.Map;
 public class BasicValidator extends AbstractValidator {
 
     /**
-     * Validates whether the given word exists in the provided dictionary.
+     * Checks whether the given word exists in the provided dictionary.
+     * The lookup is a constant-time probe of the dictionary's packed-word table and does not allocate.
      *
      * @pre.    word ≠ null ∧ dictionary ≠ null
-     *          dictionary is not empty
-     * @post.   word ∈ dictionary
-     *          throws InvalidWordException if word is not in the dictionary
      *
      * @param word       The word to check.
-     * @param dictionary The list of valid words.
-     * @throws InvalidWordException if the word is not found in the dictionary.
+     * @param dictionary The dictionary of valid words.
+     * @return true iff word ∈ dictionary
      */
     @Override
-    public void validInDictionary(String word, ArrayList<String> dictionary) {
-        if (!dictionary.contains(word)) {
-            throw new InvalidWordException("This word is not in the dictionary.");
-        }
+    public boolean isInDictionary(String word, WordDictionary dictionary) {
+        return dictionary.contains(word);
     }
 
     /**
-     * Ensures the guessed word has the same length as the target word.
+     * Checks whether the guessed word has the same length as the target word.
      *
      * @pre.    word ≠ null ∧ target ≠ null
-     * @post.   word.length() == target.length()
-     *          throws InvalidWordException if lengths do not match
      *
      * @param word   The guessed word.
      * @param target The target word.
-     * @throws InvalidWordException if the lengths do not match.
+     * @return true iff word.length() == target.length()
      */
     @Override
-    public void validLength(String word, String target) {
-        if (word.length() != target.length()) {
-            throw new InvalidWordException("Length of word is not equal to target word.");
-        }
+    public boolean hasSameLength(String word, String target) {
+        return word.length() == target.length();
     }
 
     /**
-     * Counts the occurrences of each character in the given word.
+     * Counts the occurrences of each letter of the given word into a 26-slot array.
      *
-     * @pre.    word ≠ null
-     * @post.   returned map contains all characters with non-negative counts
-     *          preserves order of first appearance (LinkedHashMap behavior)
+     * @pre.    word ≠ null ∧ word consists of letters 'A'..'Z'
+     *          counts.length ≥ 26
+     * @post.   counts[c - 'A'] is increased by the number of occurrences of c in word
      *
-     * @param word The word to analyze.
-     * @return A map where keys are characters and values are their respective counts.
+     * @param word   The word to analyze.
+     * @param counts Letter counts indexed by {@code c - 'A'}.
      */
     @Override
-    public Map<Character, Integer> countCharacters(String word) {
-        Map<Character, Integer> count = new LinkedHashMap<>();
-        for (char c : word.toCharArray()) {
-            count.put(c, count.getOrDefault(c, 0) + 1);
+    public void countCharacters(String word, int[] counts) {
+        for (int i = 0; i < word.length(); i++) {
+            counts[word.charAt(i) - 'A']++;
         }
-        return count;
     }
 
     /**
-     * Identifies characters that are in the correct position (marked as CORRECT_POSITION).
-     * Updates the available character count to avoid double counting.
+     * Identifies letters that are in the correct position (marked as CORRECT_POSITION),
+     * consuming their counts so they are not matched again.
      *
      * @pre.    target ≠ null ∧ word ≠ null
-     *          target.length() == word.length()
-     *          availableCount contains full character counts from target
-     *          result is empty or partially populated
+     *          target.length() == word.length() == result.length
+     *          availableCount holds the letter counts of target
      * @post.   For each index i:
-     *          - If word[i] == target[i], result[i] = CORRECT_POSITION and availableCount[word[i]] decreases by 1
-     *          - Else, result[i] remains unassigned (to be processed later)
+     *          - If word[i] == target[i], result[i] = CORRECT_POSITION and availableCount[word[i] - 'A'] decreases by 1
+     *          - Else, result[i] remains null (to be processed later)
      *
      * @param target         The target word.
      * @param word           The guessed word.
-     * @param availableCount A map tracking how many times each character can still be used.
-     * @param result         A map storing the resulting letter states by position.
+     * @param availableCount Letter counts still available for matching, indexed by {@code c - 'A'}.
+     * @param result         The resulting letter state of each position.
      */
     @Override
-    public void processCorrectPositions(String target, String word, Map<Character, Integer> availableCount, Map<Integer, LetterState> result) {
+    public void processCorrectPositions(String target, String word, int[] availableCount, LetterState[] result) {
         for (int i = 0; i < target.length(); i++) {
             char c = word.charAt(i);
             if (c == target.charAt(i)) {
-                result.put(i, LetterState.CORRECT_POSITION);
-                availableCount.put(c, availableCount.get(c) - 1);
+                result[i] = LetterState.CORRECT_POSITION;
+                availableCount[c - 'A']--;
             }
         }
     }
 
     /**
-     * Processes remaining characters to determine if they appear in the target word
-     * but in the wrong position (WRONG_POSITION) or not at all (NOT_IN_WORD).
+     * Marks the remaining letters as WRONG_POSITION while unmatched copies remain in the target,
+     * and as NOT_IN_WORD otherwise.
      *
-     * @pre.    word ≠ null
-     *          originalCount contains full character counts from target
+     * @pre.    word ≠ null ∧ word.length() == result.length
      *          availableCount has remaining counts after processCorrectPositions
      *          result contains CORRECT_POSITION assignments from processCorrectPositions
      * @post.   For each index i not marked CORRECT_POSITION:
-     *          - If character exists in availableCount > 0 → result[i] = WRONG_POSITION, availableCount[char] decreases by 1
+     *          - If availableCount[word[i] - 'A'] > 0 → result[i] = WRONG_POSITION, that count decreases by 1
      *          - Else → result[i] = NOT_IN_WORD
      *
      * @param word           The guessed word.
-     * @param originalCount  A map of original character counts in the target word.
-     * @param availableCount A map tracking how many times each character is still available for matching.
-     * @param result         A map storing the resulting letter states by position.
+     * @param availableCount Letter counts still available for matching, indexed by {@code c - 'A'}.
+     * @param result         The resulting letter state of each position.
      */
     @Override
-    public void processRemainingCharacters(String word, Map<Character, Integer> originalCount, Map<Character, Integer> availableCount, Map<Integer, LetterState> result) {
+    public void processRemainingCharacters(String word, int[] availableCount, LetterState[] result) {
         for (int i = 0; i < word.length(); i++) {
-            char c = word.charAt(i);
-
-            if (!result.containsKey(i)) {
-                if (originalCount.containsKey(c) && availableCount.getOrDefault(c, 0) > 0) {
-                    result.put(i, LetterState.WRONG_POSITION);
-                    availableCount.put(c, availableCount.get(c) - 1);
+            if (result[i] == null) {
+                int slot = word.charAt(i) - 'A';
+                if (availableCount[slot] > 0) {
+                    result[i] = LetterState.WRONG_POSITION;
+                    availableCount[slot]--;
                 } else {
-                    result.put(i, LetterState.NOT_IN_WORD);
+                    result[i] = LetterState.NOT_IN_WORD;
                 }
             }
         }
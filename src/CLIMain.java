@@ -1,4 +1,5 @@
 import java.io.IOException;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Scanner;
 import java.util.Map;
@@ -68,7 +69,7 @@ public class CLIMain {
                 promptForInput(); // Show input prompt
             } else {
                 // If the game is won, prompt to enter 'new game' or 'quit'
-                System.out.print("Game won. Enter 'new game' to play again or 'quit' to exit: ");
+                System.out.print("Game won. Enter 'new game' to play again, 'undo' to step back or 'quit' to exit: ");
             }
 
             String inputLine = scanner.nextLine().trim(); // Read and trim user input
@@ -93,9 +94,42 @@ public class CLIMain {
                 } catch (WordGenerationException e) {
                     System.err.println("Failed to start a new game.");
                 }
+            } else if (inputLine.equalsIgnoreCase("undo")) {
+                commandProcessed = true;
+                if (model.undo()) {
+                    displayGameState(model);
+                } else {
+                    System.out.println("Nothing to undo.");
+                }
+            } else if (inputLine.equalsIgnoreCase("redo")) {
+                commandProcessed = true;
+                if (model.redo()) {
+                    displayGameState(model);
+                } else {
+                    System.out.println("Nothing to redo.");
+                }
+            } else if (inputLine.toLowerCase().startsWith("jump ")) {
+                commandProcessed = true;
+                String[] parts = inputLine.split("\\s+");
+                int step = -1;
+                if (parts.length == 2) {
+                    try {
+                        step = Integer.parseInt(parts[1]);
+                    } catch (NumberFormatException e) {
+                        step = -1;
+                    }
+                }
+                if (model.jumpTo(step)) {
+                    displayGameState(model);
+                } else {
+                    System.out.println("Invalid step: enter 'jump N' with N from 0 to " + model.getLastStep() + ".");
+                }
             } else if (inputLine.equalsIgnoreCase("show path")) {
                 commandProcessed = true;
                 displaySolutionPath(model);
+            } else if (inputLine.equalsIgnoreCase("stats") || inputLine.toLowerCase().startsWith("stats ")) {
+                commandProcessed = true;
+                handleStatsCommand(inputLine);
             } else if (inputLine.toLowerCase().startsWith("set errors ")) {
                 commandProcessed = true;
                 String[] parts = inputLine.split("\\s+");
@@ -177,7 +211,7 @@ public class CLIMain {
         System.out.println("\n--- Current Game State ---");
         System.out.println("Start Word: " + model.getInitialWord());
         System.out.println("Target Word: " + model.getTargetWord());
-        System.out.println("Path:");
+        System.out.println("Path (step " + model.getCurrentStep() + " of " + model.getLastStep() + "):");
 
         ArrayList<String> path = model.getCurrentPath();
         ArrayList<ValidationResult> results = model.getResultsPath();
@@ -254,7 +288,7 @@ public class CLIMain {
         System.out.println("\n--- Full Solution Path ---");
         ArrayList<String> fullPath = model.getFullSolutionPath();
         String targetWord = model.getTargetWord();
-        ArrayList<String> dictionary = model.getDictionary();
+        WordDictionary dictionary = model.getDictionary();
 
         if (fullPath == null || fullPath.isEmpty()) {
             System.out.println("No path available.");
@@ -272,11 +306,45 @@ public class CLIMain {
         System.out.println("--------------------------");
     }
 
+    /**
+     * Handles the 'stats' command: prints the metrics snapshot, or with an argument turns recording
+     * on or off, clears the metrics or saves the snapshot to a file.
+     *
+     * @pre.    inputLine starts with "stats"
+     * @post.   the requested metrics action is performed and its outcome is printed
+     *
+     * @param inputLine The command entered by the user ('stats', 'stats on|off|reset' or 'stats save FILE').
+     */
+    private static void handleStatsCommand(String inputLine) {
+        String[] parts = inputLine.split("\\s+", 3);
+        if (parts.length == 1) {
+            System.out.print(GameMetrics.snapshot());
+        } else if (parts.length == 2 && parts[1].equalsIgnoreCase("on")) {
+            GameMetrics.setEnabled(true);
+            System.out.println("Metrics enabled.");
+        } else if (parts.length == 2 && parts[1].equalsIgnoreCase("off")) {
+            GameMetrics.setEnabled(false);
+            System.out.println("Metrics disabled.");
+        } else if (parts.length == 2 && parts[1].equalsIgnoreCase("reset")) {
+            GameMetrics.reset();
+            System.out.println("Metrics cleared.");
+        } else if (parts.length == 3 && parts[1].equalsIgnoreCase("save")) {
+            try {
+                GameMetrics.writeSnapshot(Paths.get(parts[2]));
+                System.out.println("Metrics saved to " + parts[2] + ".");
+            } catch (IOException e) {
+                System.out.println("Failed to save metrics: " + e.getMessage());
+            }
+        } else {
+            displayInvalidCommand(inputLine);
+        }
+    }
+
     /**
      * Displays a prompt message to the user for input.
      */
     private static void promptForInput() {
-        System.out.print("Enter your next word or command ('quit', 'reset', 'new game', 'show path', 'set errors [on|off]', 'set random [on|off]'): ");
+        System.out.print("Enter your next word or command ('quit', 'reset', 'new game', 'undo', 'redo', 'jump N', 'show path', 'stats [on|off|reset|save FILE]', 'set errors [on|off]', 'set random [on|off]'): ");
     }
 
     /**
@@ -0,0 +1,235 @@
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Supplier;
+
+/**
+ * Resolves where precomputed dictionary indexes are persisted, and builds, writes and maps the square
+ * byte tables ({@link DistanceOracle}, {@link FeedbackTable}) that hold one byte per ordered word pair.
+ * Cache files are stored next to {@code /dictionary.txt} when the dictionary is loaded from a
+ * directory on the classpath; when it is packaged in a jar (read-only), they go to a
+ * {@code weaver} folder in the system temporary directory instead.
+ *
+ * <p>Table file layout (big-endian): magic, format version, word count, a format-specific int,
+ * dictionary fingerprint (long), followed by the {@code size × size} bytes in row-major order.</p>
+ */
+public final class CacheFiles {
+
+    /** Length of a table file's header, in bytes. */
+    public static final int TABLE_HEADER_BYTES = 24;
+
+    private static final int ROWS_PER_TASK = 64;
+
+    private CacheFiles() {
+    }
+
+    /**
+     * Resolves the path of a cache file that belongs next to the dictionary.
+     *
+     * @pre.    fileName ≠ null ∧ fileName is a plain file name
+     * @post.   returned path is absolute; its parent directory may not exist yet
+     *
+     * @param fileName Name of the cache file (e.g. "dictionary.dist")
+     * @return The path of the cache file
+     */
+    public static Path nextToDictionary(String fileName) {
+        URL url = CacheFiles.class.getResource("/dictionary.txt");
+        if (url != null && "file".equals(url.getProtocol())) {
+            try {
+                return Paths.get(url.toURI()).resolveSibling(fileName);
+            } catch (URISyntaxException | IllegalArgumentException e) {
+                // Fall through to the temporary directory
+            }
+        }
+        return Paths.get(System.getProperty("java.io.tmpdir"), "weaver", fileName).toAbsolutePath();
+    }
+
+    /**
+     * Computes the rows of a square table. {@link #buildTable} gives every leaf task its own filler,
+     * so a filler may keep scratch arrays between rows without synchronization.
+     */
+    public interface RowFiller {
+        /**
+         * Computes one row.
+         *
+         * @param row    The row index (e.g. the source or guess word ID)
+         * @param values Receives the row's {@code size} bytes
+         */
+        void fillRow(int row, byte[] values);
+    }
+
+    /**
+     * Identifies a table file: its format and the dictionary it was built for.
+     */
+    public static final class TableHeader {
+        private final String description;
+        private final int magic;
+        private final int version;
+        private final int size;
+        private final int extra;
+        private final long fingerprint;
+
+        /**
+         * Constructs a new TableHeader.
+         *
+         * @param description Name of the table in messages (e.g. "distance table")
+         * @param magic       Format magic number
+         * @param version     Format version
+         * @param size        Word count; the table holds {@code size × size} bytes
+         * @param extra       Format-specific value that must also match (e.g. the word length), or 0
+         * @param fingerprint Fingerprint of the dictionary the table belongs to
+         */
+        public TableHeader(String description, int magic, int version, int size, int extra, long fingerprint) {
+            this.description = description;
+            this.magic = magic;
+            this.version = version;
+            this.size = size;
+            this.extra = extra;
+            this.fingerprint = fingerprint;
+        }
+    }
+
+    /**
+     * Builds a square table by filling its rows in parallel on the given pool.
+     *
+     * @pre.    size ≤ 46340 ∧ fillers ≠ null ∧ pool ≠ null
+     * @post.   every row r of the result holds the bytes a filler produced for r
+     *
+     * @param size    Number of rows and columns
+     * @param fillers Creates the filler of each leaf task
+     * @param pool    The pool that fills the rows
+     * @return A direct buffer of {@code size × size} bytes
+     */
+    public static ByteBuffer buildTable(int size, Supplier<? extends RowFiller> fillers, ForkJoinPool pool) {
+        ByteBuffer table = ByteBuffer.allocateDirect(size * size);
+        pool.invoke(new RowTask(size, fillers, table, 0, size));
+        return table;
+    }
+
+    /**
+     * Memory-maps a table file after checking that its length and header match.
+     *
+     * @pre.    file ≠ null ∧ header ≠ null
+     * @post.   the returned buffer reads the table bytes directly from the mapped file
+     *
+     * @param file   The table file written by {@link #saveTable(Path, TableHeader, ByteBuffer)}
+     * @param header The expected header
+     * @return The mapped table bytes, positioned after the header
+     * @throws IOException if the file cannot be read or was built for a different format or dictionary
+     */
+    public static ByteBuffer mapTable(Path file, TableHeader header) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long expectedLength = TABLE_HEADER_BYTES + (long) header.size * header.size;
+            if (channel.size() != expectedLength) {
+                throw new IOException("The " + header.description + " has an unexpected length: " + file);
+            }
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, expectedLength);
+            mapped.order(ByteOrder.BIG_ENDIAN);
+            if (mapped.getInt(0) != header.magic || mapped.getInt(4) != header.version
+                    || mapped.getInt(8) != header.size || mapped.getInt(12) != header.extra
+                    || mapped.getLong(16) != header.fingerprint) {
+                throw new IOException("The " + header.description + " does not match the dictionary: " + file);
+            }
+            mapped.position(TABLE_HEADER_BYTES);
+            return mapped.slice();
+        }
+    }
+
+    /**
+     * Writes a table file, atomically replacing any existing one.
+     *
+     * @pre.    file ≠ null ∧ header ≠ null ∧ table.capacity() == header's size²
+     * @post.   {@link #mapTable(Path, TableHeader)} with the same header returns the same bytes
+     *
+     * @param file   The destination file
+     * @param header The header to write
+     * @param table  The table bytes; its position and limit are ignored
+     * @throws IOException if the file cannot be written
+     */
+    public static void saveTable(Path file, TableHeader header, ByteBuffer table) throws IOException {
+        ByteBuffer bytes = ByteBuffer.allocate(TABLE_HEADER_BYTES).order(ByteOrder.BIG_ENDIAN);
+        bytes.putInt(header.magic).putInt(header.version).putInt(header.size).putInt(header.extra)
+                .putLong(header.fingerprint);
+        bytes.flip();
+        writeAtomically(file, bytes, table.duplicate().clear());
+    }
+
+    /**
+     * Writes buffers to a temporary file next to the destination, then moves it over the destination,
+     * so readers never see a partly written file. Missing parent directories are created.
+     *
+     * @pre.    file ≠ null ∧ buffers ≠ null
+     *
+     * @param file    The destination file
+     * @param buffers The contents, written from each buffer's position to its limit
+     * @throws IOException if the file cannot be written
+     */
+    public static void writeAtomically(Path file, ByteBuffer... buffers) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Path temporary = Files.createTempFile(parent, file.getFileName().toString(), ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                for (ByteBuffer buffer : buffers) {
+                    while (buffer.hasRemaining()) {
+                        channel.write(buffer);
+                    }
+                }
+            }
+            Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    /**
+     * Fills the rows of a range, splitting the range across the pool.
+     */
+    private static final class RowTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final int size;
+        private final transient Supplier<? extends RowFiller> fillers;
+        private final transient ByteBuffer table;
+        private final int from;
+        private final int to;
+
+        RowTask(int size, Supplier<? extends RowFiller> fillers, ByteBuffer table, int from, int to) {
+            this.size = size;
+            this.fillers = fillers;
+            this.table = table;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > ROWS_PER_TASK) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new RowTask(size, fillers, table, from, middle), new RowTask(size, fillers, table, middle, to));
+                return;
+            }
+            RowFiller filler = fillers.get();
+            byte[] values = new byte[size];
+            ByteBuffer target = table.duplicate();
+            for (int row = from; row < to; row++) {
+                filler.fillRow(row, values);
+                target.position(row * size);
+                target.put(values);
+            }
+        }
+    }
+}
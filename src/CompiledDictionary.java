@@ -0,0 +1,365 @@
+import profiling.DictionaryLoadEvent;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * A dictionary and its word-ladder graph compiled into a binary file, so that startup maps a file
+ * instead of parsing text. The {@link WordDictionary} codes and probe table and the {@link WordGraph}
+ * CSR arrays are read-only views of the mapping, never copied to the heap, so every process that loads
+ * the same file shares one page-cached copy. Only the decoded word strings and the component labels
+ * are computed per process.
+ *
+ * <p>File layout (big-endian): magic {@code "WVDB"}, format version, word count, flags
+ * (bit 0: graph present), source length (long), source last-modified time (long), then the packed
+ * 20-bit word codes in ascending order, then the dictionary's open-addressed probe table
+ * ({@code WordDictionary.tableCapacity(wordCount)} slots, each 0 or word ID + 1), then, if present,
+ * the CSR graph: {@code wordCount + 1} offsets followed by the neighbor IDs.
+ * The source length and time identify the text dictionary the file was compiled from, so an edited
+ * dictionary is recompiled instead of being shadowed by a stale file.</p>
+ *
+ * <p>Word IDs are the ranks of the sorted codes, so they are the same whether the dictionary was
+ * compiled or read from text.</p>
+ *
+ * <p>The bundled {@code /dictionary.txt} is loaded at most once per process by {@link #getBundled()};
+ * every {@link WeaverModel} references that one instance. The dictionary and graph are immutable and
+ * only hold final fields, so they are safe to share between threads without locking.</p>
+ *
+ * <p>Usage: {@code java CompiledDictionary <dictionary.txt> <dictionary.bin> [--no-graph]}</p>
+ */
+public final class CompiledDictionary {
+
+    /** Default compiled file name, resolved next to the dictionary by {@link CacheFiles}. */
+    public static final String CACHE_FILE_NAME = "dictionary.bin";
+
+    private static final int MAGIC = 0x57564442; // "WVDB"
+    private static final int VERSION = 2;
+    private static final int HEADER_BYTES = 32;
+    private static final int FLAG_GRAPH = 1;
+
+    private static final String BUNDLED_RESOURCE = "/dictionary.txt";
+
+    // Process-wide instance of the bundled dictionary, loaded on first use
+    private static volatile CompiledDictionary bundled;
+
+    private final WordDictionary dictionary;
+    private final WordGraph graph;
+
+    private CompiledDictionary(WordDictionary dictionary, WordGraph graph) {
+        this.dictionary = dictionary;
+        this.graph = graph;
+    }
+
+    /**
+     * Compiles a text dictionary file from the command line.
+     *
+     * @param args Source text file, destination binary file, and optionally {@code --no-graph}
+     * @throws IOException if the source cannot be read or the destination cannot be written
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2 || args.length > 3 || (args.length == 3 && !"--no-graph".equals(args[2]))) {
+            System.err.println("Usage: java CompiledDictionary <dictionary.txt> <dictionary.bin> [--no-graph]");
+            System.exit(2);
+        }
+        Path source = Paths.get(args[0]);
+        Path destination = Paths.get(args[1]);
+        CompiledDictionary compiled;
+        try (InputStream in = Files.newInputStream(source)) {
+            compiled = fromText(in);
+        }
+        compiled.save(destination, args.length < 3, Files.size(source), Files.getLastModifiedTime(source).toMillis());
+        System.out.println("Compiled " + compiled.getDictionary().size() + " words to " + destination);
+    }
+
+    /**
+     * Gets the process-wide instance of the bundled {@code /dictionary.txt}, loading it on the first call.
+     * Concurrent first calls load it once; a failed load is retried by the next call.
+     *
+     * @post.   every call returns the same instance once one call has succeeded
+     *
+     * @return The shared dictionary and graph
+     * @throws IOException if the bundled dictionary cannot be found or read
+     */
+    public static CompiledDictionary getBundled() throws IOException {
+        CompiledDictionary result = bundled;
+        if (result == null) {
+            synchronized (CompiledDictionary.class) {
+                result = bundled;
+                if (result == null) {
+                    URL source = CompiledDictionary.class.getResource(BUNDLED_RESOURCE);
+                    if (source == null) {
+                        throw new IOException("Dictionary file not found in classpath: " + BUNDLED_RESOURCE);
+                    }
+                    result = loadOrCompile(source);
+                    bundled = result;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Gets the word-ladder graph of a dictionary, reusing the shared graph when the dictionary is the
+     * bundled instance and building a new one otherwise.
+     *
+     * @pre.    dictionary ≠ null
+     *
+     * @param dictionary The dictionary of valid words
+     * @return The graph of dictionary
+     */
+    public static WordGraph graphOf(WordDictionary dictionary) {
+        CompiledDictionary shared = bundled;
+        return (shared != null && shared.dictionary == dictionary) ? shared.graph : WordGraph.build(dictionary);
+    }
+
+    /**
+     * Loads the compiled file next to the given text dictionary, or parses the text and compiles the file
+     * (with its graph) if it is missing or was compiled from a different version of the text.
+     * A file that cannot be written is not an error; the parsed dictionary is still returned.
+     *
+     * @pre.    textResource ≠ null
+     *
+     * @param textResource URL of the text dictionary, one word per line
+     * @return The dictionary and its graph
+     * @throws IOException if the text dictionary cannot be read
+     */
+    public static CompiledDictionary loadOrCompile(URL textResource) throws IOException {
+        return loadOrCompile(textResource, CacheFiles.nextToDictionary(CACHE_FILE_NAME));
+    }
+
+    /**
+     * Loads the compiled file at the given path, or parses the text and compiles the file
+     * (with its graph) if it is missing or was compiled from a different version of the text.
+     * A file that cannot be written is not an error; the parsed dictionary is still returned.
+     *
+     * @pre.    textResource ≠ null ∧ file ≠ null
+     *
+     * @param textResource URL of the text dictionary, one word per line
+     * @param file         The compiled file
+     * @return The dictionary and its graph
+     * @throws IOException if the text dictionary cannot be read
+     */
+    public static CompiledDictionary loadOrCompile(URL textResource, Path file) throws IOException {
+        DictionaryLoadEvent event = new DictionaryLoadEvent();
+        event.begin();
+        URLConnection connection = textResource.openConnection();
+        long sourceLength = connection.getContentLengthLong();
+        long sourceModified = connection.getLastModified();
+        // Opened either way so that the connection's resources are released
+        try (InputStream in = connection.getInputStream()) {
+            if (Files.isRegularFile(file)) {
+                try {
+                    CompiledDictionary compiled = load(file, sourceLength, sourceModified);
+                    if (compiled != null) {
+                        return committed(event, textResource, compiled, false);
+                    }
+                } catch (IOException | IllegalArgumentException e) {
+                    System.err.println("Recompiling dictionary: " + e.getMessage());
+                }
+            }
+            CompiledDictionary compiled = fromText(in);
+            try {
+                compiled.save(file, true, sourceLength, sourceModified);
+            } catch (IOException e) {
+                System.err.println("Could not persist compiled dictionary: " + e.getMessage());
+            }
+            return committed(event, textResource, compiled, true);
+        }
+    }
+
+    private static CompiledDictionary committed(DictionaryLoadEvent event, URL source, CompiledDictionary loaded, boolean compiled) {
+        if (event.shouldCommit()) {
+            event.source = source.toString();
+            event.wordCount = loaded.dictionary.size();
+            event.compiled = compiled;
+            event.commit();
+        }
+        return loaded;
+    }
+
+    /**
+     * Loads a compiled file, whatever text it was compiled from.
+     * The graph is built from the dictionary if the file does not contain one.
+     *
+     * @pre.    file ≠ null
+     *
+     * @param file The compiled file
+     * @return The dictionary and its graph
+     * @throws IOException if the file cannot be read or is malformed
+     */
+    public static CompiledDictionary load(Path file) throws IOException {
+        return load(file, -1, -1);
+    }
+
+    /**
+     * Maps a compiled file if it was compiled from the given source. The returned dictionary and graph
+     * read the mapping directly; it stays valid after the file is closed.
+     *
+     * @param file           The compiled file
+     * @param sourceLength   Expected source length, or -1 to accept any
+     * @param sourceModified Expected source modification time, or -1 to accept any
+     * @return The dictionary and its graph, or null if the file belongs to a different source
+     * @throws IOException if the file cannot be read or is malformed
+     */
+    private static CompiledDictionary load(Path file, long sourceLength, long sourceModified) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            if (channel.size() < HEADER_BYTES) {
+                throw new IOException("Compiled dictionary is truncated: " + file);
+            }
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            mapped.order(ByteOrder.BIG_ENDIAN);
+            if (mapped.getInt(0) != MAGIC || mapped.getInt(4) != VERSION) {
+                throw new IOException("Not a compiled dictionary: " + file);
+            }
+            if ((sourceLength >= 0 && mapped.getLong(16) != sourceLength)
+                    || (sourceModified >= 0 && mapped.getLong(24) != sourceModified)) {
+                return null;
+            }
+            int wordCount = mapped.getInt(8);
+            boolean hasGraph = (mapped.getInt(12) & FLAG_GRAPH) != 0;
+            if (wordCount < 0 || wordCount > 1 << 20) {
+                throw new IOException("Compiled dictionary is malformed: " + file);
+            }
+            int tableCapacity = WordDictionary.tableCapacity(wordCount);
+            long minimumLength = HEADER_BYTES + 4L * (wordCount + tableCapacity)
+                    + (hasGraph ? 4L * (wordCount + 1) : 0);
+            if (channel.size() < minimumLength) {
+                throw new IOException("Compiled dictionary is truncated: " + file);
+            }
+
+            try {
+                int position = HEADER_BYTES;
+                IntBuffer codes = ints(mapped, position, wordCount);
+                position += 4 * wordCount;
+                IntBuffer table = ints(mapped, position, tableCapacity);
+                position += 4 * tableCapacity;
+                WordDictionary dictionary = WordDictionary.ofBuffers(codes, table);
+                if (!hasGraph) {
+                    return new CompiledDictionary(dictionary, WordGraph.build(dictionary));
+                }
+                IntBuffer offsets = ints(mapped, position, wordCount + 1);
+                position += 4 * (wordCount + 1);
+                int neighborCount = offsets.get(wordCount);
+                if (neighborCount < 0 || channel.size() != position + 4L * neighborCount) {
+                    throw new IOException("Compiled dictionary graph is truncated: " + file);
+                }
+                IntBuffer neighbors = ints(mapped, position, neighborCount);
+                return new CompiledDictionary(dictionary, WordGraph.fromAdjacency(dictionary, offsets, neighbors));
+            } catch (IllegalArgumentException e) {
+                throw new IOException("Compiled dictionary is malformed: " + file + " (" + e.getMessage() + ")", e);
+            }
+        }
+    }
+
+    /**
+     * Gets a read-only big-endian int view of part of a mapping.
+     *
+     * @param mapped   The mapping
+     * @param position Byte offset of the first int
+     * @param count    Number of ints
+     * @return The view, indexed from 0 to count
+     */
+    private static IntBuffer ints(ByteBuffer mapped, int position, int count) {
+        ByteBuffer bytes = mapped.duplicate();
+        bytes.position(position).limit(position + 4 * count);
+        return bytes.slice().order(ByteOrder.BIG_ENDIAN).asIntBuffer().asReadOnlyBuffer();
+    }
+
+    /**
+     * Parses a text dictionary: lines of exactly four characters are uppercased and kept,
+     * and the result is ordered by packed code.
+     *
+     * @param in The text, one word per line
+     * @return The dictionary and its graph
+     * @throws IOException if the text cannot be read
+     */
+    private static CompiledDictionary fromText(InputStream in) throws IOException {
+        ArrayList<String> words = new ArrayList<>();
+        BufferedReader br = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        String line;
+        while ((line = br.readLine()) != null) {
+            if (line.length() == WordDictionary.WORD_LENGTH) {
+                words.add(line.toUpperCase(Locale.ROOT));
+            }
+        }
+        WordDictionary parsed = WordDictionary.of(words);
+        int[] codes = new int[parsed.size()];
+        for (int id = 0; id < codes.length; id++) {
+            codes[id] = parsed.codeAt(id);
+        }
+        Arrays.sort(codes);
+        WordDictionary dictionary = WordDictionary.ofCodes(codes);
+        return new CompiledDictionary(dictionary, WordGraph.build(dictionary));
+    }
+
+    /**
+     * Writes the compiled file, atomically replacing any existing one.
+     *
+     * @param file           The destination file
+     * @param includeGraph   Whether to store the CSR graph
+     * @param sourceLength   Length of the text the dictionary was compiled from
+     * @param sourceModified Modification time of the text the dictionary was compiled from
+     * @throws IOException if the file cannot be written
+     */
+    private void save(Path file, boolean includeGraph, long sourceLength, long sourceModified) throws IOException {
+        int wordCount = dictionary.size();
+        int neighborCount = (wordCount == 0) ? 0 : graph.neighborEnd(wordCount - 1);
+        IntBuffer table = dictionary.tableBuffer();
+        long length = HEADER_BYTES + 4L * (wordCount + table.limit())
+                + (includeGraph ? 4L * (wordCount + 1 + neighborCount) : 0);
+        ByteBuffer buffer = ByteBuffer.allocate(Math.toIntExact(length)).order(ByteOrder.BIG_ENDIAN);
+        buffer.putInt(MAGIC).putInt(VERSION).putInt(wordCount).putInt(includeGraph ? FLAG_GRAPH : 0)
+                .putLong(sourceLength).putLong(sourceModified);
+        for (int id = 0; id < wordCount; id++) {
+            buffer.putInt(dictionary.codeAt(id));
+        }
+        for (int slot = 0; slot < table.limit(); slot++) {
+            buffer.putInt(table.get(slot));
+        }
+        if (includeGraph) {
+            for (int id = 0; id < wordCount; id++) {
+                buffer.putInt(graph.neighborStart(id));
+            }
+            buffer.putInt(neighborCount);
+            for (int k = 0; k < neighborCount; k++) {
+                buffer.putInt(graph.neighborAt(k));
+            }
+        }
+        buffer.flip();
+        CacheFiles.writeAtomically(file, buffer);
+    }
+
+    /**
+     * Gets the dictionary.
+     *
+     * @return The immutable dictionary, with words ordered by packed code
+     */
+    public WordDictionary getDictionary() {
+        return dictionary;
+    }
+
+    /**
+     * Gets the word-ladder graph of the dictionary.
+     *
+     * @return The immutable graph
+     */
+    public WordGraph getGraph() {
+        return graph;
+    }
+}
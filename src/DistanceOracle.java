@@ -0,0 +1,228 @@
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * A precomputed all-pairs shortest-distance table for a {@link WordGraph}.
+ * Answers "is this pair solvable, and in how many moves (par)" in O(1) with a single byte read.
+ *
+ * <p>The table holds one unsigned byte per ordered pair of word IDs ({@value #UNREACHABLE} marks
+ * unreachable pairs, and ladders are clamped at 254 moves, far beyond any real 4-letter ladder), about
+ * 16 MB for the bundled 4,000-word dictionary. It lives off-heap, either in a direct {@link ByteBuffer}
+ * after {@link #build(WordGraph)} or in a read-only memory-mapped file after
+ * {@link #load(Path, WordGraph)}, so it adds nothing to the garbage-collected heap and several processes
+ * can share one page-cached copy.</p>
+ *
+ * <p>File layout: a {@link CacheFiles} table with magic {@code "WVDO"} and 0 as its format-specific int,
+ * holding the distance bytes row-major by source word ID.</p>
+ *
+ * <p><b>Class Invariant:</b>
+ * <ul>
+ *   <li>{@code distances.capacity() == size * size}</li>
+ *   <li>{@code distance(a, a) == 0} ∧ {@code distance(a, b) == distance(b, a)}</li>
+ *   <li>{@code distance(a, b) ≥ 0} iff {@code graph.isConnected(a, b)}</li>
+ * </ul>
+ */
+public final class DistanceOracle {
+
+    /** Stored byte value of an unreachable pair. */
+    public static final int UNREACHABLE = 0xFF;
+
+    /** Default cache file name, resolved next to the dictionary by {@link CacheFiles}. */
+    public static final String CACHE_FILE_NAME = "dictionary.dist";
+
+    private static final int MAGIC = 0x5756444F; // "WVDO"
+    private static final int VERSION = 1;
+
+    private final WordGraph graph;
+    private final ByteBuffer distances;
+    private final int size;
+
+    private DistanceOracle(WordGraph graph, ByteBuffer distances) {
+        this.graph = graph;
+        this.distances = distances;
+        this.size = graph.size();
+    }
+
+    /**
+     * Builds the table on the common fork-join pool.
+     *
+     * @pre.    graph ≠ null ∧ graph.size() ≤ 46340
+     * @post.   every pair's shortest distance is stored
+     *
+     * @param graph The word-ladder graph
+     * @return A new oracle backed by a direct buffer
+     */
+    public static DistanceOracle build(WordGraph graph) {
+        return build(graph, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Builds the table by running one BFS per source word, in parallel on the given pool.
+     *
+     * @pre.    graph ≠ null ∧ pool ≠ null ∧ graph.size() ≤ 46340
+     * @post.   every pair's shortest distance is stored
+     *
+     * @param graph The word-ladder graph
+     * @param pool  The pool that runs the per-source searches
+     * @return A new oracle backed by a direct buffer
+     */
+    public static DistanceOracle build(WordGraph graph, ForkJoinPool pool) {
+        return new DistanceOracle(graph, CacheFiles.buildTable(graph.size(), () -> new BreadthFirstRows(graph), pool));
+    }
+
+    /**
+     * Memory-maps a previously saved table.
+     *
+     * @pre.    file ≠ null ∧ graph ≠ null
+     * @post.   returned oracle reads distances directly from the mapped file
+     *
+     * @param file  The cache file written by {@link #save(Path)}
+     * @param graph The word-ladder graph the table must belong to
+     * @return The mapped oracle
+     * @throws IOException if the file cannot be read or was built for a different dictionary
+     */
+    public static DistanceOracle load(Path file, WordGraph graph) throws IOException {
+        return new DistanceOracle(graph, CacheFiles.mapTable(file, headerOf(graph)));
+    }
+
+    private static CacheFiles.TableHeader headerOf(WordGraph graph) {
+        return new CacheFiles.TableHeader("distance table", MAGIC, VERSION, graph.size(), 0, graph.getDictionary().fingerprint());
+    }
+
+    /**
+     * Maps the cached table next to the dictionary, or builds and persists it if the cache is
+     * missing or stale. A cache that cannot be written is not an error; the built table is still returned.
+     *
+     * @pre.    graph ≠ null
+     *
+     * @param graph The word-ladder graph
+     * @return The oracle
+     */
+    public static DistanceOracle loadOrBuild(WordGraph graph) {
+        return loadOrBuild(graph, CacheFiles.nextToDictionary(CACHE_FILE_NAME));
+    }
+
+    /**
+     * Maps the cached table at the given path, or builds and persists it if the cache is
+     * missing or stale. A cache that cannot be written is not an error; the built table is still returned.
+     *
+     * @pre.    graph ≠ null ∧ file ≠ null
+     *
+     * @param graph The word-ladder graph
+     * @param file  The cache file
+     * @return The oracle
+     */
+    public static DistanceOracle loadOrBuild(WordGraph graph, Path file) {
+        if (Files.isRegularFile(file)) {
+            try {
+                return load(file, graph);
+            } catch (IOException e) {
+                System.err.println("Rebuilding distance table: " + e.getMessage());
+            }
+        }
+        DistanceOracle oracle = build(graph);
+        try {
+            oracle.save(file);
+        } catch (IOException e) {
+            System.err.println("Could not persist distance table: " + e.getMessage());
+        }
+        return oracle;
+    }
+
+    /**
+     * Writes the table to a file, atomically replacing any existing one.
+     *
+     * @pre.    file ≠ null
+     * @post.   {@link #load(Path, WordGraph)} on the same graph returns an equivalent oracle
+     *
+     * @param file The destination file
+     * @throws IOException if the file cannot be written
+     */
+    public void save(Path file) throws IOException {
+        CacheFiles.saveTable(file, headerOf(graph), distances);
+    }
+
+    /**
+     * Gets the shortest ladder length between two words, in moves.
+     *
+     * @pre.    0 ≤ from < size ∧ 0 ≤ to < size
+     *
+     * @param from Start word ID
+     * @param to   Target word ID
+     * @return The number of moves, or -1 if to is unreachable from from
+     */
+    public int distance(int from, int to) {
+        int value = distances.get(from * size + to) & 0xFF;
+        return value == UNREACHABLE ? -1 : value;
+    }
+
+    /**
+     * Gets the shortest ladder length between two words, in moves.
+     *
+     * @param from Start word
+     * @param to   Target word
+     * @return The number of moves, or -1 if either word is not in the dictionary or no ladder exists
+     */
+    public int distance(String from, String to) {
+        int fromId = graph.indexOf(from);
+        int toId = graph.indexOf(to);
+        return (fromId < 0 || toId < 0) ? -1 : distance(fromId, toId);
+    }
+
+    /**
+     * Checks whether a ladder exists between two words.
+     *
+     * @param from Start word
+     * @param to   Target word
+     * @return true if both words are in the dictionary and connected
+     */
+    public boolean isSolvable(String from, String to) {
+        return distance(from, to) >= 0;
+    }
+
+    /**
+     * Gets the graph this table was computed for.
+     *
+     * @return The word-ladder graph
+     */
+    public WordGraph getGraph() {
+        return graph;
+    }
+
+    /**
+     * Computes distance rows with one BFS per source word, reusing its scratch queue between rows.
+     */
+    private static final class BreadthFirstRows implements CacheFiles.RowFiller {
+        private final WordGraph graph;
+        private final int[] queue;
+
+        BreadthFirstRows(WordGraph graph) {
+            this.graph = graph;
+            this.queue = new int[graph.size()];
+        }
+
+        @Override
+        public void fillRow(int source, byte[] row) {
+            Arrays.fill(row, (byte) UNREACHABLE);
+            row[source] = 0;
+            queue[0] = source;
+            int head = 0;
+            int tail = 1;
+            while (head < tail) {
+                int current = queue[head++];
+                int nextDistance = (row[current] & 0xFF) + 1;
+                for (int k = graph.neighborStart(current); k < graph.neighborEnd(current); k++) {
+                    int neighbor = graph.neighborAt(k);
+                    if ((row[neighbor] & 0xFF) == UNREACHABLE) {
+                        row[neighbor] = (byte) Math.min(nextDistance, UNREACHABLE - 1);
+                        queue[tail++] = neighbor;
+                    }
+                }
+            }
+        }
+    }
+}
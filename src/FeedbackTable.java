@@ -0,0 +1,229 @@
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * A precomputed table of the feedback pattern for every (guess, target) pair of a {@link WordDictionary}.
+ * Scoring a guess becomes a single byte read, which is the basis for {@link FeedbackTableValidator},
+ * hints, solvers and batch scoring.
+ *
+ * <p>Each entry is the guess's letter states packed as in {@link ValidationResult#getPackedStates()}:
+ * two bits per position, so a 4-letter pattern (one of the 3^4 = 81 possible) fits exactly in one byte.
+ * The table holds {@code size × size} bytes, about 16 MB for the bundled dictionary, and lives off-heap,
+ * either in a direct {@link ByteBuffer} after {@link #build(WordDictionary)} or in a read-only
+ * memory-mapped file after {@link #load(Path, WordDictionary)}.</p>
+ *
+ * <p>File layout: a {@link CacheFiles} table with magic {@code "WVFB"} and the word length as its
+ * format-specific int, holding the pattern bytes row-major by guess ID.</p>
+ *
+ * <p><b>Class Invariant:</b>
+ * <ul>
+ *   <li>{@code patterns.capacity() == size * size}</li>
+ *   <li>{@code pattern(g, t)} equals the packed states {@link BasicValidator} produces for guess g and target t</li>
+ *   <li>{@code pattern(w, w) == 0} (every letter in the correct position)</li>
+ * </ul>
+ */
+public final class FeedbackTable {
+
+    /** Default cache file name, resolved next to the dictionary by {@link CacheFiles}. */
+    public static final String CACHE_FILE_NAME = "dictionary.fbk";
+
+    private static final int MAGIC = 0x57564642; // "WVFB"
+    private static final int VERSION = 1;
+
+    private final WordDictionary dictionary;
+    private final ByteBuffer patterns;
+    private final int size;
+
+    private FeedbackTable(WordDictionary dictionary, ByteBuffer patterns) {
+        this.dictionary = dictionary;
+        this.patterns = patterns;
+        this.size = dictionary.size();
+    }
+
+    /**
+     * Builds the table on the common fork-join pool.
+     *
+     * @pre.    dictionary ≠ null ∧ dictionary.size() ≤ 46340
+     * @post.   every pair's feedback pattern is stored
+     *
+     * @param dictionary The dictionary of valid words
+     * @return A new table backed by a direct buffer
+     */
+    public static FeedbackTable build(WordDictionary dictionary) {
+        return build(dictionary, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Builds the table by scoring every guess row in parallel on the given pool.
+     *
+     * @pre.    dictionary ≠ null ∧ pool ≠ null ∧ dictionary.size() ≤ 46340
+     * @post.   every pair's feedback pattern is stored
+     *
+     * @param dictionary The dictionary of valid words
+     * @param pool       The pool that scores the rows
+     * @return A new table backed by a direct buffer
+     */
+    public static FeedbackTable build(WordDictionary dictionary, ForkJoinPool pool) {
+        return new FeedbackTable(dictionary, CacheFiles.buildTable(dictionary.size(), () -> new ScoredRows(dictionary), pool));
+    }
+
+    /**
+     * Memory-maps a previously saved table.
+     *
+     * @pre.    file ≠ null ∧ dictionary ≠ null
+     * @post.   returned table reads patterns directly from the mapped file
+     *
+     * @param file       The cache file written by {@link #save(Path)}
+     * @param dictionary The dictionary the table must belong to
+     * @return The mapped table
+     * @throws IOException if the file cannot be read or was built for a different dictionary
+     */
+    public static FeedbackTable load(Path file, WordDictionary dictionary) throws IOException {
+        return new FeedbackTable(dictionary, CacheFiles.mapTable(file, headerOf(dictionary)));
+    }
+
+    private static CacheFiles.TableHeader headerOf(WordDictionary dictionary) {
+        return new CacheFiles.TableHeader("feedback table", MAGIC, VERSION, dictionary.size(),
+                WordDictionary.WORD_LENGTH, dictionary.fingerprint());
+    }
+
+    /**
+     * Maps the cached table next to the dictionary, or builds and persists it if the cache is
+     * missing or stale. A cache that cannot be written is not an error; the built table is still returned.
+     *
+     * @pre.    dictionary ≠ null
+     *
+     * @param dictionary The dictionary of valid words
+     * @return The table
+     */
+    public static FeedbackTable loadOrBuild(WordDictionary dictionary) {
+        return loadOrBuild(dictionary, CacheFiles.nextToDictionary(CACHE_FILE_NAME));
+    }
+
+    /**
+     * Maps the cached table at the given path, or builds and persists it if the cache is
+     * missing or stale. A cache that cannot be written is not an error; the built table is still returned.
+     *
+     * @pre.    dictionary ≠ null ∧ file ≠ null
+     *
+     * @param dictionary The dictionary of valid words
+     * @param file       The cache file
+     * @return The table
+     */
+    public static FeedbackTable loadOrBuild(WordDictionary dictionary, Path file) {
+        if (Files.isRegularFile(file)) {
+            try {
+                return load(file, dictionary);
+            } catch (IOException e) {
+                System.err.println("Rebuilding feedback table: " + e.getMessage());
+            }
+        }
+        FeedbackTable table = build(dictionary);
+        try {
+            table.save(file);
+        } catch (IOException e) {
+            System.err.println("Could not persist feedback table: " + e.getMessage());
+        }
+        return table;
+    }
+
+    /**
+     * Writes the table to a file, atomically replacing any existing one.
+     *
+     * @pre.    file ≠ null
+     * @post.   {@link #load(Path, WordDictionary)} on the same dictionary returns an equivalent table
+     *
+     * @param file The destination file
+     * @throws IOException if the file cannot be written
+     */
+    public void save(Path file) throws IOException {
+        CacheFiles.saveTable(file, headerOf(dictionary), patterns);
+    }
+
+    /**
+     * Gets the feedback pattern of a guess against a target.
+     *
+     * @pre.    0 ≤ guess < size ∧ 0 ≤ target < size
+     *
+     * @param guess  Guessed word ID
+     * @param target Target word ID
+     * @return The packed letter states, as accepted by {@link ValidationResult#fromPacked(int, int)}
+     */
+    public int pattern(int guess, int target) {
+        return patterns.get(guess * size + target) & 0xFF;
+    }
+
+    /**
+     * Gets the dictionary this table was computed for.
+     *
+     * @return The dictionary
+     */
+    public WordDictionary getDictionary() {
+        return dictionary;
+    }
+
+    /**
+     * Scores a guess against a target from their packed codes with the same rules as {@link BasicValidator}:
+     * exact matches first, then the remaining letters left to right against the unmatched target letters.
+     *
+     * @param guessCode  Packed guess, as returned by {@link WordDictionary#encode(CharSequence)}
+     * @param targetCode Packed target
+     * @param counts     Scratch counts indexed by letter code, all zero on entry and on exit
+     * @return The packed letter states
+     */
+    static int score(int guessCode, int targetCode, int[] counts) {
+        int letterMask = (1 << WordDictionary.BITS_PER_LETTER) - 1;
+        int packed = 0;
+        int unmatched = 0; // bit i set if position i was not an exact match
+        for (int i = 0; i < WordDictionary.WORD_LENGTH; i++) {
+            int shift = (WordDictionary.WORD_LENGTH - 1 - i) * WordDictionary.BITS_PER_LETTER;
+            int targetLetter = (targetCode >>> shift) & letterMask;
+            if (((guessCode >>> shift) & letterMask) != targetLetter) {
+                counts[targetLetter]++;
+                unmatched |= 1 << i;
+            }
+        }
+        for (int i = 0; i < WordDictionary.WORD_LENGTH; i++) {
+            int shift = (WordDictionary.WORD_LENGTH - 1 - i) * WordDictionary.BITS_PER_LETTER;
+            int guessLetter = (guessCode >>> shift) & letterMask;
+            LetterState state;
+            if ((unmatched & (1 << i)) == 0) {
+                state = LetterState.CORRECT_POSITION;
+            } else if (counts[guessLetter] > 0) {
+                counts[guessLetter]--;
+                state = LetterState.WRONG_POSITION;
+            } else {
+                state = LetterState.NOT_IN_WORD;
+            }
+            packed |= state.ordinal() << (2 * i);
+        }
+        for (int i = 0; i < WordDictionary.WORD_LENGTH; i++) {
+            int shift = (WordDictionary.WORD_LENGTH - 1 - i) * WordDictionary.BITS_PER_LETTER;
+            counts[(targetCode >>> shift) & letterMask] = 0;
+        }
+        return packed;
+    }
+
+    /**
+     * Computes pattern rows by scoring a guess against every target, reusing its scratch letter counts.
+     */
+    private static final class ScoredRows implements CacheFiles.RowFiller {
+        private final WordDictionary dictionary;
+        private final int[] counts = new int[1 << WordDictionary.BITS_PER_LETTER];
+
+        ScoredRows(WordDictionary dictionary) {
+            this.dictionary = dictionary;
+        }
+
+        @Override
+        public void fillRow(int guess, byte[] row) {
+            int guessCode = dictionary.codeAt(guess);
+            for (int t = 0; t < row.length; t++) {
+                row[t] = (byte) score(guessCode, dictionary.codeAt(t), counts);
+            }
+        }
+    }
+}
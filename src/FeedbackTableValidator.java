@@ -0,0 +1,96 @@
+import exceptions.InvalidWordException;
+
+/**
+ * A {@link WordValidator} that scores guesses with a precomputed {@link FeedbackTable}.
+ * It applies the same checks, in the same order and with the same messages, as {@link BasicValidator},
+ * then answers with one table read and a shared result instance, so scoring allocates nothing.
+ *
+ * <p>Words the table does not know (a different dictionary was passed in) are scored by a
+ * {@link BasicValidator} instead, so results always match it exactly.</p>
+ *
+ * <p><b>Class Invariant:</b>
+ * <ul>
+ *   <li>{@code results[p]} is the message-less result for packed pattern p</li>
+ *   <li>{@code verdicts[p]} is the OK verdict carrying {@code results[p]}</li>
+ * </ul>
+ */
+public class FeedbackTableValidator implements WordValidator {
+    private final FeedbackTable table;
+    private final BasicValidator fallback = new BasicValidator();
+
+    // One immutable result per possible pattern byte, shared by every validation
+    private final ValidationResult[] results = new ValidationResult[1 << (2 * WordDictionary.WORD_LENGTH)];
+
+    // The OK verdict for each of those results, so evaluate allocates nothing either
+    private final GuessVerdict[] verdicts = new GuessVerdict[results.length];
+
+    /**
+     * Constructs a validator backed by the given table.
+     *
+     * @pre.    table ≠ null
+     *
+     * @param table The precomputed feedback table
+     */
+    public FeedbackTableValidator(FeedbackTable table) {
+        this.table = table;
+        for (int pattern = 0; pattern < results.length; pattern++) {
+            results[pattern] = ValidationResult.fromPacked(pattern, WordDictionary.WORD_LENGTH);
+            verdicts[pattern] = GuessVerdict.ok(results[pattern]);
+        }
+    }
+
+    /**
+     * Validates the guessed word against the target with a single table lookup.
+     *
+     * @pre.    word ≠ null ∧ target ≠ null ∧ dictionary ≠ null
+     * @post.   result equals BasicValidator's result for the same arguments
+     *
+     * @param word       The guessed word to validate
+     * @param target     The target word to compare against
+     * @param dictionary The dictionary of valid words
+     * @return The shared ValidationResult for the pair's feedback pattern
+     * @throws InvalidWordException if either word is not in the dictionary or their lengths differ
+     */
+    @Override
+    public ValidationResult validate(String word, String target, WordDictionary dictionary) {
+        return evaluate(word, target, dictionary).getResultOrThrow();
+    }
+
+    /**
+     * Checks the guessed word against the target with a single table lookup, reporting a rejected
+     * guess as a shared verdict; neither case allocates.
+     *
+     * @pre.    word ≠ null ∧ target ≠ null ∧ dictionary ≠ null
+     * @post.   returned verdict equals BasicValidator's verdict for the same arguments
+     *
+     * @param word       The guessed word to validate
+     * @param target     The target word to compare against
+     * @param dictionary The dictionary of valid words
+     * @return The verdict
+     */
+    @Override
+    public GuessVerdict evaluate(String word, String target, WordDictionary dictionary) {
+        if (!dictionary.contains(target) || !dictionary.contains(word)) {
+            return GuessVerdict.NOT_IN_DICTIONARY;
+        }
+        if (word.length() != target.length()) {
+            return GuessVerdict.WRONG_LENGTH;
+        }
+        WordDictionary known = table.getDictionary();
+        int guessId = known.indexOf(word);
+        int targetId = known.indexOf(target);
+        if (guessId < 0 || targetId < 0) {
+            return fallback.evaluate(word, target, dictionary);
+        }
+        return verdicts[table.pattern(guessId, targetId)];
+    }
+
+    /**
+     * Gets the table this validator reads from.
+     *
+     * @return The feedback table
+     */
+    public FeedbackTable getTable() {
+        return table;
+    }
+}
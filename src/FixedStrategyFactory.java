@@ -1,5 +1,3 @@
-import java.util.ArrayList;
-
 /**
  * A factory class that creates a fixed word strategy for generating initial and target words.
  * This strategy ensures that the same fixed words are used in every game session.
@@ -29,7 +27,7 @@ public class FixedStrategyFactory implements StrategyFactory {
      * @return A new FixedWordStrategy instance initialized with the fixed initial and target words.
      */
     @Override
-    public WordGenerationStrategy createStrategy(ArrayList<String> dictionary) {
+    public WordGenerationStrategy createStrategy(WordDictionary dictionary) {
         return new FixedWordStrategy(initialWord, targetWord, dictionary);
     }
 
@@ -14,7 +14,7 @@ import java.util.ArrayList;
 public class FixedWordStrategy implements WordGenerationStrategy {
     private final String initial;
     private final String target;
-    private final ArrayList<String> dictionary;
+    private final WordDictionary dictionary;
 
     /**
      * Constructs a FixedWordStrategy with specified initial and target words.
@@ -29,7 +29,7 @@ public class FixedWordStrategy implements WordGenerationStrategy {
      * @param target The fixed target word
      * @param dictionary The dictionary of valid words (stored but not used)
      */
-    public FixedWordStrategy(String start, String target, ArrayList<String> dictionary) {
+    public FixedWordStrategy(String start, String target, WordDictionary dictionary) {
         this.initial = start;
         this.target = target;
         this.dictionary = dictionary;
@@ -46,7 +46,7 @@ public class FixedWordStrategy implements WordGenerationStrategy {
      * @return An array containing the fixed initial and target words
      */
     @Override
-    public String[] generateWords(ArrayList<String> dictionary) {
+    public String[] generateWords(WordDictionary dictionary) {
         return new String[]{initial, target};
     }
 
@@ -1,37 +1,56 @@
 import exceptions.InvalidWordException;
-import exceptions.WordGenerationException;
+import javax.swing.SwingUtilities;
 import java.awt.event.KeyListener;
 import java.awt.event.KeyEvent;
 import java.util.ArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 /**
  * Controller class for the GUI version of the Weaver game.
  * Handles user input from both physical and virtual keyboards,
  * and communicates with the model to update game state.
  *
+ * <p>Word pair generation for a new game and the solution path search run on a background thread,
+ * so the window stays responsive; their results and failures are applied on the Event Dispatch Thread.
+ * Starting another game drops the jobs that have not started yet; a job already running finishes and
+ * its superseded result is discarded.</p>
+ *
  * <p><b>Class Invariant:</b>
  * <ul>
  *   <li>{@code model} ≠ null ∧ view ≠ null</li>
  *   <li>{@code currentInputWord} ≠ null (may be empty)</li>
  *   <li>{@code physicalKeyboardProcessingEnabled} reflects whether physical keyboard input is active</li>
- *   <li>{@code view} is always registered as an observer of the model</li>
+ *   <li>{@code view} is always subscribed to the model's event bus</li>
+ *   <li>{@code newGameRequest} counts New Game requests; only the latest one's pair is committed</li>
  * </ul>
  */
 public class GUIController implements KeyListener {
 
+    // Runs pair generation and path searches one at a time, off the Event Dispatch Thread
+    private static final ExecutorService BACKGROUND = Executors.newSingleThreadExecutor(task -> {
+        Thread thread = new Thread(task, "weaver-gui-background");
+        thread.setDaemon(true);
+        return thread;
+    });
+
     private WeaverModel model;
     private GUIView view;
     private StringBuilder currentInputWord;
     private boolean physicalKeyboardProcessingEnabled = true;
+    private Future<?> pendingNewGame;    // Pair generation queued or in progress, or null
+    private Future<?> pendingPath;       // Solution path search queued or in progress, or null
+    private int newGameRequest;          // Accessed on the Event Dispatch Thread only
 
     /**
      * Constructs a GUIController with specified model and view.
-     * Registers the controller as a key listener and observer.
+     * Registers the controller as a key listener and subscribes the view to the model's events.
      *
      * @pre.    model ≠ null ∧ view ≠ null
      * @post.   this.model == model ∧ this.view == view
      *          view's controller is set to this
-     *          model.addObserver(view) is called
+     *          view is subscribed to model.getEventBus()
      *          currentInputWord is initialized as empty
      *
      * @param model The game model
@@ -42,7 +61,7 @@ public class GUIController implements KeyListener {
         this.view = view;
         this.currentInputWord = new StringBuilder(); // Input buffer initialization
 
-        model.addObserver(view);
+        model.getEventBus().subscribe(view::update);
         view.setController(this);
     }
 
@@ -88,46 +107,114 @@ public class GUIController implements KeyListener {
         view.updateInputDisplay("");
         view.setResetButtonEnabled(false);
 
-        PathSolutionView pathWindow = view.getPathSolutionWindow();
-        if (pathWindow != null) {
-            pathWindow.dispose();
-            view.setPathSolutionWindow(null);
-            view.setShowPathSelected(false);
+        closePathWindow();
+        view.requestFocusInWindow();
+    }
+
+    /**
+     * Handles undo button action.
+     * Takes back the last move; the view is refreshed by the model's notification.
+     *
+     * @post.   model.undo() is called
+     *          currentInputWord is cleared
+     */
+    public void handleUndoAction() {
+        model.undo();
+        currentInputWord.setLength(0);
+        view.updateInputDisplay("");
+        view.requestFocusInWindow();
+    }
+
+    /**
+     * Handles redo button action.
+     * Replays the next undone move; the view is refreshed by the model's notification.
+     *
+     * @post.   model.redo() is called
+     *          currentInputWord is cleared
+     */
+    public void handleRedoAction() {
+        model.redo();
+        currentInputWord.setLength(0);
+        view.updateInputDisplay("");
+        view.requestFocusInWindow();
+    }
+
+    /**
+     * Handles jump button action.
+     * Asks for a step and moves the game to it.
+     *
+     * @post.   if a valid step was entered, model.jumpTo(step) is called
+     *          otherwise an error message is displayed
+     */
+    public void handleJumpAction() {
+        int step = view.promptForStep(model.getLastStep());
+        if (model.jumpTo(step)) {
+            currentInputWord.setLength(0);
+            view.updateInputDisplay("");
+        } else {
+            view.setMessage("Invalid step: enter a number from 0 to " + model.getLastStep() + ".");
         }
         view.requestFocusInWindow();
     }
 
     /**
      * Handles new game button action.
-     * Starts a new game with potentially new words.
+     * Starts a new game with potentially new words. The word pair is generated in the background and
+     * the game starts on the Event Dispatch Thread once it is ready; the current game can be played
+     * until then.
      *
      * @pre.    model can generate new valid words
-     * @post.   model.initialize() is called
+     * @post.   any earlier new game and path search that have not started are dropped,
+     *          and the results of those already running are discarded
+     *          any path solution window is closed
+     *          when the pair is ready: model.initialize(words) is called
      *          currentInputWord is cleared
      *          input display is updated
      *          reset button is disabled
-     *          any path solution window is closed
-     *          if WordGenerationException occurs, error message is displayed
+     *          if generating the pair fails, an error message is displayed
      */
     public void handleNewGameAction() {
-        try {
-            model.initialize();
-            currentInputWord.setLength(0);
-            view.updateInputDisplay("");
-            view.setResetButtonEnabled(false);
+        int request = ++newGameRequest;
+        cancel(pendingNewGame);
+        closePathWindow();
+        model.updateStrategy();
+        view.setMessage("Starting a new game...");
 
-            PathSolutionView pathWindow = view.getPathSolutionWindow();
-            if (pathWindow != null) {
-                pathWindow.dispose();
-                view.setPathSolutionWindow(null);
-                view.setShowPathSelected(false);
+        pendingNewGame = BACKGROUND.submit(() -> {
+            try {
+                String[] words = model.generateWords();
+                SwingUtilities.invokeLater(() -> startGame(request, words));
+            } catch (RuntimeException e) {
+                SwingUtilities.invokeLater(() -> {
+                    if (request == newGameRequest) {
+                        pendingNewGame = null;
+                        view.setMessage("Failed to start new game: " + e.getMessage());
+                    }
+                });
             }
-        } catch (WordGenerationException e) {
-            view.setMessage("Failed to start new game: " + e.getMessage());
-        }
+        });
         view.requestFocusInWindow();
     }
 
+    /**
+     * Starts the game of a New Game request on the Event Dispatch Thread, unless a later request
+     * superseded it.
+     *
+     * @param request The request number
+     * @param words   The generated initial and target words
+     */
+    private void startGame(int request, String[] words) {
+        if (request != newGameRequest) {
+            return;
+        }
+        pendingNewGame = null;
+        closePathWindow();
+        model.initialize(words);
+        currentInputWord.setLength(0);
+        view.updateInputDisplay("");
+        view.setResetButtonEnabled(false);
+    }
+
     /**
      * Handles show errors checkbox state change.
      * Updates model's show errors flag.
@@ -253,12 +340,14 @@ public class GUIController implements KeyListener {
 
     /**
      * Handles show solution path checkbox state change.
-     * Creates/disposes PathSolutionView window.
+     * Creates/disposes PathSolutionView window. The window opens at once and is filled in when the
+     * path, searched in the background, arrives.
      *
      * @pre.    showPath is either true or false
      * @post.   model.setShowPathFlag(showPath) is called
-     *          if showPath is true and solution path exists: PathSolutionView is created and shown
-     *          if showPath is false or path is invalid: existing PathSolutionView is disposed
+     *          if showPath is true: PathSolutionView is shown and a path search is started
+     *          if showPath is false: the PathSolutionView is disposed and the search result, if any, is discarded
+     *          if no path exists or the search fails: the window is disposed and a message is displayed
      *
      * @param showPath New checkbox state
      */
@@ -266,29 +355,84 @@ public class GUIController implements KeyListener {
         model.setShowPathFlag(showPath);
 
         if (showPath) {
-            ArrayList<String> solutionPath = model.getFullSolutionPath();
+            closePathWindow();
+            String initialWord = model.getInitialWord();
             String targetWord = model.getTargetWord();
-            ArrayList<String> dictionary = model.getDictionary();
-
-            if (solutionPath == null || solutionPath.size() < 2) {
-                view.setMessage("No solution path found for current words.");
-                view.setShowPathSelected(false);
-                return;
-            }
+            WordDictionary dictionary = model.getDictionary();
 
-            PathSolutionView pathSolutionWindow = new PathSolutionView(solutionPath, targetWord, dictionary);
+            PathSolutionView pathSolutionWindow = new PathSolutionView(initialWord, targetWord);
             view.setPathSolutionWindow(pathSolutionWindow);
+            view.setShowPathSelected(true);
             pathSolutionWindow.setVisible(true);
+
+            pendingPath = BACKGROUND.submit(() -> {
+                try {
+                    ArrayList<String> solutionPath = model.getFullSolutionPath(initialWord, targetWord);
+                    ArrayList<ValidationResult> results = PathFinder.getValidations(targetWord, solutionPath, dictionary);
+                    SwingUtilities.invokeLater(() -> showSolution(pathSolutionWindow, solutionPath, results));
+                } catch (RuntimeException e) {
+                    SwingUtilities.invokeLater(() -> {
+                        if (view.getPathSolutionWindow() == pathSolutionWindow) {
+                            closePathWindow();
+                            view.setMessage("Failed to find solution path: " + e.getMessage());
+                        }
+                    });
+                }
+            });
         } else {
-            PathSolutionView pathWindow = view.getPathSolutionWindow();
-            if (pathWindow != null) {
-                pathWindow.dispose();
-                view.setPathSolutionWindow(null);
-            }
+            closePathWindow();
         }
         view.requestFocusInWindow();
     }
 
+    /**
+     * Fills in a path window on the Event Dispatch Thread, unless it was closed in the meantime.
+     *
+     * @param pathWindow   The window the search was started for
+     * @param solutionPath The path found, empty if none exists
+     * @param results      The feedback of each step of the path
+     */
+    private void showSolution(PathSolutionView pathWindow, ArrayList<String> solutionPath, ArrayList<ValidationResult> results) {
+        if (view.getPathSolutionWindow() != pathWindow) {
+            return;
+        }
+        pendingPath = null;
+        if (solutionPath == null || solutionPath.size() < 2) {
+            closePathWindow();
+            view.setMessage("No solution path found for current words.");
+            return;
+        }
+        pathWindow.showSolution(solutionPath, results);
+    }
+
+    /**
+     * Drops any pending path search and disposes the path solution window, if open.
+     *
+     * @post.   view.getPathSolutionWindow() == null ∧ show path checkbox is unselected
+     */
+    private void closePathWindow() {
+        cancel(pendingPath);
+        pendingPath = null;
+        PathSolutionView pathWindow = view.getPathSolutionWindow();
+        if (pathWindow != null) {
+            pathWindow.dispose();
+            view.setPathSolutionWindow(null);
+        }
+        view.setShowPathSelected(false);
+    }
+
+    /**
+     * Drops a background job if it has not started. The searches do not check for interruption, so
+     * a running job is left to finish; its callback discards the superseded result.
+     *
+     * @param task The job, or null
+     */
+    private static void cancel(Future<?> task) {
+        if (task != null) {
+            task.cancel(false);
+        }
+    }
+
     @Override
     public void keyTyped(KeyEvent e) {}
 
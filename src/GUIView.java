@@ -1,10 +1,8 @@
 import javax.swing.*;
 import java.awt.*;
 import java.awt.event.KeyListener;
-import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
-import java.util.Observable;
-import java.util.Observer;
 
 /**
  * The main graphical user interface for the Weaver game.
@@ -19,7 +17,7 @@ import java.util.Observer;
  *   <li>{@code virtual keyboard} buttons are enabled/disabled based on game state</li>
  * </ul>
  */
-public class GUIView extends JFrame implements Observer {
+public class GUIView extends JFrame {
     // UI Components
     private JLabel initialWordLabel;  // Label showing start word
     private JLabel targetWordLabel;   // Label showing target word
@@ -27,6 +25,9 @@ public class GUIView extends JFrame implements Observer {
     private JPanel keyboardPanel;     // Virtual keyboard panel
     private JButton resetButton;      // Reset button
     private JButton newGameButton;    // New Game button
+    private JButton undoButton;       // Undo button
+    private JButton redoButton;       // Redo button
+    private JButton jumpButton;       // Jump-to-step button
     private JLabel messageLabel;      // Status message label
     private JPanel controlPanel;      // Panel containing buttons and checkboxes
     private JCheckBox showErrorsCheckBox;  // Checkbox to toggle error messages
@@ -74,11 +75,17 @@ public class GUIView extends JFrame implements Observer {
         controlPanel = new JPanel(new FlowLayout());
         resetButton = new JButton("Reset");
         newGameButton = new JButton("New Game");
+        undoButton = new JButton("Undo");
+        redoButton = new JButton("Redo");
+        jumpButton = new JButton("Jump...");
         showErrorsCheckBox = new JCheckBox("Show Errors");
         randomWordCheckBox = new JCheckBox("Random Words");
         showPathCheckBox = new JCheckBox("Show Solution Path");
         controlPanel.add(resetButton);
         controlPanel.add(newGameButton);
+        controlPanel.add(undoButton);
+        controlPanel.add(redoButton);
+        controlPanel.add(jumpButton);
         controlPanel.add(showErrorsCheckBox);
         controlPanel.add(randomWordCheckBox);
         controlPanel.add(showPathCheckBox);
@@ -106,6 +113,7 @@ public class GUIView extends JFrame implements Observer {
         requestFocusInWindow();
         // Initial button states
         resetButton.setEnabled(false);
+        setHistoryButtonsEnabled(0, 0);
     }
 
     /**
@@ -122,6 +130,9 @@ public class GUIView extends JFrame implements Observer {
         this.controller = controller;
         resetButton.addActionListener(e -> this.controller.handleResetAction());
         newGameButton.addActionListener(e -> this.controller.handleNewGameAction());
+        undoButton.addActionListener(e -> this.controller.handleUndoAction());
+        redoButton.addActionListener(e -> this.controller.handleRedoAction());
+        jumpButton.addActionListener(e -> this.controller.handleJumpAction());
         showErrorsCheckBox.addActionListener(e -> this.controller.handleShowErrorsFlag(showErrorsCheckBox.isSelected()));
         randomWordCheckBox.addActionListener(e -> this.controller.handleRandomWordFlag(randomWordCheckBox.isSelected()));
         showPathCheckBox.addActionListener(e -> this.controller.handleShowPathFlag(showPathCheckBox.isSelected()));
@@ -199,7 +210,7 @@ public class GUIView extends JFrame implements Observer {
      * @param path    List of words entered by the player
      * @param results Validation results for each step
      */
-    private void updateGameBoard(ArrayList<String> path, ArrayList<ValidationResult> results) {
+    private void updateGameBoard(List<String> path, List<ValidationResult> results) {
         gameBoardPanel.removeAll();
         if (path != null && !path.isEmpty()) {
             JPanel initialWordPanel = createWordPanel(path.get(0), null);
@@ -315,6 +326,43 @@ public class GUIView extends JFrame implements Observer {
         resetButton.setEnabled(enabled);
     }
 
+    /**
+     * Enables the undo, redo and jump buttons according to the position on the game's timeline.
+     *
+     * @pre.    0 ≤ currentStep ≤ lastStep
+     * @post.   undo is enabled iff currentStep > 0, redo iff currentStep < lastStep,
+     *          jump iff lastStep > 0
+     *
+     * @param currentStep The step the game is at
+     * @param lastStep    The furthest step on the timeline
+     */
+    public void setHistoryButtonsEnabled(int currentStep, int lastStep) {
+        undoButton.setEnabled(currentStep > 0);
+        redoButton.setEnabled(currentStep < lastStep);
+        jumpButton.setEnabled(lastStep > 0);
+    }
+
+    /**
+     * Asks the player for a step to jump to.
+     *
+     * @pre.    lastStep ≥ 0
+     * @post.   returns the entered step, or -1 if the dialog was cancelled or the input is not a number
+     *
+     * @param lastStep The furthest step on the timeline
+     * @return The step entered by the player
+     */
+    public int promptForStep(int lastStep) {
+        String input = JOptionPane.showInputDialog(this, "Jump to step (0-" + lastStep + "):");
+        if (input == null) {
+            return -1;
+        }
+        try {
+            return Integer.parseInt(input.trim());
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
     /**
      * Updates the display showing the current word being typed by the player.
      *
@@ -340,27 +388,26 @@ public class GUIView extends JFrame implements Observer {
     }
 
     /**
-     * Called when the observed model changes.
+     * Called for every notification published on the model's event bus.
      * Updates the GUI based on the new game state.
      *
-     * @pre.    o is a WeaverModel instance ∧ arg is a Notification
+     * @pre.    notification ≠ null
      * @post.   UI components are updated based on game state in notification
      *          virtual keyboard and physical keyboard are enabled/disabled based on win status
      *
-     * @param o   The observable object (WeaverModel)
-     * @param arg An argument passed by notifyObservers (should be Notification)
+     * @param notification The published notification
      */
-    @Override
-    public void update(Observable o, Object arg) {
-        if (arg instanceof Notification) {
-            Notification notification = (Notification) arg;
+    public void update(Notification notification) {
+        if (notification != null) {
             setMessage(notification.getRuntimeWarning() != null ? notification.getRuntimeWarning() : notification.getHint());
             if (notification.containsGameState()) {
                 GameState gameState = notification.getGameState();
+                List<String> path = gameState.getPath();
                 setInitialWord(gameState.getInitialWord());
                 setTargetWord(gameState.getTargetWord());
-                updateGameBoard(gameState.getPath(), gameState.getResults());
-                setResetButtonEnabled(gameState.getPath() != null && gameState.getPath().size() > 1);
+                updateGameBoard(path, gameState.getResults());
+                setResetButtonEnabled(path.size() > 1);
+                setHistoryButtonsEnabled(gameState.getCurrentStep(), gameState.getLastStep());
                 if (gameState.isWon()) {
                     if (this.controller != null) {
                         this.controller.setPhysicalKeyboardProcessingEnabled(false);
@@ -376,7 +423,7 @@ public class GUIView extends JFrame implements Observer {
                 System.err.println("Notification does not contain GameState.");
             }
         } else {
-            System.err.println("Update received unexpected argument type: " + (arg != null ? arg.getClass().getName() : "null"));
+            System.err.println("Update received no notification.");
         }
         requestFocusInWindow();
     }
@@ -0,0 +1,163 @@
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * A typed publish/subscribe bus for game events, replacing {@link java.util.Observable}.
+ * Events are expected to be immutable (e.g. {@link Notification} with its {@link GameState}), so one
+ * published instance is shared by every subscriber without copying.
+ *
+ * <p>Two kinds of subscribers are supported:</p>
+ * <ul>
+ *   <li>synchronous subscribers are called on the publishing thread, in subscription order;</li>
+ *   <li>asynchronous subscribers are called on their own executor and coalesce bursts: while one is
+ *       busy, newer events replace older undelivered events with the same key (by default, all events
+ *       share one key; a bus for many sessions keys them by session), so a slow consumer only ever
+ *       sees the latest state of each key.</li>
+ * </ul>
+ *
+ * <p>Publishing and subscribing are thread-safe. An exception thrown by a subscriber is reported and
+ * does not affect other subscribers.</p>
+ *
+ * @param <E> The event type
+ */
+public class GameEventBus<E> {
+
+    /**
+     * A handle for ending a subscription.
+     */
+    public interface Subscription extends AutoCloseable {
+        /**
+         * Stops delivering events to the subscriber. Events already handed to an async subscriber's
+         * executor may still be delivered.
+         */
+        @Override
+        void close();
+    }
+
+    private final Function<? super E, ?> keyOf;
+    private final CopyOnWriteArrayList<Consumer<? super E>> subscribers = new CopyOnWriteArrayList<>();
+
+    /**
+     * Constructs a bus whose async subscribers coalesce all events into the latest one.
+     */
+    public GameEventBus() {
+        this(event -> GameEventBus.class);
+    }
+
+    /**
+     * Constructs a bus whose async subscribers keep the latest event per key.
+     *
+     * @pre.    keyOf ≠ null ∧ keyOf returns a non-null key for every event
+     *
+     * @param keyOf Extracts the coalescing key (e.g. the session ID) of an event
+     */
+    public GameEventBus(Function<? super E, ?> keyOf) {
+        this.keyOf = keyOf;
+    }
+
+    /**
+     * Registers a subscriber that is called synchronously on every publish.
+     *
+     * @pre.    subscriber ≠ null
+     *
+     * @param subscriber Receives every event
+     * @return A handle that unsubscribes it
+     */
+    public Subscription subscribe(Consumer<? super E> subscriber) {
+        subscribers.add(subscriber);
+        return () -> subscribers.remove(subscriber);
+    }
+
+    /**
+     * Registers a subscriber that is called on the given executor, receiving only the latest
+     * undelivered event of each key.
+     *
+     * @pre.    subscriber ≠ null ∧ executor ≠ null
+     *
+     * @param subscriber Receives the latest events; never called concurrently with itself
+     * @param executor   Runs the deliveries (e.g. a pool, or {@code SwingUtilities::invokeLater})
+     * @return A handle that unsubscribes it
+     */
+    public Subscription subscribeAsync(Consumer<? super E> subscriber, Executor executor) {
+        Coalescer coalescer = new Coalescer(subscriber, executor);
+        subscribers.add(coalescer);
+        return () -> subscribers.remove(coalescer);
+    }
+
+    /**
+     * Checks whether anyone is subscribed, so publishers can skip building events nobody receives.
+     *
+     * @return true if there is at least one subscriber
+     */
+    public boolean hasSubscribers() {
+        return !subscribers.isEmpty();
+    }
+
+    /**
+     * Publishes an event to every subscriber.
+     *
+     * @pre.    event ≠ null ∧ event is immutable
+     *
+     * @param event The event
+     */
+    public void publish(E event) {
+        for (Consumer<? super E> subscriber : subscribers) {
+            deliver(subscriber, event);
+        }
+    }
+
+    private static <E> void deliver(Consumer<? super E> subscriber, E event) {
+        try {
+            subscriber.accept(event);
+        } catch (RuntimeException e) {
+            System.err.println("Event subscriber failed: " + e);
+        }
+    }
+
+    /**
+     * Buffers the latest event per key for one async subscriber and drains the buffer on its executor,
+     * with at most one drain scheduled at a time.
+     */
+    private final class Coalescer implements Consumer<E> {
+        private final Consumer<? super E> subscriber;
+        private final Executor executor;
+        private final ConcurrentHashMap<Object, E> latest = new ConcurrentHashMap<>();
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+
+        Coalescer(Consumer<? super E> subscriber, Executor executor) {
+            this.subscriber = subscriber;
+            this.executor = executor;
+        }
+
+        @Override
+        public void accept(E event) {
+            latest.put(keyOf.apply(event), event);
+            if (scheduled.compareAndSet(false, true)) {
+                try {
+                    executor.execute(this::drain);
+                } catch (RuntimeException e) {
+                    // Let a later event schedule the drain once the executor accepts work again
+                    scheduled.set(false);
+                    throw e;
+                }
+            }
+        }
+
+        private void drain() {
+            do {
+                for (Object key : latest.keySet()) {
+                    E event = latest.remove(key);
+                    if (event != null) {
+                        deliver(subscriber, event);
+                    }
+                }
+                scheduled.set(false);
+                // An event published after the last pass but before the flag was cleared must not be stranded
+            } while (!latest.isEmpty() && scheduled.compareAndSet(false, true));
+        }
+    }
+}
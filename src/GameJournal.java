@@ -0,0 +1,733 @@
+import exceptions.InvalidWordException;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * An append-only, event-sourced journal of the sessions of a {@link WeaverEngine}, so that in-progress
+ * games survive a restart. Attach it with {@link WeaverEngine#attachJournal(GameJournal)}.
+ *
+ * <p>The engine appends one record per accepted change: a game started (initial word, target word and
+ * whether the pair is random), a move, a reset or a closed session. Rejected moves change nothing and are
+ * not recorded. Every record gets a sequence number (LSN); records are a type byte, the session ID as a
+ * variable-length integer and the words as 3-byte codes ({@link WordDictionary#encode(CharSequence)}), so
+ * a move takes about 6 bytes.</p>
+ *
+ * <p>Appending only copies the record into an in-memory batch. A writer thread group-commits the batch
+ * every few milliseconds: it writes it to the current segment file, framed by its length and CRC-32, and
+ * forces it to disk, so one fsync covers every record appended meanwhile. {@link #sync()} waits until
+ * everything appended so far is durable.</p>
+ *
+ * <p>After a number of records, the writer rotates to a new segment and writes a snapshot of every
+ * session: its word pair, flags, current path and the LSN of its last record. Older segments and
+ * snapshots are then deleted. Recovery loads the newest snapshot and replays only the segments after it,
+ * skipping the records of each session that the snapshot already includes; moves are re-scored but not
+ * searched. A torn batch at the end of the journal (a crash during a write) is detected by its CRC and
+ * cut off.</p>
+ *
+ * <p>Files in the journal directory: segments {@code <first LSN in hex>.wvj} (magic {@code "WVJL"},
+ * version, first LSN, then batches) and snapshots {@code <LSN in hex>.wvs} (magic {@code "WVJS"}, version,
+ * the LSN replay resumes from, the sessions, then a CRC-32 of the content).</p>
+ *
+ * <p>Only changes made through the engine are journaled; the undo/redo timeline of a session is not, so
+ * a session recovers at its current step.</p>
+ */
+public final class GameJournal implements Closeable {
+
+    /** Default group-commit window: records appended within it share one fsync. */
+    public static final long DEFAULT_SYNC_INTERVAL_MILLIS = 5;
+
+    /** Default number of records between snapshots. */
+    public static final long DEFAULT_SNAPSHOT_INTERVAL = 1_000_000;
+
+    private static final int SEGMENT_MAGIC = 0x57564a4c; // "WVJL"
+    private static final int SNAPSHOT_MAGIC = 0x57564a53; // "WVJS"
+    private static final int VERSION = 1;
+    private static final int SEGMENT_HEADER_BYTES = 16;
+    private static final int BATCH_HEADER_BYTES = 8;
+    private static final String SEGMENT_SUFFIX = ".wvj";
+    private static final String SNAPSHOT_SUFFIX = ".wvs";
+
+    private static final byte START_FIXED = 1;
+    private static final byte START_RANDOM = 2;
+    private static final byte TICK = 3;
+    private static final byte RESET = 4;
+    private static final byte CLOSE = 5;
+
+    private static final int FLAG_RANDOM = 1;
+    private static final int FLAG_SHOW_ERRORS = 2;
+    private static final int FLAG_SHOW_PATH = 4;
+
+    private final Path directory;
+    private final long syncIntervalMillis;
+    private final long snapshotInterval;
+
+    // Guards the pending batch, the LSN counters and the writer state below
+    private final Object lock = new Object();
+    private byte[] pending = new byte[64 * 1024];
+    private int pendingLength;
+    private byte[] spare = new byte[64 * 1024];
+    private long nextLsn;
+    private long durableLsn;
+    private boolean syncRequested;
+    private boolean closed;
+    private IOException failure;
+
+    // Owned by the writer thread once started
+    private WeaverEngine engine;
+    private FileChannel segment;
+    private long snapshotLsn;
+    private Thread writer;
+
+    private GameJournal(Path directory, long syncIntervalMillis, long snapshotInterval) {
+        this.directory = directory;
+        this.syncIntervalMillis = syncIntervalMillis;
+        this.snapshotInterval = snapshotInterval;
+    }
+
+    /**
+     * Opens a journal directory with the default sync and snapshot intervals.
+     * Nothing is read or written until the journal is attached to an engine.
+     *
+     * @pre.    directory ≠ null
+     *
+     * @param directory The directory holding the journal's files; created if missing
+     * @return The journal
+     */
+    public static GameJournal open(Path directory) {
+        return open(directory, DEFAULT_SYNC_INTERVAL_MILLIS, DEFAULT_SNAPSHOT_INTERVAL);
+    }
+
+    /**
+     * Opens a journal directory.
+     *
+     * @pre.    directory ≠ null ∧ syncIntervalMillis ≥ 0 ∧ snapshotInterval > 0
+     *
+     * @param directory          The directory holding the journal's files; created if missing
+     * @param syncIntervalMillis Group-commit window in milliseconds
+     * @param snapshotInterval   Records between snapshots ({@code Long.MAX_VALUE} disables snapshots)
+     * @return The journal
+     */
+    public static GameJournal open(Path directory, long syncIntervalMillis, long snapshotInterval) {
+        return new GameJournal(directory, syncIntervalMillis, snapshotInterval);
+    }
+
+    /**
+     * Records that a session started a game.
+     *
+     * @pre.    the journal is attached ∧ initialWord and targetWord are encodable words
+     *
+     * @param sessionId   The decimal session ID
+     * @param initialWord The start word
+     * @param targetWord  The target word
+     * @param random      Whether the session plays random pairs
+     * @return The record's LSN
+     * @throws UncheckedIOException if the journal can no longer be written
+     */
+    public long appendStart(String sessionId, String initialWord, String targetWord, boolean random) {
+        synchronized (lock) {
+            beginRecord(random ? START_RANDOM : START_FIXED, sessionId);
+            putCode(WordDictionary.encode(initialWord));
+            putCode(WordDictionary.encode(targetWord));
+            return nextLsn++;
+        }
+    }
+
+    /**
+     * Records an accepted move.
+     *
+     * @pre.    the journal is attached ∧ word is an encodable word
+     *
+     * @param sessionId The decimal session ID
+     * @param word      The word played
+     * @return The record's LSN
+     * @throws UncheckedIOException if the journal can no longer be written
+     */
+    public long appendTick(String sessionId, String word) {
+        synchronized (lock) {
+            beginRecord(TICK, sessionId);
+            putCode(WordDictionary.encode(word));
+            return nextLsn++;
+        }
+    }
+
+    /**
+     * Records a reset.
+     *
+     * @param sessionId The decimal session ID
+     * @return The record's LSN
+     * @throws UncheckedIOException if the journal can no longer be written
+     */
+    public long appendReset(String sessionId) {
+        synchronized (lock) {
+            beginRecord(RESET, sessionId);
+            return nextLsn++;
+        }
+    }
+
+    /**
+     * Records that a session was closed.
+     *
+     * @param sessionId The decimal session ID
+     * @return The record's LSN
+     * @throws UncheckedIOException if the journal can no longer be written
+     */
+    public long appendClose(String sessionId) {
+        synchronized (lock) {
+            beginRecord(CLOSE, sessionId);
+            return nextLsn++;
+        }
+    }
+
+    /**
+     * Checks that records can still be appended, so a caller can refuse a change before applying it.
+     *
+     * @throws UncheckedIOException if the journal can no longer be written
+     */
+    public void checkWritable() {
+        synchronized (lock) {
+            checkOpen();
+        }
+    }
+
+    private void checkOpen() {
+        if (failure != null) {
+            throw new UncheckedIOException("Journal write failed", failure);
+        }
+        if (closed || writer == null) {
+            throw new IllegalStateException("Journal is not open for writing.");
+        }
+    }
+
+    private void beginRecord(byte type, String sessionId) {
+        checkOpen();
+        if (pendingLength == 0) {
+            lock.notifyAll(); // Wake the writer, which sleeps while there is nothing to write
+        }
+        if (pending.length - pendingLength < 16) {
+            pending = Arrays.copyOf(pending, pending.length * 2);
+        }
+        pending[pendingLength++] = type;
+        long id = Long.parseLong(sessionId);
+        while ((id & ~0x7FL) != 0) {
+            pending[pendingLength++] = (byte) ((id & 0x7F) | 0x80);
+            id >>>= 7;
+        }
+        pending[pendingLength++] = (byte) id;
+    }
+
+    private void putCode(int code) {
+        pending[pendingLength++] = (byte) (code >>> 16);
+        pending[pendingLength++] = (byte) (code >>> 8);
+        pending[pendingLength++] = (byte) code;
+    }
+
+    /**
+     * Waits until every record appended so far is on disk.
+     *
+     * @throws IOException if the journal could not be written
+     */
+    public void sync() throws IOException {
+        synchronized (lock) {
+            long target = nextLsn;
+            syncRequested = true;
+            lock.notifyAll();
+            boolean interrupted = false;
+            while (durableLsn < target && failure == null && writer != null && writer.isAlive()) {
+                try {
+                    lock.wait();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+            if (failure != null) {
+                throw failure;
+            }
+            if (durableLsn < target) {
+                throw new IOException("Journal writer is not running.");
+            }
+        }
+    }
+
+    /**
+     * Gets the number of records ever appended to this journal, including those recovered.
+     *
+     * @return The LSN the next record will get
+     */
+    public long getNextLsn() {
+        synchronized (lock) {
+            return nextLsn;
+        }
+    }
+
+    /**
+     * Writes the remaining records to disk and stops the writer thread. Later appends fail.
+     *
+     * @throws IOException if the remaining records could not be written
+     */
+    @Override
+    public void close() throws IOException {
+        Thread thread;
+        synchronized (lock) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            lock.notifyAll();
+            thread = writer;
+        }
+        if (thread != null) {
+            try {
+                thread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        synchronized (lock) {
+            if (failure != null) {
+                throw failure;
+            }
+        }
+    }
+
+    // ---------------------------------------------------------------- writer
+
+    private void writeLoop() {
+        try {
+            while (true) {
+                int length;
+                long end;
+                boolean stopping;
+                synchronized (lock) {
+                    while (pendingLength == 0 && !closed) {
+                        lock.wait();
+                    }
+                    if (!closed && !syncRequested && syncIntervalMillis > 0) {
+                        lock.wait(syncIntervalMillis); // Let more records join this batch
+                    }
+                    byte[] batch = pending;
+                    pending = spare;
+                    spare = batch;
+                    length = pendingLength;
+                    pendingLength = 0;
+                    end = nextLsn;
+                    syncRequested = false;
+                    stopping = closed;
+                }
+                if (length > 0) {
+                    writeBatch(spare, length);
+                    segment.force(false);
+                }
+                synchronized (lock) {
+                    durableLsn = end;
+                    lock.notifyAll();
+                }
+                if (stopping) {
+                    segment.close();
+                    return;
+                }
+                if (end - snapshotLsn >= snapshotInterval) {
+                    snapshot(end);
+                }
+            }
+        } catch (IOException e) {
+            stop(e);
+        } catch (RuntimeException e) {
+            stop(new IOException("Journal writer failed", e));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            stop(new IOException("Journal writer was interrupted", e));
+        }
+    }
+
+    /**
+     * Records why the writer thread stopped, so appends and syncs fail instead of waiting for it.
+     *
+     * @param e The cause
+     */
+    private void stop(IOException e) {
+        synchronized (lock) {
+            failure = e;
+            lock.notifyAll();
+        }
+        System.err.println("Game journal stopped: " + e.getMessage());
+    }
+
+    private void writeBatch(byte[] batch, int length) throws IOException {
+        CRC32 crc = new CRC32();
+        crc.update(batch, 0, length);
+        ByteBuffer header = ByteBuffer.allocate(BATCH_HEADER_BYTES).order(ByteOrder.BIG_ENDIAN);
+        header.putInt(length).putInt((int) crc.getValue()).flip();
+        ByteBuffer[] buffers = {header, ByteBuffer.wrap(batch, 0, length)};
+        while (buffers[1].hasRemaining()) {
+            segment.write(buffers);
+        }
+    }
+
+    private FileChannel openSegment(long firstLsn) throws IOException {
+        FileChannel channel = FileChannel.open(directory.resolve(fileName(firstLsn, SEGMENT_SUFFIX)),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        ByteBuffer header = ByteBuffer.allocate(SEGMENT_HEADER_BYTES).order(ByteOrder.BIG_ENDIAN);
+        header.putInt(SEGMENT_MAGIC).putInt(VERSION).putLong(firstLsn).flip();
+        while (header.hasRemaining()) {
+            channel.write(header);
+        }
+        channel.force(true);
+        return channel;
+    }
+
+    /**
+     * Rotates to a new segment starting at {@code lsn}, writes a snapshot from which replay resumes at
+     * {@code lsn}, then deletes the files it supersedes. Runs on the writer thread, so every record
+     * before {@code lsn} is already durable in the old segment.
+     */
+    private void snapshot(long lsn) throws IOException {
+        segment.close();
+        segment = openSegment(lsn);
+
+        // Each session is captured under its lock together with the LSN of its last record; replay
+        // skips that session's records up to it, so changes made during the capture are not applied twice
+        List<SessionImage> images = new ArrayList<>();
+        engine.forEachSession((id, session) -> {
+            PathHistory history;
+            SessionImage image;
+            synchronized (session) {
+                history = session.getHistory();
+                int flags = (session.isRandomWordFlag() ? FLAG_RANDOM : 0)
+                        | (session.isShowErrorsFlag() ? FLAG_SHOW_ERRORS : 0)
+                        | (session.isShowPathFlag() ? FLAG_SHOW_PATH : 0);
+                image = new SessionImage(id, session.getJournalLsn(), flags, session.getTargetWord());
+            }
+            if (history != null) {
+                image.path = history.words();
+                images.add(image);
+            }
+        });
+
+        Path file = directory.resolve(fileName(lsn, SNAPSHOT_SUFFIX));
+        Path temporary = directory.resolve(file.getFileName() + ".tmp");
+        try (FileOutputStream stream = new FileOutputStream(temporary.toFile())) {
+            CheckedOutputStream checked = new CheckedOutputStream(new BufferedOutputStream(stream), new CRC32());
+            DataOutputStream out = new DataOutputStream(checked);
+            out.writeInt(SNAPSHOT_MAGIC);
+            out.writeInt(VERSION);
+            out.writeLong(lsn);
+            out.writeInt(images.size());
+            for (SessionImage image : images) {
+                out.writeLong(Long.parseLong(image.id));
+                out.writeLong(image.lsn);
+                out.writeByte(image.flags);
+                out.writeInt(WordDictionary.encode(image.targetWord));
+                out.writeInt(image.path.size());
+                for (String word : image.path) {
+                    out.writeInt(WordDictionary.encode(word));
+                }
+            }
+            out.writeLong(checked.getChecksum().getValue());
+            out.flush();
+            stream.getFD().sync();
+        }
+        Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        snapshotLsn = lsn;
+
+        for (Path old : listFiles()) {
+            String name = old.getFileName().toString();
+            if ((name.endsWith(SEGMENT_SUFFIX) || name.endsWith(SNAPSHOT_SUFFIX)) && parseLsn(name) < lsn) {
+                Files.deleteIfExists(old);
+            }
+        }
+    }
+
+    // ---------------------------------------------------------------- recovery
+
+    /**
+     * Rebuilds the engine's sessions from the newest snapshot and the segments after it, then opens a new
+     * segment and starts the writer. Called by {@link WeaverEngine#attachJournal(GameJournal)} before the
+     * engine journals anything.
+     *
+     * @pre.    engine ≠ null ∧ the journal has not been attached before
+     *
+     * @param engine The engine to rebuild the sessions in
+     * @throws IOException if the directory cannot be read or the new segment cannot be created
+     */
+    void recover(WeaverEngine engine) throws IOException {
+        if (writer != null) {
+            throw new IllegalStateException("The journal is already attached.");
+        }
+        Files.createDirectories(directory);
+        List<Path> snapshots = new ArrayList<>();
+        List<Path> segments = new ArrayList<>();
+        for (Path file : listFiles()) {
+            String name = file.getFileName().toString();
+            if (name.endsWith(".tmp")) {
+                Files.deleteIfExists(file); // Left behind by a crash during a snapshot
+            } else if (name.endsWith(SNAPSHOT_SUFFIX)) {
+                snapshots.add(file);
+            } else if (name.endsWith(SEGMENT_SUFFIX)) {
+                segments.add(file);
+            }
+        }
+
+        long lsn = 0;
+        for (int i = snapshots.size() - 1; i >= 0; i--) {
+            try {
+                lsn = loadSnapshot(snapshots.get(i), engine);
+                break;
+            } catch (IOException e) {
+                System.err.println("Skipping unreadable journal snapshot: " + e.getMessage());
+            }
+        }
+        long resumeLsn = lsn;
+        for (Path file : segments) {
+            if (parseLsn(file.getFileName().toString()) >= resumeLsn) {
+                lsn = replaySegment(file, lsn, engine);
+            }
+        }
+
+        this.engine = engine;
+        this.snapshotLsn = resumeLsn;
+        this.segment = openSegment(lsn);
+        synchronized (lock) {
+            nextLsn = lsn;
+            durableLsn = lsn;
+            writer = new Thread(this::writeLoop, "game-journal-writer");
+            writer.setDaemon(true);
+            writer.start();
+        }
+    }
+
+    private long loadSnapshot(Path file, WeaverEngine engine) throws IOException {
+        // The whole snapshot is read and checked before any session is restored
+        CRC32 crc = new CRC32();
+        List<SessionImage> images = new ArrayList<>();
+        long lsn;
+        try (DataInputStream in = new DataInputStream(new CheckedInputStream(
+                new BufferedInputStream(Files.newInputStream(file)), crc))) {
+            if (in.readInt() != SNAPSHOT_MAGIC || in.readInt() != VERSION) {
+                throw new IOException("Not a journal snapshot: " + file);
+            }
+            lsn = in.readLong();
+            int count = in.readInt();
+            for (int i = 0; i < count; i++) {
+                SessionImage image = new SessionImage(Long.toString(in.readLong()), in.readLong(),
+                        in.readUnsignedByte(), WordDictionary.decode(in.readInt()));
+                int length = in.readInt();
+                if (length < 1) {
+                    throw new IOException("Journal snapshot is corrupt: " + file);
+                }
+                String[] words = new String[length];
+                for (int w = 0; w < length; w++) {
+                    words[w] = WordDictionary.decode(in.readInt());
+                }
+                image.path = Arrays.asList(words);
+                images.add(image);
+            }
+            long expected = crc.getValue();
+            if (in.readLong() != expected) {
+                throw new IOException("Journal snapshot is corrupt: " + file);
+            }
+        }
+
+        for (SessionImage image : images) {
+            GameSession session = engine.restoreSession(image.id, image.path.get(0), image.targetWord,
+                    (image.flags & FLAG_RANDOM) != 0);
+            session.setShowErrorsFlag((image.flags & FLAG_SHOW_ERRORS) != 0);
+            session.setShowPathFlag((image.flags & FLAG_SHOW_PATH) != 0);
+            for (int step = 1; step < image.path.size(); step++) {
+                replayTick(engine, session, image.path.get(step));
+            }
+            session.setJournalLsn(image.lsn);
+        }
+        return lsn;
+    }
+
+    /**
+     * Applies the records of one segment, cutting off a torn or corrupt tail.
+     *
+     * @return The LSN after the segment's last valid record
+     */
+    private long replaySegment(Path file, long lsn, WeaverEngine engine) throws IOException {
+        long validLength = SEGMENT_HEADER_BYTES;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file), 1 << 16))) {
+            long firstLsn;
+            try {
+                if (in.readInt() != SEGMENT_MAGIC || in.readInt() != VERSION) {
+                    System.err.println("Skipping foreign file in the journal directory: " + file);
+                    return lsn;
+                }
+                firstLsn = in.readLong();
+            } catch (EOFException e) {
+                return lsn; // Crashed while creating the segment: it holds no records
+            }
+            if (firstLsn != lsn) {
+                System.err.println("Journal records " + lsn + " to " + (firstLsn - 1) + " are missing before " + file);
+                lsn = firstLsn;
+            }
+            CRC32 crc = new CRC32();
+            byte[] payload = new byte[64 * 1024];
+            while (true) {
+                int length;
+                int checksum;
+                try {
+                    length = in.readInt();
+                    checksum = in.readInt();
+                    if (length <= 0) {
+                        break;
+                    }
+                    if (length > payload.length) {
+                        payload = new byte[Math.max(length, payload.length * 2)];
+                    }
+                    in.readFully(payload, 0, length);
+                } catch (EOFException e) {
+                    break;
+                }
+                crc.reset();
+                crc.update(payload, 0, length);
+                if ((int) crc.getValue() != checksum) {
+                    break;
+                }
+                lsn = replayBatch(payload, length, lsn, engine);
+                validLength += BATCH_HEADER_BYTES + length;
+            }
+        }
+        if (Files.size(file) > validLength) {
+            System.err.println("Cutting off a torn journal batch at byte " + validLength + " of " + file);
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+                channel.truncate(validLength);
+            }
+        }
+        return lsn;
+    }
+
+    private long replayBatch(byte[] batch, int length, long lsn, WeaverEngine engine) throws IOException {
+        int position = 0;
+        while (position < length) {
+            byte type = batch[position++];
+            long id = 0;
+            int shift = 0;
+            byte next;
+            do {
+                next = batch[position++];
+                id |= (long) (next & 0x7F) << shift;
+                shift += 7;
+            } while (next < 0);
+            String sessionId = Long.toString(id);
+            GameSession session = engine.findSession(sessionId);
+            boolean pending = session == null || session.getJournalLsn() < lsn;
+            switch (type) {
+                case START_FIXED:
+                case START_RANDOM:
+                    String initialWord = WordDictionary.decode(getCode(batch, position));
+                    String targetWord = WordDictionary.decode(getCode(batch, position + 3));
+                    position += 6;
+                    if (pending) {
+                        session = engine.restoreSession(sessionId, initialWord, targetWord, type == START_RANDOM);
+                        session.setJournalLsn(lsn);
+                    }
+                    break;
+                case TICK:
+                    String word = WordDictionary.decode(getCode(batch, position));
+                    position += 3;
+                    if (session != null && pending) {
+                        replayTick(engine, session, word);
+                        session.setJournalLsn(lsn);
+                    }
+                    break;
+                case RESET:
+                    if (session != null && pending) {
+                        session.reset();
+                        session.setJournalLsn(lsn);
+                    }
+                    break;
+                case CLOSE:
+                    if (session != null && pending) {
+                        engine.closeSession(sessionId);
+                    }
+                    break;
+                default:
+                    throw new IOException("Unknown journal record type " + type + " at record " + lsn);
+            }
+            lsn++;
+        }
+        return lsn;
+    }
+
+    private static int getCode(byte[] batch, int position) {
+        return (batch[position] & 0xFF) << 16 | (batch[position + 1] & 0xFF) << 8 | (batch[position + 2] & 0xFF);
+    }
+
+    private static void replayTick(WeaverEngine engine, GameSession session, String word) {
+        try {
+            session.tick(word, engine.validatorFor(session), engine.getDictionary());
+        } catch (InvalidWordException e) {
+            System.err.println("Skipping journaled move " + word + ": " + e.getMessage());
+        }
+    }
+
+    // ---------------------------------------------------------------- files
+
+    private List<Path> listFiles() throws IOException {
+        List<Path> files = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory)) {
+            for (Path file : stream) {
+                files.add(file);
+            }
+        }
+        // Names are zero-padded hex LSNs, so name order is LSN order
+        files.sort(null);
+        return files;
+    }
+
+    private static String fileName(long lsn, String suffix) {
+        return String.format("%016x%s", lsn, suffix);
+    }
+
+    private static long parseLsn(String fileName) {
+        try {
+            return Long.parseUnsignedLong(fileName.substring(0, 16), 16);
+        } catch (RuntimeException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * The state of one session as stored in a snapshot.
+     */
+    private static final class SessionImage {
+        final String id;
+        final long lsn;
+        final int flags;
+        final String targetWord;
+        List<String> path;
+
+        SessionImage(String id, long lsn, int flags, String targetWord) {
+            this.id = id;
+            this.lsn = lsn;
+            this.flags = flags;
+            this.targetWord = targetWord;
+        }
+    }
+}
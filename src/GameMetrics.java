@@ -0,0 +1,323 @@
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The process-wide metrics registry: lock-free counters and latency histograms for the model's
+ * operations, readable as a text snapshot (e.g. with the CLI's {@code stats} command).
+ *
+ * <p>Metrics are off by default, unless the JVM is started with {@code -Dweaver.metrics=true}. While
+ * off, recording costs one volatile read: {@link #startTimer()} returns 0 without reading the clock and
+ * every record call returns immediately, so the instrumented paths stay as fast as before.</p>
+ *
+ * <p>Histograms are log-linear in the style of HdrHistogram: each power of two is split into 16
+ * buckets, so any recorded value is reported within 1/16 (6.25%) of its true value, over the whole
+ * range of {@code long}, in a fixed 960-bucket array updated with atomic increments.</p>
+ */
+public final class GameMetrics {
+
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKETS = SUB_BUCKETS + (63 - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    private static volatile boolean enabled = Boolean.getBoolean("weaver.metrics");
+    private static final Map<String, Object> METRICS = new ConcurrentSkipListMap<>();
+
+    /** Time of {@link WeaverModel#tick(String)}, including validation and notification. */
+    public static final Histogram TICK = histogram("model.tick", true);
+    /** Moves rejected by the validator. */
+    public static final Counter TICK_REJECTED = counter("model.tick.rejected");
+    /**
+     * Time to start a game: {@link WeaverModel#initialize()} including word pair generation, or
+     * {@link WeaverModel#initialize(String[])} with a pair generated beforehand.
+     */
+    public static final Histogram INITIALIZE = histogram("model.initialize", true);
+    /** Time of {@link WeaverModel#resetGame()}. */
+    public static final Histogram RESET = histogram("model.resetGame", true);
+    /** Time of {@link WeaverModel#getFullSolutionPath()}. */
+    public static final Histogram SOLUTION_PATH = histogram("model.getFullSolutionPath", true);
+    /** Time to snapshot the state and deliver one notification to every subscriber. */
+    public static final Histogram NOTIFY = histogram("model.notifyUpdate", true);
+    /** Time of one {@link PathFinder} search, e.g. for {@link WithPath} or the solution path. */
+    public static final Histogram PATH_SEARCH = histogram("path.search", true);
+    /** Words visited by one {@link PathFinder} search. */
+    public static final Histogram PATH_VISITED = histogram("path.search.visited", false);
+
+    private GameMetrics() {
+    }
+
+    /**
+     * Checks whether metrics are being recorded.
+     *
+     * @return true if recording is on
+     */
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Turns recording on or off. Values recorded so far are kept.
+     *
+     * @param enabled true to record
+     */
+    public static void setEnabled(boolean enabled) {
+        GameMetrics.enabled = enabled;
+    }
+
+    /**
+     * Gets or registers a counter.
+     *
+     * @pre.    name ≠ null ∧ name is not registered as a histogram
+     *
+     * @param name The metric name
+     * @return The counter with that name
+     */
+    public static Counter counter(String name) {
+        return (Counter) METRICS.computeIfAbsent(name, key -> new Counter());
+    }
+
+    /**
+     * Gets or registers a histogram.
+     *
+     * @pre.    name ≠ null ∧ name is not registered as a counter
+     *
+     * @param name  The metric name
+     * @param nanos true if values are durations in nanoseconds (reported in microseconds)
+     * @return The histogram with that name
+     */
+    public static Histogram histogram(String name, boolean nanos) {
+        return (Histogram) METRICS.computeIfAbsent(name, key -> new Histogram(nanos));
+    }
+
+    /**
+     * Starts timing an operation.
+     *
+     * @return The current {@link System#nanoTime()}, or 0 if metrics are off
+     */
+    public static long startTimer() {
+        return enabled ? System.nanoTime() : 0;
+    }
+
+    /**
+     * Clears every counter and histogram.
+     */
+    public static void reset() {
+        for (Object metric : METRICS.values()) {
+            if (metric instanceof Counter) {
+                ((Counter) metric).count.reset();
+            } else {
+                ((Histogram) metric).reset();
+            }
+        }
+    }
+
+    /**
+     * Formats every metric, one per line and sorted by name. Histogram durations are in microseconds.
+     * Counts recorded concurrently with the snapshot may or may not be included.
+     *
+     * @return The text snapshot
+     */
+    public static String snapshot() {
+        StringBuilder text = new StringBuilder();
+        text.append("# Weaver metrics (").append(enabled ? "enabled" : "disabled").append(")\n");
+        for (Map.Entry<String, Object> entry : METRICS.entrySet()) {
+            Object metric = entry.getValue();
+            if (metric instanceof Counter) {
+                text.append(String.format("%-28s count=%d%n", entry.getKey(), ((Counter) metric).get()));
+            } else {
+                Histogram histogram = (Histogram) metric;
+                String unit = histogram.nanos ? "us" : "";
+                text.append(String.format("%-28s count=%d mean=%s%s p50=%s%s p90=%s%s p99=%s%s max=%s%s%n",
+                        entry.getKey(), histogram.getCount(),
+                        histogram.format(Math.round(histogram.getMean())), unit,
+                        histogram.format(histogram.getPercentile(50)), unit,
+                        histogram.format(histogram.getPercentile(90)), unit,
+                        histogram.format(histogram.getPercentile(99)), unit,
+                        histogram.format(histogram.getMax()), unit));
+            }
+        }
+        return text.toString();
+    }
+
+    /**
+     * Writes {@link #snapshot()} to a file, replacing it.
+     *
+     * @param file The file to write
+     * @throws IOException if the file cannot be written
+     */
+    public static void writeSnapshot(Path file) throws IOException {
+        Files.writeString(file, snapshot());
+    }
+
+    /**
+     * A monotonically increasing count, striped across threads so concurrent increments do not contend.
+     */
+    public static final class Counter {
+        private final LongAdder count = new LongAdder();
+
+        private Counter() {
+        }
+
+        /**
+         * Adds one, if metrics are on.
+         */
+        public void increment() {
+            if (enabled) {
+                count.increment();
+            }
+        }
+
+        /**
+         * Gets the count.
+         *
+         * @return The number of increments recorded
+         */
+        public long get() {
+            return count.sum();
+        }
+    }
+
+    /**
+     * A log-linear histogram of non-negative values, such as latencies in nanoseconds.
+     */
+    public static final class Histogram {
+        private final boolean nanos;
+        private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+        private final LongAdder count = new LongAdder();
+        private final LongAdder sum = new LongAdder();
+        private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+        /**
+         * Creates a histogram outside the registry, so it appears in no snapshot. Use
+         * {@link GameMetrics#histogram(String, boolean)} for a registered one.
+         *
+         * @param nanos true if values are durations in nanoseconds (reported in microseconds)
+         */
+        Histogram(boolean nanos) {
+            this.nanos = nanos;
+        }
+
+        /**
+         * Records a value, if metrics are on. Negative values are recorded as 0.
+         *
+         * @param value The value
+         */
+        public void record(long value) {
+            if (!enabled) {
+                return;
+            }
+            long clamped = Math.max(0, value);
+            buckets.incrementAndGet(bucketOf(clamped));
+            count.increment();
+            sum.add(clamped);
+            max.accumulate(clamped);
+        }
+
+        /**
+         * Records the time elapsed since {@link GameMetrics#startTimer()}.
+         *
+         * @param start The timer's start, or 0 if metrics were off, in which case nothing is recorded
+         */
+        public void recordSince(long start) {
+            if (start != 0) {
+                record(System.nanoTime() - start);
+            }
+        }
+
+        /**
+         * Gets the number of recorded values.
+         *
+         * @return The count
+         */
+        public long getCount() {
+            return count.sum();
+        }
+
+        /**
+         * Gets the exact mean of the recorded values.
+         *
+         * @return The mean, or 0 if nothing was recorded
+         */
+        public double getMean() {
+            long n = count.sum();
+            return n == 0 ? 0 : (double) sum.sum() / n;
+        }
+
+        /**
+         * Gets the exact largest recorded value.
+         *
+         * @return The maximum, or 0 if nothing was recorded
+         */
+        public long getMax() {
+            return max.get();
+        }
+
+        /**
+         * Gets the value below which the given percentage of recorded values fall, accurate to the
+         * bucket width (within 6.25%).
+         *
+         * @pre.    0 ≤ percentile ≤ 100
+         *
+         * @param percentile The percentile
+         * @return The highest value of the bucket holding that percentile, capped at the maximum,
+         *         or 0 if nothing was recorded
+         */
+        public long getPercentile(double percentile) {
+            long total = 0;
+            long[] counts = new long[BUCKETS];
+            for (int i = 0; i < BUCKETS; i++) {
+                counts[i] = buckets.get(i);
+                total += counts[i];
+            }
+            if (total == 0) {
+                return 0;
+            }
+            long rank = Math.max(1, (long) Math.ceil(percentile / 100 * total));
+            long seen = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                seen += counts[i];
+                if (seen >= rank) {
+                    return Math.min(highestValueOf(i), getMax());
+                }
+            }
+            return getMax();
+        }
+
+        private void reset() {
+            for (int i = 0; i < BUCKETS; i++) {
+                buckets.set(i, 0);
+            }
+            count.reset();
+            sum.reset();
+            max.reset();
+        }
+
+        private String format(long value) {
+            return nanos ? String.format("%.1f", value / 1000.0) : Long.toString(value);
+        }
+
+        private static int bucketOf(long value) {
+            if (value < SUB_BUCKETS) {
+                return (int) value;
+            }
+            int exponent = 63 - Long.numberOfLeadingZeros(value);
+            int shift = exponent - SUB_BUCKET_BITS;
+            int subBucket = (int) (value >>> shift) - SUB_BUCKETS;
+            return SUB_BUCKETS + shift * SUB_BUCKETS + subBucket;
+        }
+
+        private static long highestValueOf(int bucket) {
+            if (bucket < SUB_BUCKETS) {
+                return bucket;
+            }
+            int shift = (bucket - SUB_BUCKETS) / SUB_BUCKETS;
+            long lowest = (long) (SUB_BUCKETS + (bucket - SUB_BUCKETS) % SUB_BUCKETS) << shift;
+            return lowest + (1L << shift) - 1;
+        }
+    }
+}
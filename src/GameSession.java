@@ -0,0 +1,404 @@
+import exceptions.InvalidWordException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+
+/**
+ * The state of one Weaver game: the word pair, the player's path, the result of each step and the
+ * player's option flags. It holds no dictionary, graph or validator; those are shared and passed in,
+ * so a session costs only its own path.
+ *
+ * <p>The path is a {@link PathHistory}: a move appends one node in O(1), a reset points back to the
+ * root, and a snapshot shares the current node instead of copying the path.</p>
+ *
+ * <p>The session also keeps a timeline: the node of every step up to the furthest move played, indexed
+ * by step. Undo, redo and jumps just move the current node along the timeline, in O(1) and without
+ * re-validating any word; a new move drops the steps after the current one.</p>
+ *
+ * <p>All methods are synchronized on the session, so moves on the same session are applied one at a
+ * time while different sessions can be played in parallel.</p>
+ *
+ * <p><b>Class Invariant:</b>
+ * <ul>
+ *   <li>{@code history} ≠ null ∧ {@code history.root().getWord()} == initialWord once the game has started</li>
+ *   <li>{@code isWon} implies the last result is fully valid</li>
+ *   <li>{@code timeline[i].getDepth() == i} for 0 ≤ i ≤ lastStep, and
+ *       {@code history == timeline[history.getDepth()]}</li>
+ * </ul>
+ */
+public class GameSession {
+    private String initialWord;
+    private String targetWord;
+    private PathHistory history;
+    private PathHistory[] timeline = new PathHistory[16];
+    private int lastStep;
+    private boolean isWon;
+    private boolean showErrorsFlag = false; // Controls whether errors are shown
+    private boolean showPathFlag = false; // Controls whether solution path is shown
+    private boolean randomWordFlag = false;
+    private long journalLsn = -1; // Sequence number of the last journal record applied to this session
+    private long eventSequence;   // Sequence number of the last state change captured for an engine event
+    private final Object publishLock = new Object(); // Serializes publication of this session's events
+    private long publishedSequence; // Sequence number of the last event published, guarded by publishLock
+
+    /**
+     * Starts a new game with the given word pair.
+     *
+     * @pre.    initialWord ≠ null ∧ targetWord ≠ null
+     * @post.   history.getWord() == initialWord ∧ history.getDepth() == 0 ∧ isWon == false
+     *
+     * @param initialWord The start word
+     * @param targetWord  The target word
+     */
+    public synchronized void start(String initialWord, String targetWord) {
+        this.initialWord = initialWord;
+        this.targetWord = targetWord;
+        this.history = PathHistory.start(initialWord);
+        this.isWon = false;
+        Arrays.fill(timeline, null);
+        timeline[0] = history;
+        lastStep = 0;
+    }
+
+    /**
+     * Restarts the game with the same word pair. The steps played stay on the timeline, so the reset
+     * can be redone until a new move is made.
+     *
+     * @post.   history == history.root() ∧ isWon == false
+     */
+    public synchronized void reset() {
+        if (history == null) {
+            start(initialWord, targetWord);
+        } else {
+            moveTo(0);
+        }
+    }
+
+    /**
+     * Steps back to the previous word of the path.
+     *
+     * @post.   if a move was undone: history == history'.getParent()
+     *
+     * @return true if a move was undone, false if the path holds only the initial word
+     */
+    public synchronized boolean undo() {
+        return history != null && jumpTo(history.getDepth() - 1);
+    }
+
+    /**
+     * Steps forward to the next word on the timeline.
+     *
+     * @post.   if a move was redone: history.getParent() == history'
+     *
+     * @return true if a move was redone, false if there is no later step
+     */
+    public synchronized boolean redo() {
+        return history != null && jumpTo(history.getDepth() + 1);
+    }
+
+    /**
+     * Moves to the given step of the timeline: 0 is the initial word, {@link #getLastStep()} the
+     * furthest move played.
+     *
+     * @post.   if moved: history.getDepth() == step ∧ isWon == the step's result is fully valid
+     *
+     * @param step The step to move to
+     * @return true if the step exists, false otherwise
+     */
+    public synchronized boolean jumpTo(int step) {
+        if (history == null || step < 0 || step > lastStep) {
+            return false;
+        }
+        moveTo(step);
+        return true;
+    }
+
+    private void moveTo(int step) {
+        history = timeline[step];
+        isWon = history.getResult() != null && history.getResult().getValid();
+    }
+
+    /**
+     * Gets the step the game is at: the number of moves in the current path.
+     *
+     * @return The current step, 0 at the initial word
+     */
+    public synchronized int getCurrentStep() {
+        return history == null ? 0 : history.getDepth();
+    }
+
+    /**
+     * Gets the furthest step that can be reached with redo or a jump.
+     *
+     * @return The last step on the timeline
+     */
+    public synchronized int getLastStep() {
+        return lastStep;
+    }
+
+    /**
+     * Applies one player move: validates the word against the target and, if it is a legal step
+     * from the last word of the path, appends it and its result.
+     *
+     * @pre.    word ≠ null ∧ validator ≠ null ∧ dictionary ≠ null
+     * @post.   see {@link #tryTick(String, WordValidator, WordDictionary)}
+     *
+     * @param word       The word entered by the player (any case)
+     * @param validator  The validator to score the word with
+     * @param dictionary The dictionary of valid words
+     * @return The validation result of the move
+     * @throws InvalidWordException if the word is not in the dictionary, has the wrong length,
+     *                              or does not differ by exactly one letter from the previous word
+     */
+    public synchronized ValidationResult tick(String word, WordValidator validator, WordDictionary dictionary)
+            throws InvalidWordException {
+        return tryTick(word, validator, dictionary).getResultOrThrow();
+    }
+
+    /**
+     * Applies one player move like {@link #tick}, but reports an illegal move as a verdict instead of
+     * throwing. The checks run in the same order: the validator's checks, then the one-letter rule.
+     *
+     * @pre.    word ≠ null ∧ validator ≠ null ∧ dictionary ≠ null
+     * @post.   if OK: history == history'.append(word, result) ∧ isWon == result.getValid()
+     *          otherwise: the session is unchanged (path and isWon)
+     *
+     * @param word       The word entered by the player (any case)
+     * @param validator  The validator to score the word with
+     * @param dictionary The dictionary of valid words
+     * @return OK with the move's result, or the reason it was rejected
+     */
+    public synchronized GuessVerdict tryTick(String word, WordValidator validator, WordDictionary dictionary) {
+        word = word.toUpperCase();
+        GuessVerdict verdict = validator.evaluate(word, this.targetWord, dictionary);
+        if (verdict.isOk()) {
+            if (history == null) {
+                verdict = GuessVerdict.NOT_STARTED;
+            } else if (!isOneLetterDifferent(history.getWord(), word)) {
+                verdict = GuessVerdict.NOT_ONE_LETTER;
+            }
+        }
+        if (!verdict.isOk()) {
+            // Rejected moves are not journaled, so they must leave the session exactly as it was
+            return verdict;
+        }
+
+        ValidationResult result = verdict.getResult();
+        history = history.append(word, result);
+        int step = history.getDepth();
+        if (step == timeline.length) {
+            timeline = Arrays.copyOf(timeline, step * 2);
+        }
+        // Drop the undone steps; each slot is cleared at most once per write, so this is amortized O(1)
+        if (lastStep > step) {
+            Arrays.fill(timeline, step + 1, lastStep + 1, null);
+        }
+        timeline[step] = history;
+        lastStep = step;
+        this.isWon = result.getValid();
+        return verdict;
+    }
+
+    /**
+     * Checks if two words of equal length differ by exactly one letter.
+     *
+     * @pre.    word1 ≠ null ∧ word2 ≠ null
+     *          word1.length() == word2.length()
+     * @post.   returns true iff exactly one character differs between the words
+     *
+     * @param word1 First word
+     * @param word2 Second word
+     * @return true if words differ by exactly one letter
+     */
+    private static boolean isOneLetterDifferent(String word1, String word2) {
+        if (word1 == null || word2 == null || word1.length() != word2.length()) {
+            return false;
+        }
+
+        int diffCount = 0;
+        for (int i = 0; i < word1.length(); i++) {
+            if (word1.charAt(i) != word2.charAt(i)) {
+                diffCount++;
+            }
+        }
+        return diffCount == 1;
+    }
+
+    /**
+     * Takes a consistent snapshot of the game. It shares the current history node, so it costs O(1)
+     * however long the path is.
+     *
+     * @return The current state
+     */
+    public synchronized GameState snapshot() {
+        if (history == null) {
+            return new GameState(initialWord, targetWord, new ArrayList<>(), new ArrayList<>(), isWon);
+        }
+        return new GameState(history, targetWord, isWon, lastStep);
+    }
+
+    /**
+     * Gets the latest step of the game's history. The node is immutable, so it can be kept and
+     * read without holding the session's lock.
+     *
+     * @return The current history node, or null if no game has been started
+     */
+    public synchronized PathHistory getHistory() {
+        return history;
+    }
+
+    /**
+     * Gets the initial word of the game.
+     * @return The starting word
+     */
+    public synchronized String getInitialWord() {
+        return initialWord;
+    }
+
+    /**
+     * Gets the target word of the game.
+     * @return The goal word
+     */
+    public synchronized String getTargetWord() {
+        return targetWord;
+    }
+
+    /**
+     * Gets the player's current word path.
+     * Returns a copy to prevent external modification.
+     *
+     * @return A list of words in the current path
+     */
+    public synchronized ArrayList<String> getCurrentPath() {
+        if (history == null) {
+            return new ArrayList<>();
+        }
+        ArrayList<String> path = new ArrayList<>(history.getDepth() + 1);
+        for (PathHistory node = history; node != null; node = node.getParent()) {
+            path.add(node.getWord());
+        }
+        Collections.reverse(path);
+        return path;
+    }
+
+    /**
+     * Gets validation results for each step in the path.
+     * Returns a copy to prevent external modification.
+     *
+     * @return List of ValidationResult objects
+     */
+    public synchronized ArrayList<ValidationResult> getResultsPath() {
+        if (history == null) {
+            return new ArrayList<>();
+        }
+        ArrayList<ValidationResult> results = new ArrayList<>(history.getDepth());
+        for (PathHistory node = history; node.getParent() != null; node = node.getParent()) {
+            results.add(node.getResult());
+        }
+        Collections.reverse(results);
+        return results;
+    }
+
+    /**
+     * Checks if the game is currently won.
+     * @return true if player reached the target word
+     */
+    public synchronized boolean isWon() {
+        return isWon;
+    }
+
+    /**
+     * Gets the sequence number of the last {@link GameJournal} record that changed this session.
+     *
+     * @return The record's sequence number, or -1 if the session was never journaled
+     */
+    public synchronized long getJournalLsn() {
+        return journalLsn;
+    }
+
+    /**
+     * Records the sequence number of the journal record for the latest change.
+     *
+     * @param journalLsn The record's sequence number
+     */
+    public synchronized void setJournalLsn(long journalLsn) {
+        this.journalLsn = journalLsn;
+    }
+
+    /**
+     * Takes the sequence number of a state change's event. Called while holding the session's lock
+     * together with the change, so sequence numbers follow the order of the changes.
+     *
+     * @return The next event sequence number
+     */
+    synchronized long nextEventSequence() {
+        return ++eventSequence;
+    }
+
+    /**
+     * Publishes an event of this session unless a later one has already been published. Publications
+     * of the session run one at a time, so subscribers never see an older state after a newer one.
+     *
+     * @param sequence    The event's sequence number, from {@link #nextEventSequence()}
+     * @param publication Publishes the event
+     */
+    void publishInOrder(long sequence, Runnable publication) {
+        synchronized (publishLock) {
+            if (sequence > publishedSequence) {
+                publishedSequence = sequence;
+                publication.run();
+            }
+        }
+    }
+
+    /**
+     * Gets the current value of showErrorsFlag.
+     * @return true if showing errors is enabled
+     */
+    public synchronized boolean isShowErrorsFlag() {
+        return showErrorsFlag;
+    }
+
+    /**
+     * Sets the show errors flag.
+     *
+     * @param showErrorsFlag New value for the flag
+     */
+    public synchronized void setShowErrorsFlag(boolean showErrorsFlag) {
+        this.showErrorsFlag = showErrorsFlag;
+    }
+
+    /**
+     * Gets the current value of showPathFlag.
+     * @return true if the solution path is shown
+     */
+    public synchronized boolean isShowPathFlag() {
+        return showPathFlag;
+    }
+
+    /**
+     * Sets the show path flag.
+     *
+     * @param showPathFlag New value for the flag
+     */
+    public synchronized void setShowPathFlag(boolean showPathFlag) {
+        this.showPathFlag = showPathFlag;
+    }
+
+    /**
+     * Gets the current value of randomWordFlag.
+     * @return true if using random word generation
+     */
+    public synchronized boolean isRandomWordFlag() {
+        return randomWordFlag;
+    }
+
+    /**
+     * Sets the random word flag. Takes effect on the next started game.
+     *
+     * @param randomWordFlag New value for the flag
+     */
+    public synchronized void setRandomWordFlag(boolean randomWordFlag) {
+        this.randomWordFlag = randomWordFlag;
+    }
+}
@@ -1,10 +1,14 @@
-import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Represents the current state of a game session.
  * Stores information about the player's path, validation results,
  * initial word, target word, and win status.
  *
+ * <p>A GameState is an immutable snapshot, so one instance can be shared by every subscriber of a
+ * {@link GameEventBus} without further copies. It is either built from lists, which are copied once, or
+ * from a {@link PathHistory} node, which is shared as is; the lists are then materialized on first use.</p>
+ *
  * <p><b>Class Invariant:</b>
  * <ul>
  *   <li>{@code initialWord} ≠ null ∧ not empty</li>
@@ -15,11 +19,13 @@ import java.util.ArrayList;
  * </ul>
  */
 public class GameState {
-    private final ArrayList<String> path;
+    private final PathHistory history;
+    private List<String> path;
     private final boolean won;
-    private final ArrayList<ValidationResult> results;
+    private List<ValidationResult> results;
     private final String initialWord;
     private final String targetWord;
+    private final int lastStep;
 
     /**
      * Constructs a new GameState instance.
@@ -29,8 +35,8 @@ public class GameState {
      *          path ≠ null
      *          results ≠ null
      * @post.   this.initialWord == initialWord ∧ this.targetWord == targetWord
-     *          this.path is a copy of path (immutable from outside)
-     *          this.results is a copy of results (immutable from outside)
+     *          this.path is an unmodifiable copy of path
+     *          this.results is an unmodifiable copy of results
      *          this.won == isWon
      *
      * @param initialWord The starting word of the game
@@ -39,24 +45,68 @@ public class GameState {
      * @param results The validation results for each step
      * @param isWon True if the player has won the game
      */
-    public GameState(String initialWord, String targetWord, ArrayList<String> path, ArrayList<ValidationResult> results, boolean isWon) {
-        this.path = new ArrayList<>(path);
-        this.results = new ArrayList<>(results);
+    public GameState(String initialWord, String targetWord, List<String> path, List<ValidationResult> results, boolean isWon) {
+        this.history = null;
+        this.path = List.copyOf(path);
+        this.results = List.copyOf(results);
         this.initialWord = initialWord;
         this.targetWord = targetWord;
         this.won = isWon;
+        this.lastStep = Math.max(0, path.size() - 1);
+    }
+
+    /**
+     * Constructs a GameState that shares a history node instead of copying the path.
+     *
+     * @pre.    history ≠ null
+     *          targetWord ≠ null ∧ targetWord.length() > 0
+     * @post.   this.initialWord == history.root().getWord()
+     *          getPath() equals history.words() ∧ getResults() equals history.results()
+     *
+     * @param history    The latest step of the game
+     * @param targetWord The target word to be reached
+     * @param isWon      True if the player has won the game
+     */
+    public GameState(PathHistory history, String targetWord, boolean isWon) {
+        this(history, targetWord, isWon, history.getDepth());
+    }
+
+    /**
+     * Constructs a GameState that shares a history node and records how far the player can redo.
+     *
+     * @pre.    history ≠ null ∧ lastStep ≥ history.getDepth()
+     *          targetWord ≠ null ∧ targetWord.length() > 0
+     * @post.   getCurrentStep() == history.getDepth() ∧ getLastStep() == lastStep
+     *
+     * @param history    The current step of the game
+     * @param targetWord The target word to be reached
+     * @param isWon      True if the player has won the game
+     * @param lastStep   The furthest step on the game's timeline
+     */
+    public GameState(PathHistory history, String targetWord, boolean isWon, int lastStep) {
+        this.history = history;
+        this.initialWord = history.root().getWord();
+        this.targetWord = targetWord;
+        this.won = isWon;
+        this.lastStep = lastStep;
     }
 
     /**
-     * Gets a copy of the player's path.
+     * Gets the player's path.
      *
      * @post.   returned list contains all words in the same order as path
-     *          modifying the returned list does not affect this.path
+     *          returned list is unmodifiable and shared, not copied
      *
-     * @return A new ArrayList containing the sequence of words entered by the player
+     * @return The sequence of words entered by the player
      */
-    public ArrayList<String> getPath() {
-        return new ArrayList<>(path);
+    public List<String> getPath() {
+        // Racing readers may each build the list; they build equal immutable lists, so either may win
+        List<String> words = path;
+        if (words == null) {
+            words = history.words();
+            path = words;
+        }
+        return words;
     }
 
     /**
@@ -71,15 +121,47 @@ public class GameState {
     }
 
     /**
-     * Gets a copy of the validation results.
+     * Gets the validation results.
      *
      * @post.   returned list contains all validation results in the same order
-     *          modifying the returned list does not affect this.results
+     *          returned list is unmodifiable and shared, not copied
+     *
+     * @return The validation results for each step
+     */
+    public List<ValidationResult> getResults() {
+        List<ValidationResult> steps = results;
+        if (steps == null) {
+            steps = history.results();
+            results = steps;
+        }
+        return steps;
+    }
+
+    /**
+     * Gets the step the game is at.
+     *
+     * @return The number of moves in the path
+     */
+    public int getCurrentStep() {
+        return history != null ? history.getDepth() : lastStep;
+    }
+
+    /**
+     * Gets the furthest step that can be reached with redo.
+     *
+     * @return The last step on the game's timeline
+     */
+    public int getLastStep() {
+        return lastStep;
+    }
+
+    /**
+     * Gets the history node this snapshot was taken from.
      *
-     * @return A new ArrayList containing validation results for each step
+     * @return The shared history node, or null if the state was built from lists
      */
-    public ArrayList<ValidationResult> getResults() {
-        return new ArrayList<>(results);
+    public PathHistory getHistory() {
+        return history;
     }
 
     /**
@@ -0,0 +1,161 @@
+import exceptions.InvalidWordException;
+
+/**
+ * The outcome of checking a guess: either the guess is accepted and carries its {@link ValidationResult},
+ * or it is rejected with a status and the message the exception-based API would throw.
+ *
+ * <p>Rejections are the common case under load (typos, words outside the dictionary, illegal steps), so
+ * they are reported with shared, preallocated verdicts instead of exceptions: no stack trace is captured
+ * and nothing is allocated. {@link #getResultOrThrow()} turns a verdict back into the exception-based
+ * behaviour for callers that want it.</p>
+ *
+ * <p><b>Class Invariant:</b>
+ * <ul>
+ *   <li>{@code status == OK} iff {@code result} ≠ null</li>
+ *   <li>{@code message} ≠ null for every rejected verdict</li>
+ * </ul>
+ */
+public final class GuessVerdict {
+
+    /**
+     * Why a guess was accepted or rejected.
+     */
+    public enum Status {
+        /** The guess is a legal move; the verdict carries its feedback. */
+        OK,
+        /** The guess or the target is not in the dictionary. */
+        NOT_IN_DICTIONARY,
+        /** The guess and the target have different lengths. */
+        WRONG_LENGTH,
+        /** The guess does not differ by exactly one letter from the previous word. */
+        NOT_ONE_LETTER,
+        /** No game has been started, so there is no previous word. */
+        NOT_STARTED,
+        /** The game is already won; it must be reset or restarted before playing again. */
+        GAME_OVER,
+        /** Rejected by a custom validator for another reason; see the message. */
+        INVALID
+    }
+
+    /** Shared verdict for words outside the dictionary. */
+    public static final GuessVerdict NOT_IN_DICTIONARY =
+            new GuessVerdict(Status.NOT_IN_DICTIONARY, null, "This word is not in the dictionary.");
+
+    /** Shared verdict for a guess whose length differs from the target's. */
+    public static final GuessVerdict WRONG_LENGTH =
+            new GuessVerdict(Status.WRONG_LENGTH, null, "Length of word is not equal to target word.");
+
+    /** Shared verdict for a step that does not change exactly one letter. */
+    public static final GuessVerdict NOT_ONE_LETTER =
+            new GuessVerdict(Status.NOT_ONE_LETTER, null, "Word must differ by exactly one letter from the previous word.");
+
+    /** Shared verdict for a guess made before the game started. */
+    public static final GuessVerdict NOT_STARTED =
+            new GuessVerdict(Status.NOT_STARTED, null, "Game state error: Path is empty before the first player input step.");
+
+    /** Shared verdict for a guess made after the game was won. */
+    public static final GuessVerdict GAME_OVER =
+            new GuessVerdict(Status.GAME_OVER, null, "The game is already won; reset or start a new game.");
+
+    /** Message of an INVALID verdict whose rejection carried none. */
+    static final String DEFAULT_MESSAGE = "The word was rejected.";
+
+    private static final GuessVerdict[] SHARED = {NOT_IN_DICTIONARY, WRONG_LENGTH, NOT_ONE_LETTER, NOT_STARTED, GAME_OVER};
+
+    private final Status status;
+    private final ValidationResult result;
+    private final String message;
+
+    private GuessVerdict(Status status, ValidationResult result, String message) {
+        this.status = status;
+        this.result = result;
+        this.message = message;
+    }
+
+    /**
+     * Creates the verdict of an accepted guess.
+     *
+     * @pre.    result ≠ null
+     *
+     * @param result The guess's feedback
+     * @return An OK verdict carrying the result
+     */
+    public static GuessVerdict ok(ValidationResult result) {
+        return new GuessVerdict(Status.OK, result, null);
+    }
+
+    /**
+     * Gets the verdict for a rejection message, reusing the shared verdict when the message is one of
+     * the standard ones.
+     *
+     * @post.   returned.getMessage() ≠ null
+     *
+     * @param message The rejection message, e.g. of a caught {@link InvalidWordException}, or null if it had none
+     * @return The matching shared verdict, or a new INVALID verdict with that message (or a default one if null)
+     */
+    public static GuessVerdict rejected(String message) {
+        if (message == null) {
+            return new GuessVerdict(Status.INVALID, null, DEFAULT_MESSAGE);
+        }
+        for (GuessVerdict shared : SHARED) {
+            if (shared.message.equals(message)) {
+                return shared;
+            }
+        }
+        return new GuessVerdict(Status.INVALID, null, message);
+    }
+
+    /**
+     * Gets the status of the verdict.
+     *
+     * @return OK, or the reason the guess was rejected
+     */
+    public Status getStatus() {
+        return status;
+    }
+
+    /**
+     * Checks whether the guess was accepted.
+     *
+     * @return true if the status is OK
+     */
+    public boolean isOk() {
+        return status == Status.OK;
+    }
+
+    /**
+     * Gets the feedback of an accepted guess.
+     *
+     * @return The validation result, or null if the guess was rejected
+     */
+    public ValidationResult getResult() {
+        return result;
+    }
+
+    /**
+     * Gets the reason a guess was rejected.
+     *
+     * @return The rejection message, or the result's message if the guess was accepted
+     */
+    public String getMessage() {
+        return result != null ? result.getMessage() : message;
+    }
+
+    /**
+     * Returns the result of an accepted guess, or throws the exception the exception-based API throws.
+     *
+     * @return The validation result
+     * @throws InvalidWordException with the rejection message if the guess was rejected
+     */
+    public ValidationResult getResultOrThrow() {
+        if (result == null) {
+            throw new InvalidWordException(message);
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return status + (result == null ? ": " + message : "");
+    }
+}
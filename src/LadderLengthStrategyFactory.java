@@ -0,0 +1,63 @@
+/**
+ * A factory class that creates difficulty-targeted word generation strategies.
+ * This factory produces instances of {@link LadderLengthWordStrategy}, which select start and target
+ * words whose shortest ladder has an exact length or a length within a range.
+ *
+ * <p><b>Class Invariant:</b>
+ * <ul>
+ *   <li>{@code index} ≠ null</li>
+ *   <li>1 ≤ {@code minLength} ≤ {@code maxLength}</li>
+ * </ul>
+ */
+public class LadderLengthStrategyFactory implements StrategyFactory {
+    private final LadderPairIndex index;
+    private final int minLength;
+    private final int maxLength;
+
+    /**
+     * Constructs a factory for puzzles with an exact ladder length.
+     *
+     * @pre.    index ≠ null ∧ length ≥ 1
+     *
+     * @param index  The index of word pairs bucketed by ladder length
+     * @param length The required ladder length in moves
+     * @throws IllegalArgumentException if index is null or length is less than 1
+     */
+    public LadderLengthStrategyFactory(LadderPairIndex index, int length) {
+        this(index, length, length);
+    }
+
+    /**
+     * Constructs a factory for puzzles with a ladder length in [minLength, maxLength].
+     *
+     * @pre.    index ≠ null ∧ 1 ≤ minLength ≤ maxLength
+     * @post.   this.minLength == minLength ∧ this.maxLength == maxLength
+     *          IllegalArgumentException is thrown if preconditions fail
+     *
+     * @param index     The index of word pairs bucketed by ladder length
+     * @param minLength Minimum ladder length in moves (inclusive)
+     * @param maxLength Maximum ladder length in moves (inclusive)
+     * @throws IllegalArgumentException if index is null or the range is empty or below 1
+     */
+    public LadderLengthStrategyFactory(LadderPairIndex index, int minLength, int maxLength) {
+        if (index == null || minLength < 1 || minLength > maxLength) {
+            throw new IllegalArgumentException("Ladder length range must satisfy 1 <= min <= max");
+        }
+        this.index = index;
+        this.minLength = minLength;
+        this.maxLength = maxLength;
+    }
+
+    /**
+     * Creates a new LadderLengthWordStrategy for the configured length range.
+     *
+     * @pre.    dictionary is the dictionary the index was built from
+     *
+     * @param dictionary The dictionary of valid words (pairs come from the index)
+     * @return A new LadderLengthWordStrategy instance
+     */
+    @Override
+    public WordGenerationStrategy createStrategy(WordDictionary dictionary) {
+        return new LadderLengthWordStrategy(index, minLength, maxLength);
+    }
+}
@@ -0,0 +1,68 @@
+import exceptions.WordGenerationException;
+import java.util.ArrayList;
+import java.util.Random;
+
+/**
+ * A word generation strategy that selects a start and target word whose shortest ladder
+ * has a requested length, enabling difficulty levels (e.g. 2–3 moves for easy, 7+ for hard).
+ * Pairs are drawn in constant time from a precomputed {@link LadderPairIndex}.
+ *
+ * <p><b>Class Invariant:</b>
+ * <ul>
+ *   <li>{@code index} ≠ null</li>
+ *   <li>1 ≤ {@code minLength} ≤ {@code maxLength}</li>
+ * </ul>
+ */
+public class LadderLengthWordStrategy implements WordGenerationStrategy {
+    private final LadderPairIndex index;
+    private final int minLength;
+    private final int maxLength;
+    private final Random random = new Random();
+
+    /**
+     * Constructs a strategy that draws pairs with a ladder length in [minLength, maxLength].
+     *
+     * @pre.    index ≠ null ∧ 1 ≤ minLength ≤ maxLength
+     * @post.   this.minLength == minLength ∧ this.maxLength == maxLength
+     *
+     * @param index     The index of word pairs bucketed by ladder length
+     * @param minLength Minimum ladder length in moves (inclusive)
+     * @param maxLength Maximum ladder length in moves (inclusive)
+     */
+    public LadderLengthWordStrategy(LadderPairIndex index, int minLength, int maxLength) {
+        this.index = index;
+        this.minLength = minLength;
+        this.maxLength = maxLength;
+    }
+
+    /**
+     * Generates a pair [initialWord, targetWord] whose shortest ladder length is in range.
+     *
+     * @pre.    dictionary is the dictionary the index was built from
+     * @post.   returned words are distinct, in the dictionary, and minLength ≤ par ≤ maxLength
+     *
+     * @param dictionary Ignored in this implementation; uses the index's dictionary instead
+     * @return An array containing [initialWord, targetWord]
+     * @throws WordGenerationException if no pair in the dictionary has a ladder length in range
+     */
+    @Override
+    public String[] generateWords(WordDictionary dictionary) {
+        String[] pair = index.sample(minLength, maxLength, random);
+        if (pair == null) {
+            throw new WordGenerationException("No word pair has a ladder length between "
+                    + minLength + " and " + maxLength + ".");
+        }
+        return pair;
+    }
+
+    /**
+     * Gets the solution path for the game.
+     * This strategy does not provide a predefined path.
+     *
+     * @return null, since no specific solution path is available
+     */
+    @Override
+    public ArrayList<String> getPath() {
+        return null;
+    }
+}
@@ -0,0 +1,155 @@
+import java.util.Random;
+
+/**
+ * An index of connected word pairs bucketed by their shortest ladder length.
+ * Built once from a {@link DistanceOracle}, it lets a puzzle with an exact par (or a par in a range)
+ * be drawn in constant time, with no trial-and-error path searches.
+ *
+ * <p>For every distance the index keeps the exact number of unordered pairs at that distance and a
+ * uniform reservoir sample of at most {@code capacity} of them (packed as {@code a * size + b}).
+ * A draw first picks a distance in proportion to its true pair count, then a pair from that
+ * distance's sample, then a random orientation.</p>
+ *
+ * <p><b>Class Invariant:</b>
+ * <ul>
+ *   <li>{@code counts[d]} is the number of unordered pairs {a, b} with distance(a, b) == d</li>
+ *   <li>{@code samples[d].length == min(counts[d], capacity)} and every sampled pair has distance d</li>
+ * </ul>
+ */
+public final class LadderPairIndex {
+
+    /** Default maximum number of pairs sampled per distance. */
+    public static final int DEFAULT_CAPACITY = 1 << 16;
+
+    private final WordGraph graph;
+    private final long[] counts;
+    private final int[][] samples;
+
+    /**
+     * Builds the index with the default per-distance capacity.
+     *
+     * @pre.    oracle ≠ null
+     *
+     * @param oracle The all-pairs distance table
+     */
+    public LadderPairIndex(DistanceOracle oracle) {
+        this(oracle, DEFAULT_CAPACITY, new Random());
+    }
+
+    /**
+     * Builds the index by scanning every unordered pair of the distance table once.
+     *
+     * @pre.    oracle ≠ null ∧ capacity > 0 ∧ random ≠ null
+     * @post.   every distance that occurs has a non-empty sample
+     *
+     * @param oracle   The all-pairs distance table
+     * @param capacity Maximum number of pairs kept per distance
+     * @param random   Source of randomness for reservoir sampling
+     */
+    public LadderPairIndex(DistanceOracle oracle, int capacity, Random random) {
+        this.graph = oracle.getGraph();
+        int size = graph.size();
+        long[] pairCounts = new long[DistanceOracle.UNREACHABLE];
+        int[][] reservoirs = new int[DistanceOracle.UNREACHABLE][];
+        int maxDistance = 0;
+
+        for (int a = 0; a < size; a++) {
+            for (int b = a + 1; b < size; b++) {
+                int distance = oracle.distance(a, b);
+                if (distance <= 0) {
+                    continue;
+                }
+                long seen = pairCounts[distance]++;
+                if (reservoirs[distance] == null) {
+                    reservoirs[distance] = new int[capacity];
+                }
+                if (seen < capacity) {
+                    reservoirs[distance][(int) seen] = a * size + b;
+                } else {
+                    long slot = (long) (random.nextDouble() * (seen + 1));
+                    if (slot < capacity) {
+                        reservoirs[distance][(int) slot] = a * size + b;
+                    }
+                }
+                maxDistance = Math.max(maxDistance, distance);
+            }
+        }
+
+        this.counts = new long[maxDistance + 1];
+        this.samples = new int[maxDistance + 1][];
+        for (int d = 0; d <= maxDistance; d++) {
+            counts[d] = pairCounts[d];
+            int kept = (int) Math.min(pairCounts[d], capacity);
+            samples[d] = new int[kept];
+            if (kept > 0) {
+                System.arraycopy(reservoirs[d], 0, samples[d], 0, kept);
+            }
+        }
+    }
+
+    /**
+     * Gets the longest ladder length present in the dictionary.
+     *
+     * @return The maximum shortest-path length over all connected pairs
+     */
+    public int getMaxLength() {
+        return counts.length - 1;
+    }
+
+    /**
+     * Gets the number of unordered word pairs whose shortest ladder has the given length.
+     *
+     * @param length The ladder length in moves
+     * @return The pair count (0 if the length does not occur)
+     */
+    public long countPairs(int length) {
+        return (length > 0 && length < counts.length) ? counts[length] : 0;
+    }
+
+    /**
+     * Draws a word pair whose shortest ladder length lies in [minLength, maxLength].
+     * Lengths are weighted by how many pairs have them, so every qualifying pair is (up to the
+     * per-distance sample) equally likely.
+     *
+     * @pre.    random ≠ null
+     * @post.   returns null iff no pair has a length in the range
+     *
+     * @param minLength Minimum ladder length in moves (inclusive)
+     * @param maxLength Maximum ladder length in moves (inclusive)
+     * @param random    Source of randomness
+     * @return An array [initialWord, targetWord], or null if no pair qualifies
+     */
+    public String[] sample(int minLength, int maxLength, Random random) {
+        int from = Math.max(1, minLength);
+        int to = Math.min(getMaxLength(), maxLength);
+        long total = 0;
+        for (int d = from; d <= to; d++) {
+            total += counts[d];
+        }
+        if (total == 0) {
+            return null;
+        }
+
+        long pick = (long) (random.nextDouble() * total);
+        int length = from;
+        while (pick >= counts[length]) {
+            pick -= counts[length];
+            length++;
+        }
+
+        int size = graph.size();
+        int packed = samples[length][random.nextInt(samples[length].length)];
+        String first = graph.wordAt(packed / size);
+        String second = graph.wordAt(packed % size);
+        return random.nextBoolean() ? new String[]{first, second} : new String[]{second, first};
+    }
+
+    /**
+     * Gets the word graph whose words the pairs refer to.
+     *
+     * @return The word-ladder graph
+     */
+    public WordGraph getGraph() {
+        return graph;
+    }
+}
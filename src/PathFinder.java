@@ -1,71 +1,325 @@
+import profiling.PathSearchEvent;
 import java.util.*;
 
 /**
  * A utility class for finding word transformation paths and validating them.
  * Provides methods to:
- * - Find a path from an initial word to a target word using BFS
+ * - Find a path from an initial word to a target word using BFS or bidirectional BFS
  * - Generate validation results for each step in the path
  */
 public class PathFinder {
 
+    // Validators are stateless, so one instance scores the steps of every path
+    private static final WordValidator PATH_STEP_VALIDATOR = new BasicValidator();
+
+    /**
+     * The algorithm used to search the word-ladder graph.
+     */
+    public enum SearchMode {
+        /** Classic BFS outward from the initial word. */
+        BREADTH_FIRST,
+        /** BFS from both ends, always expanding the smaller frontier; visits far fewer words on large dictionaries. */
+        BIDIRECTIONAL
+    }
+
     /**
      * Finds the shortest transformation path from the initial word to the target word,
      * using Breadth-First Search (BFS) over the dictionary of valid words.
+     * Reuses the shared graph for the bundled dictionary and builds a throwaway {@link WordGraph} for any
+     * other; callers that search another dictionary repeatedly should build the graph once and use
+     * {@link #findPathByBFS(String, String, WordGraph)} instead.
      *
      * @param initial   The starting word
      * @param target    The target word to reach
-     * @param dictionary A list of valid words that can be used in transformations
+     * @param dictionary The dictionary of valid words that can be used in transformations
+     * @return An ArrayList containing the sequence of words from initial to target, or an empty list if no path exists
+     */
+    public static ArrayList<String> findPathByBFS(String initial, String target, WordDictionary dictionary) {
+        return findPathByBFS(initial, target, CompiledDictionary.graphOf(dictionary));
+    }
+
+    /**
+     * Finds the shortest transformation path from the initial word to the target word,
+     * using Breadth-First Search (BFS) over a prebuilt word-ladder graph.
+     * Only traverses the graph's adjacency arrays; the graph itself is never rebuilt.
+     *
+     * @pre.    graph ≠ null
+     * @post.   returned path starts with initial and ends with target, consecutive words are adjacent
+     *          in graph, or the returned list is empty if either word is missing or unreachable
+     *
+     * @param initial The starting word
+     * @param target  The target word to reach
+     * @param graph   The word-ladder graph of the dictionary
+     * @return An ArrayList containing the sequence of words from initial to target, or an empty list if no path exists
+     */
+    public static ArrayList<String> findPathByBFS(String initial, String target, WordGraph graph) {
+        return search(initial, target, graph, SearchMode.BREADTH_FIRST).getPath();
+    }
+
+    /**
+     * Finds the shortest transformation path from the initial word to the target word
+     * using the given search mode. Every mode returns a path of the same (shortest) length,
+     * though the intermediate words may differ when several shortest paths exist.
+     *
+     * @pre.    graph ≠ null ∧ mode ≠ null
+     * @post.   same as {@link #findPathByBFS(String, String, WordGraph)}
+     *
+     * @param initial The starting word
+     * @param target  The target word to reach
+     * @param graph   The word-ladder graph of the dictionary
+     * @param mode    The search algorithm to use
      * @return An ArrayList containing the sequence of words from initial to target, or an empty list if no path exists
      */
-    public static ArrayList<String> findPathByBFS(String initial, String target, ArrayList<String> dictionary) {
-        Set<String> dictSet = new HashSet<>(dictionary);
-        if (!dictSet.contains(target)) {
-            return new ArrayList<>();
+    public static ArrayList<String> findPath(String initial, String target, WordGraph graph, SearchMode mode) {
+        return search(initial, target, graph, mode).getPath();
+    }
+
+    /**
+     * Runs a path search and reports the path together with how many words were visited.
+     *
+     * @pre.    graph ≠ null ∧ mode ≠ null
+     * @post.   result.getPath() satisfies the postcondition of {@link #findPathByBFS(String, String, WordGraph)}
+     *          result.getVisitedCount() ≥ 0
+     *
+     * @param initial The starting word
+     * @param target  The target word to reach
+     * @param graph   The word-ladder graph of the dictionary
+     * @param mode    The search algorithm to use
+     * @return The search result
+     */
+    public static PathSearchResult search(String initial, String target, WordGraph graph, SearchMode mode) {
+        int targetId = graph.indexOf(target);
+        if (targetId < 0) {
+            return new PathSearchResult(new ArrayList<>(), 0, mode);
         }
         if (initial.equals(target)) {
             ArrayList<String> result = new ArrayList<>();
             result.add(initial);
-            return result;
+            return new PathSearchResult(result, 1, mode);
+        }
+        int initialId = graph.indexOf(initial);
+        if (initialId < 0) {
+            return new PathSearchResult(new ArrayList<>(), 0, mode);
         }
 
+        long start = GameMetrics.startTimer();
+        PathSearchEvent event = new PathSearchEvent();
+        event.begin();
+        PathSearchResult result;
+        switch (mode) {
+            case BIDIRECTIONAL:
+                result = searchBidirectional(initialId, targetId, graph);
+                break;
+            case BREADTH_FIRST:
+            default:
+                result = searchBreadthFirst(initialId, targetId, graph);
+        }
+        GameMetrics.PATH_SEARCH.recordSince(start);
+        GameMetrics.PATH_VISITED.record(result.getVisitedCount());
+        if (event.shouldCommit()) {
+            event.source = initial;
+            event.target = target;
+            event.mode = mode.name();
+            event.visitedCount = result.getVisitedCount();
+            event.pathLength = result.getPath().size() - 1;
+            event.commit();
+        }
+        return result;
+    }
 
-        Map<String, List<String>> patternMap = new LinkedHashMap<>();
-        for (String word : dictSet) {
-            for (int i = 0; i < word.length(); i++) {
-                String pattern = word.substring(0, i) + '*' + word.substring(i + 1);
-                patternMap.computeIfAbsent(pattern, k -> new ArrayList<>()).add(word);
+    /**
+     * One-sided BFS from the initial word until the target word is discovered.
+     * Visited words and parent links live in reusable int arrays indexed by word ID,
+     * so the traversal allocates nothing per visited word; the path is rebuilt once at the end.
+     *
+     * @param initialId ID of the starting word
+     * @param targetId  ID of the target word (≠ initialId)
+     * @param graph     The word-ladder graph
+     * @return The search result
+     */
+    private static PathSearchResult searchBreadthFirst(int initialId, int targetId, WordGraph graph) {
+        SearchScratch scratch = SearchScratch.acquire(graph.size());
+        int epoch = scratch.epoch;
+        int[] mark = scratch.mark[0];
+        int[] parent = scratch.parent[0];
+        int[] queue = scratch.frontier[0];
+        int head = 0;
+        int tail = 0;
+
+        queue[tail++] = initialId;
+        mark[initialId] = epoch;
+        parent[initialId] = -1;
+
+        while (head < tail) {
+            int currentId = queue[head++];
+            for (int k = graph.neighborStart(currentId); k < graph.neighborEnd(currentId); k++) {
+                int neighborId = graph.neighborAt(k);
+                if (mark[neighborId] != epoch) {
+                    mark[neighborId] = epoch;
+                    parent[neighborId] = currentId;
+                    if (neighborId == targetId) {
+                        return new PathSearchResult(tracePath(targetId, parent, graph), tail + 1, SearchMode.BREADTH_FIRST);
+                    }
+                    queue[tail++] = neighborId;
+                }
             }
         }
 
-        Queue<ArrayList<String>> queue = new LinkedList<>();
-        Set<String> visited = new HashSet<>();
-        ArrayList<String> initialPath = new ArrayList<>();
-        initialPath.add(initial);
-        queue.add(initialPath);
-        visited.add(initial);
-
-        while (!queue.isEmpty()) {
-            ArrayList<String> currentPath = queue.poll();
-            String currentWord = currentPath.get(currentPath.size() - 1);
-
-            for (int i = 0; i < currentWord.length(); i++) {
-                String pattern = currentWord.substring(0, i) + '*' + currentWord.substring(i + 1);
-                List<String> neighbors = patternMap.getOrDefault(pattern, new ArrayList<>());
-                for (String neighbor : neighbors) {
-                    if (!visited.contains(neighbor)) {
-                        visited.add(neighbor);
-                        ArrayList<String> newPath = new ArrayList<>(currentPath);
-                        newPath.add(neighbor);
-                        if (neighbor.equals(target)) {
-                            return newPath;
+        return new PathSearchResult(new ArrayList<>(), tail, SearchMode.BREADTH_FIRST);
+    }
+
+    /**
+     * Bidirectional BFS: grows one frontier from the initial word and one from the target word,
+     * always expanding a full level of the smaller frontier. When a level reaches words already
+     * seen from the other side, the meeting word with the smallest combined depth is chosen, which
+     * yields the same shortest-path length as one-sided BFS.
+     *
+     * @param initialId ID of the starting word
+     * @param targetId  ID of the target word (≠ initialId)
+     * @param graph     The word-ladder graph
+     * @return The search result
+     */
+    private static PathSearchResult searchBidirectional(int initialId, int targetId, WordGraph graph) {
+        SearchScratch scratch = SearchScratch.acquire(graph.size());
+        int epoch = scratch.epoch;
+        // Side 0 searches from the initial word, side 1 from the target word
+        int[][] mark = scratch.mark;
+        int[][] depth = scratch.depth;
+        int[][] parent = scratch.parent;
+        int[][] frontier = scratch.frontier;
+        int[] next = scratch.next;
+        int[] frontierSize = {1, 1};
+        int[] levels = {0, 0};
+
+        frontier[0][0] = initialId;
+        mark[0][initialId] = epoch;
+        depth[0][initialId] = 0;
+        parent[0][initialId] = -1;
+        frontier[1][0] = targetId;
+        mark[1][targetId] = epoch;
+        depth[1][targetId] = 0;
+        parent[1][targetId] = -1;
+        int visitedCount = 2;
+
+        while (frontierSize[0] > 0 && frontierSize[1] > 0) {
+            int side = frontierSize[0] <= frontierSize[1] ? 0 : 1;
+            int other = 1 - side;
+            int[] ownMark = mark[side];
+            int[] otherMark = mark[other];
+            int[] ownDepth = depth[side];
+            int[] otherDepth = depth[other];
+            int[] ownParent = parent[side];
+            int[] current = frontier[side];
+            int nextSize = 0;
+            int meet = -1;
+            int bestLength = Integer.MAX_VALUE;
+
+            for (int f = 0; f < frontierSize[side]; f++) {
+                int currentId = current[f];
+                for (int k = graph.neighborStart(currentId); k < graph.neighborEnd(currentId); k++) {
+                    int neighborId = graph.neighborAt(k);
+                    if (ownMark[neighborId] != epoch) {
+                        ownMark[neighborId] = epoch;
+                        ownDepth[neighborId] = levels[side] + 1;
+                        ownParent[neighborId] = currentId;
+                        visitedCount++;
+                        next[nextSize++] = neighborId;
+                        if (otherMark[neighborId] == epoch && ownDepth[neighborId] + otherDepth[neighborId] < bestLength) {
+                            bestLength = ownDepth[neighborId] + otherDepth[neighborId];
+                            meet = neighborId;
                         }
-                        queue.add(newPath);
                     }
                 }
             }
+
+            if (meet >= 0) {
+                return new PathSearchResult(joinPath(meet, parent[0], parent[1], graph), visitedCount, SearchMode.BIDIRECTIONAL);
+            }
+            frontier[side] = next;
+            next = current;
+            scratch.next = next;
+            frontierSize[side] = nextSize;
+            levels[side]++;
         }
 
-        return new ArrayList<>();
+        return new PathSearchResult(new ArrayList<>(), visitedCount, SearchMode.BIDIRECTIONAL);
+    }
+
+    /**
+     * Rebuilds the path ending at the given word by following parent links back to the root.
+     *
+     * @param endId  ID of the last word of the path
+     * @param parent Parent links, -1 at the root
+     * @param graph  The word-ladder graph
+     * @return The path from the root to endId
+     */
+    private static ArrayList<String> tracePath(int endId, int[] parent, WordGraph graph) {
+        ArrayList<String> path = new ArrayList<>();
+        for (int id = endId; id >= 0; id = parent[id]) {
+            path.add(graph.wordAt(id));
+        }
+        Collections.reverse(path);
+        return path;
+    }
+
+    /**
+     * Rebuilds the full path through the meeting word from the two parent arrays.
+     *
+     * @param meet           ID of the word reached from both sides
+     * @param forwardParent  Parent links toward the initial word
+     * @param backwardParent Parent links toward the target word
+     * @param graph          The word-ladder graph
+     * @return The path from the initial word to the target word
+     */
+    private static ArrayList<String> joinPath(int meet, int[] forwardParent, int[] backwardParent, WordGraph graph) {
+        ArrayList<String> path = tracePath(meet, forwardParent, graph);
+        for (int id = backwardParent[meet]; id >= 0; id = backwardParent[id]) {
+            path.add(graph.wordAt(id));
+        }
+        return path;
+    }
+
+    /**
+     * Per-thread working arrays for path searches, reused across calls so back-to-back searches
+     * do not allocate O(words) arrays each time. Instead of clearing the arrays, every search
+     * takes a new epoch number and treats a word as visited only if its mark equals that epoch;
+     * depth and parent entries are meaningful only for marked words.
+     */
+    private static final class SearchScratch {
+        private static final ThreadLocal<SearchScratch> LOCAL = ThreadLocal.withInitial(SearchScratch::new);
+
+        private int epoch;
+        private int[][] mark = new int[2][0];
+        private int[][] depth = new int[2][0];
+        private int[][] parent = new int[2][0];
+        private int[][] frontier = new int[2][0];
+        private int[] next = new int[0];
+
+        /**
+         * Gets this thread's scratch space, sized for at least {@code size} words, with a fresh epoch.
+         *
+         * @param size Number of words in the graph being searched
+         * @return The scratch space
+         */
+        static SearchScratch acquire(int size) {
+            SearchScratch scratch = LOCAL.get();
+            if (scratch.next.length < size) {
+                for (int side = 0; side < 2; side++) {
+                    scratch.mark[side] = new int[size];
+                    scratch.depth[side] = new int[size];
+                    scratch.parent[side] = new int[size];
+                    scratch.frontier[side] = new int[size];
+                }
+                scratch.next = new int[size];
+                scratch.epoch = 0;
+            }
+            if (++scratch.epoch == Integer.MAX_VALUE) {
+                Arrays.fill(scratch.mark[0], 0);
+                Arrays.fill(scratch.mark[1], 0);
+                scratch.epoch = 1;
+            }
+            return scratch;
+        }
     }
 
     /**
@@ -77,19 +331,16 @@ public class PathFinder {
      * @param dictionary The dictionary of valid words
      * @return An ArrayList of ValidationResult objects corresponding to each step in the path
      */
-    public static ArrayList<ValidationResult> getValidations(String target, ArrayList<String> path, ArrayList<String> dictionary) {
+    public static ArrayList<ValidationResult> getValidations(String target, ArrayList<String> path, WordDictionary dictionary) {
         ArrayList<ValidationResult> validationResults = new ArrayList<>();
         if (path == null || path.size() <= 1) {
             return validationResults;
         }
 
-        WordValidator pathStepValidator = new BasicValidator();
-
-
         for (int i = 1; i < path.size(); i++) {
             String currentWord = path.get(i);
 
-            ValidationResult result = pathStepValidator.validate(currentWord, target, dictionary);
+            ValidationResult result = PATH_STEP_VALIDATOR.validate(currentWord, target, dictionary);
             validationResults.add(result);
         }
         return validationResults;
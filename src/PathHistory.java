@@ -0,0 +1,128 @@
+import java.util.List;
+
+/**
+ * An immutable, structurally shared history of a game's moves: a cons-list whose nodes each hold
+ * one step (the word played and its validation result) and point to the previous step.
+ * The root node holds the initial word and no result.
+ *
+ * <p>Appending a move creates one node and shares every earlier node, so it takes O(1) time and space
+ * regardless of the path length, and any node is a complete, never-changing snapshot of the game up
+ * to that step. Resetting a game is just going back to {@link #root()}.</p>
+ *
+ * <p><b>Class Invariant:</b>
+ * <ul>
+ *   <li>{@code depth == 0} iff {@code parent == null} iff {@code result == null}</li>
+ *   <li>{@code depth == parent.depth + 1} for every non-root node</li>
+ *   <li>{@code root} is the node reached by following {@code parent} to the end</li>
+ * </ul>
+ */
+public final class PathHistory {
+    private final String word;
+    private final ValidationResult result;
+    private final PathHistory parent;
+    private final PathHistory root;
+    private final int depth;
+
+    private PathHistory(String word, ValidationResult result, PathHistory parent) {
+        this.word = word;
+        this.result = result;
+        this.parent = parent;
+        this.root = (parent == null) ? this : parent.root;
+        this.depth = (parent == null) ? 0 : parent.depth + 1;
+    }
+
+    /**
+     * Starts a history at the initial word.
+     *
+     * @param initialWord The initial word of the game
+     * @return The root node
+     */
+    public static PathHistory start(String initialWord) {
+        return new PathHistory(initialWord, null, null);
+    }
+
+    /**
+     * Records a move after this step, leaving this node unchanged.
+     *
+     * @pre.    word ≠ null ∧ result ≠ null
+     * @post.   returned.getParent() == this ∧ returned.getDepth() == getDepth() + 1
+     *
+     * @param word   The word played
+     * @param result The word's validation result
+     * @return The new latest step
+     */
+    public PathHistory append(String word, ValidationResult result) {
+        return new PathHistory(word, result, this);
+    }
+
+    /**
+     * Gets the word played at this step (the initial word at the root).
+     *
+     * @return The word
+     */
+    public String getWord() {
+        return word;
+    }
+
+    /**
+     * Gets the validation result of this step.
+     *
+     * @return The result, or null at the root
+     */
+    public ValidationResult getResult() {
+        return result;
+    }
+
+    /**
+     * Gets the previous step.
+     *
+     * @return The parent node, or null at the root
+     */
+    public PathHistory getParent() {
+        return parent;
+    }
+
+    /**
+     * Gets the first step of the history, holding the initial word.
+     *
+     * @return The root node
+     */
+    public PathHistory root() {
+        return root;
+    }
+
+    /**
+     * Gets the number of moves made up to this step.
+     *
+     * @return 0 at the root, otherwise the parent's depth plus one
+     */
+    public int getDepth() {
+        return depth;
+    }
+
+    /**
+     * Lists the words from the initial word up to this step.
+     *
+     * @return An unmodifiable list of getDepth() + 1 words
+     */
+    public List<String> words() {
+        String[] words = new String[depth + 1];
+        for (PathHistory node = this; node != null; node = node.parent) {
+            words[node.depth] = node.word;
+        }
+        return List.of(words);
+    }
+
+    /**
+     * Lists the validation results of the moves up to this step.
+     *
+     * @return An unmodifiable list of getDepth() results
+     */
+    public List<ValidationResult> results() {
+        ValidationResult[] results = new ValidationResult[depth];
+        for (PathHistory node = this; node.parent != null; node = node.parent) {
+            results[node.depth - 1] = node.result;
+        }
+        return List.of(results);
+    }
+}
@@ -0,0 +1,63 @@
+import java.util.ArrayList;
+
+/**
+ * Represents the outcome of a single path search performed by {@link PathFinder}.
+ * Contains:
+ * - The shortest path found (empty if the target is unreachable)
+ * - The number of words the search visited before it stopped
+ * - The search mode that produced it
+ */
+public class PathSearchResult {
+    private final ArrayList<String> path;
+    private final int visitedCount;
+    private final PathFinder.SearchMode mode;
+
+    /**
+     * Constructs a PathSearchResult.
+     *
+     * @param path         The path from initial to target word, or an empty list if none exists
+     * @param visitedCount The number of distinct words marked visited during the search
+     * @param mode         The search mode used
+     */
+    public PathSearchResult(ArrayList<String> path, int visitedCount, PathFinder.SearchMode mode) {
+        this.path = path;
+        this.visitedCount = visitedCount;
+        this.mode = mode;
+    }
+
+    /**
+     * Gets the path found by the search.
+     *
+     * @return The sequence of words from initial to target, or an empty list if no path exists
+     */
+    public ArrayList<String> getPath() {
+        return path;
+    }
+
+    /**
+     * Gets the number of words visited by the search.
+     *
+     * @return The visited word count
+     */
+    public int getVisitedCount() {
+        return visitedCount;
+    }
+
+    /**
+     * Gets the search mode that produced this result.
+     *
+     * @return The search mode
+     */
+    public PathFinder.SearchMode getMode() {
+        return mode;
+    }
+
+    /**
+     * Checks whether a path was found.
+     *
+     * @return true if the path is non-empty
+     */
+    public boolean isFound() {
+        return !path.isEmpty();
+    }
+}
@@ -6,33 +6,35 @@ import java.util.Map;
 /**
  * A pop-up window that displays the full solution path from the initial word to the target word.
  * Each word is displayed in a colored panel, showing how each letter matches the target word.
+ *
+ * <p>The window can be opened before the path is known: it then shows a placeholder until
+ * {@link #showSolution(ArrayList, ArrayList)} fills it in with a path computed in the background.</p>
  */
 public class PathSolutionView extends JFrame {
 
-    // The list of words forming the solution path
-    private final ArrayList<String> solutionPath;
-
-    // The target word the player is trying to reach
-    private final String targetWord;
-
-    // Dictionary used for validating steps in the solution path
-    private final ArrayList<String> dictionary;
-
     /**
      * Constructs a new PathSolutionView with the given solution path, target word, and dictionary.
+     * The feedback of each step is computed on the calling thread.
      *
      * @param solutionPath The sequence of words from the initial word to the target word
      * @param targetWord   The final word the player should reach
      * @param dictionary   The dictionary of valid words
      */
-    public PathSolutionView(ArrayList<String> solutionPath, String targetWord, ArrayList<String> dictionary) {
-        this.solutionPath = solutionPath;
-        this.targetWord = targetWord;
-        this.dictionary = dictionary;
+    public PathSolutionView(ArrayList<String> solutionPath, String targetWord, WordDictionary dictionary) {
+        this(solutionPath != null && !solutionPath.isEmpty() ? solutionPath.get(0) : null, targetWord);
+        showSolution(solutionPath, PathFinder.getValidations(targetWord, solutionPath, dictionary));
+    }
 
+    /**
+     * Constructs a PathSolutionView that shows a placeholder until the solution is set.
+     *
+     * @param initialWord The initial word of the game, or null if unknown
+     * @param targetWord  The final word the player should reach
+     */
+    public PathSolutionView(String initialWord, String targetWord) {
         // Set up the window properties
-        if (solutionPath != null && !solutionPath.isEmpty()) {
-            setTitle("Solution Path: " + solutionPath.get(0) + " to " + (targetWord != null ? targetWord : "____"));
+        if (initialWord != null) {
+            setTitle("Solution Path: " + initialWord + " to " + (targetWord != null ? targetWord : "____"));
         } else {
             setTitle("Solution Path");
         }
@@ -40,15 +42,32 @@ public class PathSolutionView extends JFrame {
         setDefaultCloseOperation(JFrame.DISPOSE_ON_CLOSE);
         setLayout(new BoxLayout(getContentPane(), BoxLayout.Y_AXIS));
 
-        // Generate validation results for each step in the path
-        ArrayList<ValidationResult> validationResults = PathFinder.getValidations(this.targetWord, this.solutionPath, this.dictionary);
+        JPanel placeholder = new JPanel(new FlowLayout(FlowLayout.CENTER, 5, 5));
+        placeholder.add(new JLabel("Computing solution path..."));
+        add(placeholder);
+
+        pack();
+        setLocationRelativeTo(null); // Center the window on screen
+    }
+
+    /**
+     * Replaces the window's content with the solution path. Must be called on the Event Dispatch Thread.
+     *
+     * @pre.    validationResults is null or holds the feedback of solutionPath's steps after the first
+     * @post.   the window shows one colored panel per word of solutionPath
+     *
+     * @param solutionPath      The sequence of words from the initial word to the target word
+     * @param validationResults The feedback of each step, as computed by {@link PathFinder#getValidations}
+     */
+    public void showSolution(ArrayList<String> solutionPath, ArrayList<ValidationResult> validationResults) {
+        getContentPane().removeAll();
 
         // Display each word in the path
-        if (this.solutionPath != null && !this.solutionPath.isEmpty()) {
-            add(createWordPanel(this.solutionPath.get(0), null)); // Initial word has no validation result
+        if (solutionPath != null && !solutionPath.isEmpty()) {
+            add(createWordPanel(solutionPath.get(0), null)); // Initial word has no validation result
 
-            for (int i = 1; i < this.solutionPath.size(); i++) {
-                String currentWord = this.solutionPath.get(i);
+            for (int i = 1; i < solutionPath.size(); i++) {
+                String currentWord = solutionPath.get(i);
                 ValidationResult result = (validationResults != null && validationResults.size() > i - 1)
                         ? validationResults.get(i - 1) : null;
 
@@ -59,8 +78,9 @@ public class PathSolutionView extends JFrame {
         // Add vertical glue to align content to the top
         add(Box.createVerticalGlue());
 
+        revalidate();
         pack();
-        setLocationRelativeTo(null); // Center the window on screen
+        repaint();
     }
 
     /**
@@ -1,5 +1,3 @@
-import java.util.ArrayList;
-
 /**
  * A factory class that creates a word generation strategy based on randomness.
  * This factory produces instances of {@link RandomWordStrategy}, which selects
@@ -16,7 +14,7 @@ public class RandomStrategyFactory implements StrategyFactory {
      * @return A new instance of {@link WordGenerationStrategy} that uses random word selection
      */
     @Override
-    public WordGenerationStrategy createStrategy(ArrayList<String> dictionary) {
+    public WordGenerationStrategy createStrategy(WordDictionary dictionary) {
         return new RandomWordStrategy(dictionary);
     }
 }
\ No newline at end of file
@@ -9,14 +9,14 @@ import java.util.Random;
 public class RandomWordStrategy implements WordGenerationStrategy {
 
     // The dictionary of valid words used for random selection
-    private final ArrayList<String> dictionary;
+    private final WordDictionary dictionary;
 
     /**
      * Constructs a new RandomWordStrategy with the given dictionary.
      *
      * @param dictionary The list of valid words to choose from
      */
-    public RandomWordStrategy(ArrayList<String> dictionary) {
+    public RandomWordStrategy(WordDictionary dictionary) {
         this.dictionary = dictionary;
     }
 
@@ -32,7 +32,7 @@ public class RandomWordStrategy implements WordGenerationStrategy {
      * @throws WordGenerationException if there are not enough valid words in the dictionary
      */
     @Override
-    public String[] generateWords(ArrayList<String> dictionary) {
+    public String[] generateWords(WordDictionary dictionary) {
         if (this.dictionary.size() < 2) {
             throw new WordGenerationException("Insufficient valid words");
         }
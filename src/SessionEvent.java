@@ -0,0 +1,56 @@
+/**
+ * An immutable event published by {@link WeaverEngine} when a session's state changes.
+ * Async subscribers of the engine's {@link GameEventBus} coalesce these per session ID.
+ * The engine publishes each session's events in increasing sequence order.
+ */
+public class SessionEvent {
+
+    // The ID of the session that changed
+    private final String sessionId;
+
+    // Snapshot of the session after the change
+    private final GameState state;
+
+    // Position of the change among the session's changes
+    private final long sequence;
+
+    /**
+     * Constructs a new SessionEvent.
+     *
+     * @param sessionId The ID of the session that changed
+     * @param state     Snapshot of the session after the change
+     * @param sequence  Position of the change among the session's changes
+     */
+    public SessionEvent(String sessionId, GameState state, long sequence) {
+        this.sessionId = sessionId;
+        this.state = state;
+        this.sequence = sequence;
+    }
+
+    /**
+     * Gets the ID of the session that changed.
+     *
+     * @return The session ID
+     */
+    public String getSessionId() {
+        return sessionId;
+    }
+
+    /**
+     * Gets the session's state after the change.
+     *
+     * @return The shared, immutable snapshot
+     */
+    public GameState getState() {
+        return state;
+    }
+
+    /**
+     * Gets the position of the change among the session's changes.
+     *
+     * @return The sequence number; later changes of the session have larger numbers
+     */
+    public long getSequence() {
+        return sequence;
+    }
+}
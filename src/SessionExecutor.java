@@ -0,0 +1,322 @@
+import java.util.ArrayList;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Runs the command stream of every {@link WeaverEngine} session asynchronously, without dedicating a
+ * platform thread to each session.
+ *
+ * <p>Every session has a mailbox; its commands run one at a time, in submission order, on a task of the
+ * command executor. On runtimes with virtual threads (Java 21+), that executor starts one virtual thread
+ * per task, so each session's command stream runs on its own virtual thread; on older runtimes a
+ * work-stealing pool with one platform thread per core is used instead. Either way, thousands of idle
+ * sessions cost no threads.</p>
+ *
+ * <p>Shortest-path searches are CPU-bound, so they are offloaded to a separate fork-join pool of bounded
+ * parallelism; they can never occupy all the threads that run moves.</p>
+ *
+ * <p>The executor counts completed commands and searches and their total latency (submission to
+ * completion), to compare the throughput of this mode with thread-per-session execution.</p>
+ */
+public class SessionExecutor implements AutoCloseable {
+
+    private final WeaverEngine engine;
+    private final ExecutorService commandExecutor;
+    private final ForkJoinPool searchPool;
+    private final boolean virtualThreads;
+    private final ConcurrentHashMap<String, Mailbox> mailboxes = new ConcurrentHashMap<>();
+    private final long startNanos = System.nanoTime();
+
+    private final LongAdder completedCommands = new LongAdder();
+    private final LongAdder commandLatencyNanos = new LongAdder();
+    private final LongAdder completedSearches = new LongAdder();
+    private final LongAdder searchLatencyNanos = new LongAdder();
+
+    /**
+     * Constructs an executor that uses virtual threads when the runtime supports them, and a search
+     * pool with one thread per core.
+     *
+     * @pre.    engine ≠ null
+     *
+     * @param engine The engine whose sessions are driven
+     */
+    public SessionExecutor(WeaverEngine engine) {
+        this(engine, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Constructs an executor that uses virtual threads when the runtime supports them.
+     *
+     * @pre.    engine ≠ null ∧ searchParallelism > 0
+     *
+     * @param engine            The engine whose sessions are driven
+     * @param searchParallelism Maximum number of concurrent path searches
+     */
+    public SessionExecutor(WeaverEngine engine, int searchParallelism) {
+        this.engine = engine;
+        ExecutorService virtual = newVirtualThreadPerTaskExecutor();
+        this.virtualThreads = virtual != null;
+        this.commandExecutor = virtualThreads ? virtual : new ForkJoinPool(
+                Runtime.getRuntime().availableProcessors(), ForkJoinPool.defaultForkJoinWorkerThreadFactory, null, true);
+        this.searchPool = new ForkJoinPool(searchParallelism);
+    }
+
+    /**
+     * Creates {@code Executors.newVirtualThreadPerTaskExecutor()} reflectively, so the game still
+     * compiles and runs on runtimes without virtual threads.
+     *
+     * @return The executor, or null if virtual threads are unavailable
+     */
+    private static ExecutorService newVirtualThreadPerTaskExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Creates a random session. The pair is generated on the search pool.
+     *
+     * @return A future for the new session's ID
+     */
+    public CompletableFuture<String> createSession() {
+        return search(engine::createSession);
+    }
+
+    /**
+     * Queues a move on a session.
+     *
+     * @pre.    sessionId ≠ null ∧ word ≠ null
+     *
+     * @param sessionId The session ID
+     * @param word      The word entered by the player
+     * @return A future for the move's result, failed with the engine's exception if the move is rejected
+     */
+    public CompletableFuture<ValidationResult> tick(String sessionId, String word) {
+        return submit(sessionId, () -> engine.tick(sessionId, word));
+    }
+
+    /**
+     * Queues a reset of a session.
+     *
+     * @param sessionId The session ID
+     * @return A future completed once the session has been reset
+     */
+    public CompletableFuture<Void> reset(String sessionId) {
+        return submit(sessionId, () -> {
+            engine.reset(sessionId);
+            return null;
+        });
+    }
+
+    /**
+     * Computes the solution path of a session on the search pool, after the session's earlier commands.
+     *
+     * @param sessionId The session ID
+     * @return A future for the shortest path
+     */
+    public CompletableFuture<ArrayList<String>> solutionPath(String sessionId) {
+        return submit(sessionId, () -> engine.getSession(sessionId))
+                .thenCompose(session -> search(() -> engine.getSolutionPath(sessionId)));
+    }
+
+    /**
+     * Queues the closing of a session and drops its mailbox.
+     *
+     * @param sessionId The session ID
+     * @return A future for whether a session was removed
+     */
+    public CompletableFuture<Boolean> closeSession(String sessionId) {
+        return submit(sessionId, () -> engine.closeSession(sessionId))
+                .whenComplete((removed, error) -> mailboxes.remove(sessionId));
+    }
+
+    private <T> CompletableFuture<T> submit(String sessionId, Supplier<T> command) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        long submitted = System.nanoTime();
+        mailboxes.computeIfAbsent(sessionId, id -> new Mailbox()).post(new Command() {
+            @Override
+            public void run() {
+                try {
+                    future.complete(command.get());
+                } catch (RuntimeException e) {
+                    future.completeExceptionally(e);
+                } catch (Error e) {
+                    future.completeExceptionally(e);
+                    throw e;
+                } finally {
+                    completedCommands.increment();
+                    commandLatencyNanos.add(System.nanoTime() - submitted);
+                }
+            }
+
+            @Override
+            public void reject(RejectedExecutionException e) {
+                future.completeExceptionally(e);
+            }
+        });
+        return future;
+    }
+
+    private <T> CompletableFuture<T> search(Supplier<T> work) {
+        long submitted = System.nanoTime();
+        return CompletableFuture.supplyAsync(work, searchPool).whenComplete((value, error) -> {
+            completedSearches.increment();
+            searchLatencyNanos.add(System.nanoTime() - submitted);
+        });
+    }
+
+    /**
+     * Checks whether session commands run on virtual threads.
+     *
+     * @return true if the runtime provides virtual threads
+     */
+    public boolean isUsingVirtualThreads() {
+        return virtualThreads;
+    }
+
+    /**
+     * Gets the number of session commands that have completed (successfully or not).
+     *
+     * @return The completed command count
+     */
+    public long getCompletedCommands() {
+        return completedCommands.sum();
+    }
+
+    /**
+     * Gets the number of path searches and pair generations completed on the search pool.
+     *
+     * @return The completed search count
+     */
+    public long getCompletedSearches() {
+        return completedSearches.sum();
+    }
+
+    /**
+     * Gets the average time from submitting a command to its completion, including time queued
+     * behind the session's earlier commands.
+     *
+     * @return The average command latency in nanoseconds, or 0 if none completed
+     */
+    public double getAverageCommandLatencyNanos() {
+        long count = completedCommands.sum();
+        return count == 0 ? 0 : (double) commandLatencyNanos.sum() / count;
+    }
+
+    /**
+     * Gets the average time from submitting a search to its completion.
+     *
+     * @return The average search latency in nanoseconds, or 0 if none completed
+     */
+    public double getAverageSearchLatencyNanos() {
+        long count = completedSearches.sum();
+        return count == 0 ? 0 : (double) searchLatencyNanos.sum() / count;
+    }
+
+    /**
+     * Gets the command throughput since the executor was created.
+     *
+     * @return Completed commands per second
+     */
+    public double getCommandsPerSecond() {
+        return completedCommands.sum() / ((System.nanoTime() - startNanos) / 1e9);
+    }
+
+    /**
+     * Formats the metrics as one line of text.
+     *
+     * @return The metrics summary
+     */
+    public String describeMetrics() {
+        return String.format("%s threads: %,d commands (%,.0f/s, avg %.1f us), %,d searches (avg %.1f us)",
+                virtualThreads ? "virtual" : "platform", getCompletedCommands(), getCommandsPerSecond(),
+                getAverageCommandLatencyNanos() / 1e3, getCompletedSearches(), getAverageSearchLatencyNanos() / 1e3);
+    }
+
+    /**
+     * Stops accepting work and waits briefly for queued commands to finish. Commands submitted
+     * afterwards complete exceptionally with a {@link RejectedExecutionException}.
+     */
+    @Override
+    public void close() {
+        commandExecutor.shutdown();
+        searchPool.shutdown();
+        try {
+            commandExecutor.awaitTermination(5, TimeUnit.SECONDS);
+            searchPool.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * A queued session command, which is told when it will never run.
+     */
+    private interface Command extends Runnable {
+        /**
+         * Called instead of {@link #run()} when the command executor no longer accepts work.
+         *
+         * @param e The executor's rejection
+         */
+        void reject(RejectedExecutionException e);
+    }
+
+    /**
+     * A session's queue of commands, drained by at most one task at a time so that the session's
+     * commands never run concurrently or out of order.
+     */
+    private final class Mailbox {
+        private final Queue<Command> commands = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger pending = new AtomicInteger();
+
+        void post(Command command) {
+            commands.add(command);
+            if (pending.getAndIncrement() == 0) {
+                schedule();
+            }
+        }
+
+        /**
+         * Starts a drain task. Called only by the owner of the drain, i.e. while pending > 0 and no
+         * task is draining.
+         */
+        private void schedule() {
+            try {
+                commandExecutor.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                // The executor is closed: fail every queued command, including those posted meanwhile,
+                // so the mailbox is empty again and no future is left waiting for a drain that never comes
+                do {
+                    commands.poll().reject(e);
+                } while (pending.decrementAndGet() > 0);
+            }
+        }
+
+        private void drain() {
+            boolean drained = false;
+            try {
+                do {
+                    commands.poll().run();
+                } while (pending.decrementAndGet() > 0);
+                drained = true;
+            } finally {
+                // A command that threw still counts as done; its successors go to a new task
+                if (!drained && pending.decrementAndGet() > 0) {
+                    schedule();
+                }
+            }
+        }
+    }
+}
@@ -1,5 +1,3 @@
-import java.util.ArrayList;
-
 /**
  * A factory interface for creating word generation strategies.
  * This interface defines a single method that returns a {@link WordGenerationStrategy} object,
@@ -14,6 +12,7 @@ import java.util.ArrayList;
  *
  * @see FixedStrategyFactory for an example of a fixed word strategy.
  * @see RandomStrategyFactory for an example of a random word selection strategy.
+ * @see LadderLengthStrategyFactory for an example of a difficulty-based strategy.
  */
 public interface StrategyFactory {
 
@@ -23,5 +22,5 @@ public interface StrategyFactory {
      * @param dictionary The list of valid words that the strategy may use to generate words
      * @return A new instance of a class implementing {@link WordGenerationStrategy}
      */
-    WordGenerationStrategy createStrategy(ArrayList<String> dictionary);
+    WordGenerationStrategy createStrategy(WordDictionary dictionary);
 }
\ No newline at end of file
@@ -1,4 +1,9 @@
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
 import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
 
 /**
  * Represents the result of validating a guessed word against the target word.
@@ -6,62 +11,135 @@ import java.util.Map;
  * - Whether the guess is valid (i.e., matches all letter positions)
  * - A message describing validation outcome
  * - Letter-by-letter state (correct position, wrong position, not in word)
+ *
+ * <p>Letter states are packed two bits per position into a single int (the {@link LetterState} ordinal,
+ * position 0 in the lowest bits), so a result costs a few bytes regardless of word length and is immutable.
+ * Because {@link LetterState#CORRECT_POSITION} has ordinal 0, a guess wins exactly when the packed
+ * states of all its positions are zero. {@link LetterState#DEFAULT} marks a position without a state.</p>
+ *
+ * <p><b>Class Invariant:</b>
+ * <ul>
+ *   <li>{@code 0 ≤ length ≤ MAX_LENGTH}</li>
+ *   <li>bits of {@code packedStates} above position {@code length - 1} are zero</li>
+ * </ul>
  */
-public class ValidationResult {
-    private final boolean valid;
-    private String message;
-    private Map<Integer, LetterState> letterStates;
+public final class ValidationResult {
+
+    /** Largest number of letter positions a result can hold. */
+    public static final int MAX_LENGTH = Integer.SIZE / 2;
+
+    private static final String NO_MESSAGE = "NULL";
+    private static final LetterState[] STATES = LetterState.values();
+    private static final int STATE_MASK = 0b11;
+
+    private final int packedStates;
+    private final byte length;
+    private final String message;
+
+    private ValidationResult(int packedStates, int length, String message) {
+        this.packedStates = packedStates;
+        this.length = (byte) length;
+        this.message = message;
+    }
 
     /**
-     * Checks if the guess is fully correct by verifying that every letter is in the correct position.
+     * Constructs a ValidationResult with the given letter states.
+     * Automatically determines if the guess is fully valid.
+     *
+     * @pre.    every key of letterStates is in [0, MAX_LENGTH)
      *
-     * @return true if all letters are correctly placed, false otherwise
+     * @param letterStates A map of letter positions to their states
      */
-    private boolean isValid() {
-        if (letterStates == null || letterStates.isEmpty()) {
-            return false;
-        }
+    public ValidationResult(Map<Integer, LetterState> letterStates) {
+        this(pack(letterStates), lengthOf(letterStates), NO_MESSAGE);
+    }
 
-        try {
-            java.util.List<LetterState> statesList = new java.util.ArrayList<>(letterStates.values());
-            for (LetterState state : statesList) {
-                if (state != LetterState.CORRECT_POSITION) {
-                    return false;
-                }
-            }
-            return true;
-        } catch (Exception e) {
-            System.err.println("Error during ValidationResult.isValid iteration: " + e.getMessage());
-            e.printStackTrace();
-            return false;
-        }
+    /**
+     * Constructs a ValidationResult from a per-position state array.
+     * The array is copied into the packed form and may be reused by the caller.
+     *
+     * @pre.    states.length ≤ MAX_LENGTH
+     *
+     * @param states The state of each letter position; null entries have no state
+     */
+    public ValidationResult(LetterState[] states) {
+        this(pack(states), states.length, NO_MESSAGE);
     }
 
     /**
-     * Gets the optional message associated with this validation result.
+     * Creates a result directly from packed letter states, as returned by {@link #getPackedStates()}.
      *
-     * @return The message string, or null if no message was set
+     * @pre.    0 ≤ length ≤ MAX_LENGTH
+     *
+     * @param packedStates Two bits per position holding the {@link LetterState} ordinal
+     * @param length       Number of letter positions
+     * @return The result, with no message
      */
-    public String getMessage() {
-        return message;
+    public static ValidationResult fromPacked(int packedStates, int length) {
+        checkLength(length);
+        return new ValidationResult(packedStates & positionMask(length), length, NO_MESSAGE);
     }
 
     /**
-     * Sets a custom message to be associated with this validation result.
+     * Gets a copy of this result carrying the given message. Results are immutable, so decorators
+     * attach messages through this method instead of modifying a shared instance.
      *
      * @param message The message to display to the user
+     * @return A result with the same letter states and the given message
      */
-    public void setMessage(String message) {
-        this.message = message;
+    public ValidationResult withMessage(String message) {
+        return new ValidationResult(packedStates, length, message);
+    }
+
+    /**
+     * Gets the optional message associated with this validation result.
+     *
+     * @return The message string, or "NULL" if no message was set
+     */
+    public String getMessage() {
+        return message;
     }
 
     /**
-     * Gets the map of letter indices to their corresponding states.
+     * Gets a read-only map view of letter indices to their corresponding states.
+     * The view decodes the packed states on access; positions without a state are absent.
      *
      * @return A Map where keys are letter positions and values are LetterState enums
      */
     public Map<Integer, LetterState> getLetterStates() {
-        return letterStates;
+        return new LetterStateView();
+    }
+
+    /**
+     * Gets the state of the letter at the given position without building the map.
+     *
+     * @param position The letter position
+     * @return The letter's state, or null if the position has none
+     */
+    public LetterState getLetterState(int position) {
+        if (position < 0 || position >= length) {
+            return null;
+        }
+        LetterState state = STATES[(packedStates >>> (2 * position)) & STATE_MASK];
+        return state == LetterState.DEFAULT ? null : state;
+    }
+
+    /**
+     * Gets the letter states packed two bits per position, position 0 in the lowest bits.
+     *
+     * @return The packed {@link LetterState} ordinals
+     */
+    public int getPackedStates() {
+        return packedStates;
+    }
+
+    /**
+     * Gets the number of letter positions in this result.
+     *
+     * @return The word length the result covers
+     */
+    public int length() {
+        return length;
     }
 
     /**
@@ -70,18 +148,110 @@ public class ValidationResult {
      * @return true if all letters are correct and in the right position
      */
     public boolean getValid() {
-        return valid;
+        // CORRECT_POSITION is ordinal 0, so an all-correct guess has every state bit clear
+        return length > 0 && (packedStates & positionMask(length)) == 0;
+    }
+
+    private static int positionMask(int length) {
+        return length == MAX_LENGTH ? -1 : (1 << (2 * length)) - 1;
+    }
+
+    private static void checkLength(int length) {
+        if (length < 0 || length > MAX_LENGTH) {
+            throw new IllegalArgumentException("A result holds at most " + MAX_LENGTH + " letters, got " + length);
+        }
+    }
+
+    private static int pack(LetterState[] states) {
+        checkLength(states.length);
+        int packed = 0;
+        for (int i = 0; i < states.length; i++) {
+            LetterState state = (states[i] != null) ? states[i] : LetterState.DEFAULT;
+            packed |= state.ordinal() << (2 * i);
+        }
+        return packed;
+    }
+
+    private static int lengthOf(Map<Integer, LetterState> letterStates) {
+        int length = 0;
+        if (letterStates != null) {
+            for (Integer position : letterStates.keySet()) {
+                length = Math.max(length, position + 1);
+            }
+        }
+        checkLength(length);
+        return length;
+    }
+
+    private static int pack(Map<Integer, LetterState> letterStates) {
+        int length = lengthOf(letterStates);
+        LetterState[] states = new LetterState[length];
+        if (letterStates != null) {
+            for (Map.Entry<Integer, LetterState> entry : letterStates.entrySet()) {
+                states[entry.getKey()] = entry.getValue();
+            }
+        }
+        return pack(states);
     }
 
     /**
-     * Constructs a ValidationResult with the given letter states.
-     * Automatically determines if the guess is fully valid.
-     *
-     * @param letterStates A map of letter positions to their states
+     * Read-only map view over the packed states, iterating positions in ascending order.
      */
-    public ValidationResult(Map<Integer, LetterState> letterStates) {
-        this.message = "NULL";
-        this.letterStates = letterStates;
-        this.valid = isValid(); // Determine validity based on all letters being CORRECT_POSITION
+    private final class LetterStateView extends AbstractMap<Integer, LetterState> {
+
+        @Override
+        public LetterState get(Object key) {
+            return (key instanceof Integer) ? getLetterState((Integer) key) : null;
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return get(key) != null;
+        }
+
+        @Override
+        public Set<Map.Entry<Integer, LetterState>> entrySet() {
+            return new AbstractSet<Map.Entry<Integer, LetterState>>() {
+                @Override
+                public int size() {
+                    int count = 0;
+                    for (int i = 0; i < length; i++) {
+                        if (getLetterState(i) != null) {
+                            count++;
+                        }
+                    }
+                    return count;
+                }
+
+                @Override
+                public Iterator<Map.Entry<Integer, LetterState>> iterator() {
+                    return new Iterator<Map.Entry<Integer, LetterState>>() {
+                        private int next = advance(0);
+
+                        private int advance(int from) {
+                            while (from < length && getLetterState(from) == null) {
+                                from++;
+                            }
+                            return from;
+                        }
+
+                        @Override
+                        public boolean hasNext() {
+                            return next < length;
+                        }
+
+                        @Override
+                        public Map.Entry<Integer, LetterState> next() {
+                            if (!hasNext()) {
+                                throw new NoSuchElementException();
+                            }
+                            Map.Entry<Integer, LetterState> entry = new SimpleImmutableEntry<>(next, getLetterState(next));
+                            next = advance(next + 1);
+                            return entry;
+                        }
+                    };
+                }
+            };
+        }
     }
-}
\ No newline at end of file
+}
@@ -1,11 +1,9 @@
-import java.util.ArrayList;
-
 /**
  * An abstract base class for implementing the Decorator pattern over word validators.
  * This class wraps a base validator and allows subclasses to add additional validation behavior
  * before or after delegating to the wrapped validator.
  *
- * <p>Subclasses should override the {@link #validate(String, String, ArrayList)} method
+ * <p>Subclasses should override the {@link #validate(String, String, WordDictionary)} method
  * to implement their specific validation logic.</p>
  */
 public abstract class ValidatorDecorator implements WordValidator {
@@ -39,5 +37,5 @@ public abstract class ValidatorDecorator implements WordValidator {
      * @return A ValidationResult containing the result of validation, including letter states and messages
      */
     @Override
-    public abstract ValidationResult validate(String word, String target, ArrayList<String> dictionary);
+    public abstract ValidationResult validate(String word, String target, WordDictionary dictionary);
 }
\ No newline at end of file
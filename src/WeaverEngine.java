@@ -0,0 +1,464 @@
+import exceptions.InvalidWordException;
+import exceptions.WordGenerationException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+
+/**
+ * A headless Weaver engine that hosts many independent games at once.
+ * Each game is a {@link GameSession} registered under a unique ID in a concurrent map; the dictionary,
+ * word graph and validators are shared by all sessions and never copied.
+ *
+ * <p>Moves on different sessions run fully in parallel: the registry lookup is lock-free and the
+ * shared objects are immutable or stateless. Moves on the same session are serialized by the
+ * session's own lock.</p>
+ *
+ * <p>Every state change is published as a {@link SessionEvent} on the engine's {@link GameEventBus},
+ * keyed by session ID, so spectators and loggers that subscribe asynchronously see the latest state of
+ * each session. No snapshot is taken while nobody is subscribed.</p>
+ *
+ * <p>With a {@link GameJournal} attached, every accepted change (a game started, a move, a reset, a
+ * session closed) is also appended to the journal under the session's lock, so the journal holds each
+ * session's changes in the order they were applied and the sessions can be rebuilt after a restart.
+ * Once the journal can no longer be written, changes are refused with an {@link UncheckedIOException}
+ * before they are applied.</p>
+ *
+ * <p><b>Class Invariant:</b>
+ * <ul>
+ *   <li>{@code graph} is the word-ladder graph of {@code dictionary}</li>
+ *   <li>every registered session was started with a pair of dictionary words</li>
+ * </ul>
+ */
+public class WeaverEngine {
+
+    private final WordDictionary dictionary;
+    private final WordGraph graph;
+    private final WordValidator validator;
+    private final WordValidator warningValidator;
+    private final ConcurrentHashMap<String, GameSession> sessions = new ConcurrentHashMap<>();
+    private final AtomicLong nextSessionId = new AtomicLong();
+    private final GameEventBus<SessionEvent> events = new GameEventBus<>(SessionEvent::getSessionId);
+    private volatile GameJournal journal;
+
+    /**
+     * Constructs an engine over the process-wide bundled dictionary with the default validator.
+     *
+     * @throws IOException if the dictionary cannot be loaded
+     */
+    public WeaverEngine() throws IOException {
+        this(CompiledDictionary.getBundled().getGraph(), new BasicValidator());
+    }
+
+    /**
+     * Constructs an engine over the given graph's dictionary.
+     *
+     * @pre.    graph ≠ null ∧ baseValidator ≠ null ∧ baseValidator is safe for concurrent use
+     *
+     * @param graph         The shared word-ladder graph
+     * @param baseValidator The shared validator; sessions that show errors use it wrapped in {@link WithWarning}
+     */
+    public WeaverEngine(WordGraph graph, WordValidator baseValidator) {
+        this.dictionary = graph.getDictionary();
+        this.graph = graph;
+        this.validator = baseValidator;
+        this.warningValidator = new WithWarning(baseValidator);
+    }
+
+    /**
+     * Creates a session with a random solvable word pair.
+     *
+     * @post.   the new session is registered and started
+     *
+     * @return The new session's ID
+     * @throws WordGenerationException if the dictionary has no connected word pair
+     */
+    public String createSession() throws WordGenerationException {
+        String[] words = randomPair();
+        return register(words[0], words[1], true);
+    }
+
+    /**
+     * Creates a session with a fixed word pair.
+     *
+     * @pre.    initialWord ≠ null ∧ targetWord ≠ null
+     * @post.   the new session is registered and started
+     *
+     * @param initialWord The start word (any case)
+     * @param targetWord  The target word (any case)
+     * @return The new session's ID
+     * @throws InvalidWordException if either word is not in the dictionary
+     */
+    public String createSession(String initialWord, String targetWord) throws InvalidWordException {
+        String initial = initialWord.toUpperCase();
+        String target = targetWord.toUpperCase();
+        if (!dictionary.contains(initial) || !dictionary.contains(target)) {
+            throw new InvalidWordException(GuessVerdict.NOT_IN_DICTIONARY.getMessage());
+        }
+        return register(initial, target, false);
+    }
+
+    private String[] randomPair() {
+        // Strategies keep the last generated pair, so each game gets its own (cheap) instance
+        return new WithPath(new RandomWordStrategy(dictionary), graph).generateWords(dictionary);
+    }
+
+    private String register(String initialWord, String targetWord, boolean random) {
+        checkJournal();
+        GameSession session = new GameSession();
+        String id = Long.toString(nextSessionId.incrementAndGet());
+        SessionEvent event;
+        synchronized (session) {
+            session.setRandomWordFlag(random);
+            session.start(initialWord, targetWord);
+            // Registered before it is journaled, so a journal snapshot never misses a journaled session
+            sessions.put(id, session);
+            journalStart(id, session);
+            event = eventOf(id, session);
+        }
+        publish(session, event);
+        return id;
+    }
+
+    /**
+     * Applies one player move to a session.
+     *
+     * @pre.    sessionId ≠ null ∧ word ≠ null
+     * @post.   see {@link #tryTick(String, String)}
+     *
+     * @param sessionId The session ID
+     * @param word      The word entered by the player
+     * @return The validation result of the move
+     * @throws IllegalArgumentException if no session has this ID
+     * @throws InvalidWordException     if the move is not legal or the game is already won
+     */
+    public ValidationResult tick(String sessionId, String word) throws InvalidWordException {
+        return tryTick(sessionId, word).getResultOrThrow();
+    }
+
+    /**
+     * Applies one player move to a session, reporting an illegal move as a verdict instead of throwing.
+     * A won session accepts no more moves until it is reset or restarted.
+     *
+     * @pre.    sessionId ≠ null ∧ word ≠ null
+     * @post.   if the session is won: GAME_OVER is returned and the session is unchanged
+     *          otherwise: see {@link GameSession#tryTick(String, WordValidator, WordDictionary)}
+     *
+     * @param sessionId The session ID
+     * @param word      The word entered by the player
+     * @return OK with the move's result, or the reason it was rejected
+     * @throws IllegalArgumentException if no session has this ID
+     * @throws UncheckedIOException     if the attached journal can no longer be written; the move is not applied
+     */
+    public GuessVerdict tryTick(String sessionId, String word) {
+        GameSession session = getSession(sessionId);
+        checkJournal();
+        SessionEvent event = null;
+        try {
+            synchronized (session) {
+                try {
+                    if (session.isWon()) {
+                        return GuessVerdict.GAME_OVER;
+                    }
+                    GuessVerdict verdict = session.tryTick(word, validatorFor(session), dictionary);
+                    if (verdict.isOk()) {
+                        journalTick(sessionId, session);
+                    }
+                    return verdict;
+                } finally {
+                    event = eventOf(sessionId, session);
+                }
+            }
+        } finally {
+            publish(session, event);
+        }
+    }
+
+    /**
+     * Gets the validator a session's moves are scored with.
+     *
+     * @param session The session
+     * @return The shared validator, wrapped in {@link WithWarning} if the session shows errors
+     */
+    WordValidator validatorFor(GameSession session) {
+        return session.isShowErrorsFlag() ? warningValidator : validator;
+    }
+
+    /**
+     * Restarts a session with the same word pair.
+     *
+     * @param sessionId The session ID
+     * @throws IllegalArgumentException if no session has this ID
+     * @throws UncheckedIOException     if the attached journal can no longer be written; the session is unchanged
+     */
+    public void reset(String sessionId) {
+        GameSession session = getSession(sessionId);
+        checkJournal();
+        SessionEvent event;
+        synchronized (session) {
+            session.reset();
+            journalReset(sessionId, session);
+            event = eventOf(sessionId, session);
+        }
+        publish(session, event);
+    }
+
+    /**
+     * Starts a new game in an existing session, keeping its flags. Random sessions get a new random
+     * pair; fixed sessions replay their pair.
+     *
+     * @param sessionId The session ID
+     * @throws IllegalArgumentException if no session has this ID
+     * @throws WordGenerationException  if no random pair can be generated
+     * @throws UncheckedIOException     if the attached journal can no longer be written; the session is unchanged
+     */
+    public void newGame(String sessionId) throws WordGenerationException {
+        GameSession session = getSession(sessionId);
+        checkJournal();
+        String[] words = session.isRandomWordFlag() ? randomPair() : null;
+        SessionEvent event;
+        synchronized (session) {
+            if (words != null) {
+                session.start(words[0], words[1]);
+                journalStart(sessionId, session);
+            } else {
+                session.reset();
+                journalReset(sessionId, session);
+            }
+            event = eventOf(sessionId, session);
+        }
+        publish(session, event);
+    }
+
+    /**
+     * Fails before a change is applied if the attached journal can no longer record it.
+     *
+     * @throws UncheckedIOException if the journal's writer has stopped
+     */
+    private void checkJournal() {
+        GameJournal journal = this.journal;
+        if (journal != null) {
+            journal.checkWritable();
+        }
+    }
+
+    // The change is already applied when these run, so a journal that failed since checkJournal() is
+    // only logged: the change stays in memory but will be missing after recovery
+
+    private void journalStart(String sessionId, GameSession session) {
+        GameJournal journal = this.journal;
+        if (journal != null) {
+            try {
+                session.setJournalLsn(journal.appendStart(sessionId, session.getInitialWord(),
+                        session.getTargetWord(), session.isRandomWordFlag()));
+            } catch (UncheckedIOException e) {
+                journalFailed(sessionId, e);
+            }
+        }
+    }
+
+    private void journalTick(String sessionId, GameSession session) {
+        GameJournal journal = this.journal;
+        if (journal != null) {
+            try {
+                session.setJournalLsn(journal.appendTick(sessionId, session.getHistory().getWord()));
+            } catch (UncheckedIOException e) {
+                journalFailed(sessionId, e);
+            }
+        }
+    }
+
+    private void journalReset(String sessionId, GameSession session) {
+        GameJournal journal = this.journal;
+        if (journal != null) {
+            try {
+                session.setJournalLsn(journal.appendReset(sessionId));
+            } catch (UncheckedIOException e) {
+                journalFailed(sessionId, e);
+            }
+        }
+    }
+
+    private static void journalFailed(String sessionId, UncheckedIOException e) {
+        System.err.println("Session " + sessionId + " change not journaled: " + e.getMessage());
+    }
+
+    /**
+     * Captures the event of a change while the session's lock is still held, so the snapshot is the
+     * state the change produced and its sequence number follows the order of the changes.
+     *
+     * @return The event, or null if nobody is subscribed
+     */
+    private SessionEvent eventOf(String sessionId, GameSession session) {
+        return events.hasSubscribers() ? new SessionEvent(sessionId, session.snapshot(), session.nextEventSequence()) : null;
+    }
+
+    /**
+     * Publishes an event after the session's lock is released. An event overtaken by a later change's
+     * event is dropped, so subscribers always end with the session's latest state.
+     */
+    private void publish(GameSession session, SessionEvent event) {
+        if (event != null) {
+            session.publishInOrder(event.getSequence(), () -> events.publish(event));
+        }
+    }
+
+    /**
+     * Gets the bus on which every session state change is published.
+     *
+     * @return The engine's event bus, keyed by session ID
+     */
+    public GameEventBus<SessionEvent> getEventBus() {
+        return events;
+    }
+
+    /**
+     * Gets a consistent snapshot of a session.
+     *
+     * @param sessionId The session ID
+     * @return The session's current state
+     * @throws IllegalArgumentException if no session has this ID
+     */
+    public GameState getState(String sessionId) {
+        return getSession(sessionId).snapshot();
+    }
+
+    /**
+     * Gets the shortest solution path of a session's word pair.
+     *
+     * @param sessionId The session ID
+     * @return The path from initial to target word, or an empty list if none exists
+     * @throws IllegalArgumentException if no session has this ID
+     */
+    public ArrayList<String> getSolutionPath(String sessionId) {
+        GameSession session = getSession(sessionId);
+        return PathFinder.findPathByBFS(session.getInitialWord(), session.getTargetWord(), graph);
+    }
+
+    /**
+     * Looks up a registered session.
+     *
+     * @param sessionId The session ID
+     * @return The session
+     * @throws IllegalArgumentException if no session has this ID
+     */
+    public GameSession getSession(String sessionId) {
+        GameSession session = sessions.get(sessionId);
+        if (session == null) {
+            throw new IllegalArgumentException("Unknown session: " + sessionId);
+        }
+        return session;
+    }
+
+    /**
+     * Removes a session from the registry.
+     *
+     * @param sessionId The session ID
+     * @return true if a session was removed
+     * @throws UncheckedIOException if the attached journal can no longer be written; the session is kept
+     */
+    public boolean closeSession(String sessionId) {
+        checkJournal();
+        GameSession session = sessions.remove(sessionId);
+        if (session == null) {
+            return false;
+        }
+        GameJournal journal = this.journal;
+        if (journal != null) {
+            synchronized (session) {
+                try {
+                    journal.appendClose(sessionId);
+                } catch (UncheckedIOException e) {
+                    journalFailed(sessionId, e);
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Rebuilds the sessions recorded in a journal, then journals every later change to it.
+     *
+     * @pre.    journal ≠ null ∧ no journal is attached yet ∧ no sessions have been created yet
+     * @post.   the sessions live when the journal was last written are registered again
+     *          with the same IDs, word pairs, paths and flags
+     *
+     * @param journal The opened journal
+     * @throws IOException if the journal cannot be read or reopened for writing
+     */
+    public synchronized void attachJournal(GameJournal journal) throws IOException {
+        if (this.journal != null) {
+            throw new IllegalStateException("A journal is already attached.");
+        }
+        journal.recover(this);
+        this.journal = journal;
+    }
+
+    /**
+     * Registers a session under a known ID, or restarts it if it already exists, without journaling.
+     * Used to replay a journal.
+     *
+     * @pre.    sessionId is a decimal session ID
+     *
+     * @param sessionId   The session ID
+     * @param initialWord The start word
+     * @param targetWord  The target word
+     * @param random      Whether the session plays random pairs
+     * @return The session
+     */
+    GameSession restoreSession(String sessionId, String initialWord, String targetWord, boolean random) {
+        GameSession session = sessions.computeIfAbsent(sessionId, id -> new GameSession());
+        session.setRandomWordFlag(random);
+        session.start(initialWord, targetWord);
+        nextSessionId.accumulateAndGet(Long.parseLong(sessionId), Math::max);
+        return session;
+    }
+
+    /**
+     * Looks up a session without failing, for journal replay.
+     *
+     * @param sessionId The session ID
+     * @return The session, or null if no session has this ID
+     */
+    GameSession findSession(String sessionId) {
+        return sessions.get(sessionId);
+    }
+
+    /**
+     * Visits every registered session; sessions registered or closed meanwhile may or may not be visited.
+     *
+     * @param action Receives each session ID and session
+     */
+    void forEachSession(BiConsumer<String, GameSession> action) {
+        sessions.forEach(action);
+    }
+
+    /**
+     * Gets the number of registered sessions.
+     *
+     * @return The session count
+     */
+    public int sessionCount() {
+        return sessions.size();
+    }
+
+    /**
+     * Gets the dictionary shared by all sessions.
+     *
+     * @return The dictionary
+     */
+    public WordDictionary getDictionary() {
+        return dictionary;
+    }
+
+    /**
+     * Gets the word-ladder graph shared by all sessions.
+     *
+     * @return The graph
+     */
+    public WordGraph getWordGraph() {
+        return graph;
+    }
+}
@@ -1,41 +1,37 @@
 import exceptions.InvalidWordException;
 import exceptions.WordGenerationException;
-import java.io.BufferedReader;
+import profiling.TickEvent;
 import java.io.IOException;
-import java.io.InputStreamReader;
 import java.util.ArrayList;
-import java.util.Objects;
-import java.util.Observable;
 
 /**
  * The central game model for the Weaver game.
- * Manages game state, word validation, dictionary loading, and observer updates.
+ * Manages game state, word validation, dictionary loading, and event publication.
  *
  * <p><b>Class Invariant:</b>
  * <ul>
  *   <li>{@code dictionary} ≠ null ∧ contains only valid 4-letter words</li>
- *   <li>{@code initialWord} ≠ null ∧ is in dictionary ∧ length == targetWord.length()</li>
- *   <li>{@code targetWord} ≠ null ∧ is in dictionary ∧ length == initialWord.length()</li>
- *   <li>{@code currentPath} ≠ null ∧ starts with initialWord</li>
- *   <li>{@code resultsPath} size == currentPath.size() - 1 (each step has a result)</li>
+ *   <li>{@code wordGraph} ≠ null ∧ is the word-ladder graph of {@code dictionary}</li>
+ *   <li>{@code distanceOracle} is null or was computed for {@code wordGraph}</li>
+ *   <li>{@code session} ≠ null ∧ holds the word pair, path, results and flags of the current game
+ *       (its initial and target words are in dictionary once the game is initialized)</li>
  *   <li>{@code validator} ≠ null ∧ validates words against target using dictionary rules</li>
  *   <li>{@code strategyFactory} ≠ null ∧ generates valid word pairs</li>
  * </ul>
  */
-public class WeaverModel extends Observable {
+public class WeaverModel {
 
     // Game data
-    private ArrayList<String> dictionary;
-    private ArrayList<String> currentPath;
-    private ArrayList<ValidationResult> resultsPath;
-    private String initialWord;
-    private String targetWord;
+    private WordDictionary dictionary;
+    private WordGraph wordGraph;   // Word-ladder graph, built once per loaded dictionary
+    private DistanceOracle distanceOracle; // Optional all-pairs distance table (null if not enabled)
+    private LadderPairIndex ladderPairIndex; // Word pairs bucketed by ladder length, built on demand
+    private int minLadderLength = 0; // Requested par range for random games (0 = any)
+    private int maxLadderLength = 0;
+    private final GameSession session = new GameSession(); // Per-game state: words, path, results and flags
+    private final GameEventBus<Notification> eventBus = new GameEventBus<>(); // Replaces Observable notifications
     private StrategyFactory strategyFactory;   // Factory for generating word pairs
     private WordGenerationStrategy wordGenerationStrategy; // Strategy for generating words
-    private boolean isWon;
-    private boolean showErrorsFlag = false; // Controls whether errors are shown
-    private boolean showPathFlag = false; // Controls whether solution path is shown
-    private boolean randomWordFlag = false;
     private WordValidator validator;
     private WordValidator baseValidator;
 
@@ -46,6 +42,7 @@ public class WeaverModel extends Observable {
      * @pre.    Dictionary file exists and contains at least two 4-letter words
      *          BaseValidator can be initialized without error
      * @post.   dictionary is loaded with valid 4-letter words
+     *          wordGraph is the word-ladder graph of dictionary
      *          baseValidator is initialized
      *          strategyFactory is set to FixedStrategyFactory by default
      *          randomWordFlag == false
@@ -62,30 +59,22 @@ public class WeaverModel extends Observable {
     }
 
     /**
-     * Loads 4-letter words from dictionary.txt and converts them to uppercase.
+     * Loads 4-letter words from dictionary.txt, converted to uppercase, together with their word graph.
+     * The dictionary is loaded once per process and shared by every model (see
+     * {@link CompiledDictionary#getBundled()}); this model only keeps references to it.
      *
      * @pre.    dictionary.txt exists in resources folder
      *          file contains lines of text (some possibly not 4 letters)
-     * @post.   dictionary contains only uppercase 4-letter words from file
+     * @post.   dictionary contains only uppercase 4-letter words from file, packed for O(1) lookup
+     *          wordGraph is the word-ladder graph of dictionary
      *          if fewer than 2 words: IOException is thrown
      *
      * @throws IOException if dictionary file cannot be read or not found
      */
     private void loadDictionary() throws IOException {
-        dictionary = new ArrayList<>();
-        try (BufferedReader br = new BufferedReader(
-                new InputStreamReader(Objects.requireNonNull(
-                        getClass().getResourceAsStream("/dictionary.txt"),
-                        "Dictionary file not found in classpath: /dictionary.txt"
-                ))
-        )) {
-            String line;
-            while ((line = br.readLine()) != null) {
-                if (line.length() == 4) {
-                    dictionary.add(line.toUpperCase());
-                }
-            }
-        }
+        CompiledDictionary compiled = CompiledDictionary.getBundled();
+        dictionary = compiled.getDictionary();
+        wordGraph = compiled.getGraph();
 
         if (dictionary == null || dictionary.size() < 2) {
             throw new IOException("Dictionary does not contain enough 4-letter words (requires at least 2).");
@@ -95,7 +84,7 @@ public class WeaverModel extends Observable {
     /**
      * Initializes or resets the game with potentially new words.
      * Selects initial and target words based on the randomWordFlag,
-     * clears the current path and results. Notifies observers (for GUI).
+     * clears the current path and results. Publishes a notification (for GUI).
      *
      * @pre.    wordGenerationStrategy ≠ null
      *          dictionary contains both generated words
@@ -103,25 +92,60 @@ public class WeaverModel extends Observable {
      *          currentPath starts with initialWord
      *          resultsPath is empty
      *          isWon == false
-     *          observers are notified with start message
+     *          subscribers are notified with start message
      *
      * @throws WordGenerationException if strategy fails to generate valid word pair
      */
     public void initialize() throws WordGenerationException {
+        long start = GameMetrics.startTimer();
         updateStrategy();
-        updateValidator();
+        startGame(generateWords(), start);
+    }
 
-        String[] words = wordGenerationStrategy.generateWords(dictionary);
-        this.initialWord = words[0];
-        this.targetWord = words[1];
-        this.isWon = false;
+    /**
+     * Draws the word pair for the next game from the current strategy, without changing the current game.
+     * Only the strategy and the immutable dictionary are used, so a view can generate the pair on a
+     * background thread (one at a time) while the game goes on, then start it with
+     * {@link #initialize(String[])} on its own thread.
+     *
+     * @pre.    wordGenerationStrategy ≠ null
+     * @post.   returned words are in dictionary ∧ the current game is unchanged
+     *
+     * @return The initial and target words
+     * @throws WordGenerationException if strategy fails to generate valid word pair
+     */
+    public String[] generateWords() throws WordGenerationException {
+        return wordGenerationStrategy.generateWords(dictionary);
+    }
 
-        currentPath = new ArrayList<>();
-        currentPath.add(initialWord);
+    /**
+     * Starts a new game with a word pair drawn by {@link #generateWords()}.
+     * Clears the current path and results and publishes a notification, like {@link #initialize()}.
+     *
+     * @pre.    words.length == 2 ∧ dictionary contains both words
+     * @post.   initialWord == words[0] ∧ targetWord == words[1]
+     *          currentPath starts with initialWord ∧ resultsPath is empty ∧ isWon == false
+     *          subscribers are notified with start message
+     *
+     * @param words The initial and target words
+     */
+    public void initialize(String[] words) {
+        startGame(words, GameMetrics.startTimer());
+    }
 
-        resultsPath = new ArrayList<>();
+    /**
+     * Starts a new game and records it in {@link GameMetrics#INITIALIZE} once, whichever
+     * initialize method was called.
+     *
+     * @param words The initial and target words
+     * @param start The {@link GameMetrics#startTimer()} of the initialize call
+     */
+    private void startGame(String[] words, long start) {
+        updateValidator();
+        session.start(words[0], words[1]);
 
         notifyUpdate("Game started. Enter your first word.", null);
+        GameMetrics.INITIALIZE.recordSince(start);
     }
 
     /**
@@ -133,7 +157,7 @@ public class WeaverModel extends Observable {
      * @post.   if valid move: word is added to currentPath
      *          result is added to resultsPath
      *          isWon reflects whether word == targetWord
-     *          observers are notified with appropriate message
+     *          subscribers are notified with appropriate message
      *
      * @param word The word entered by the player
      * @return ValidationResult containing letter states and optional message
@@ -141,89 +165,73 @@ public class WeaverModel extends Observable {
      * @throws RuntimeException for unexpected errors during processing
      */
     public ValidationResult tick(String word) throws InvalidWordException, RuntimeException {
-        word = word.toUpperCase();
-        ArrayList<String> nextPath = new ArrayList<>(currentPath);
-        ArrayList<ValidationResult> nextResultsPath = new ArrayList<>(resultsPath);
-        ValidationResult result = null;
+        return tryTick(word).getResultOrThrow();
+    }
 
+    /**
+     * Processes a player's word input like {@link #tick(String)}, but reports an illegal move as a
+     * verdict instead of throwing. Subscribers are notified the same way in both cases.
+     *
+     * @pre.    word ≠ null
+     * @post.   if OK: word and its result are added to the path, isWon reflects whether word == targetWord
+     *          otherwise: the path is unchanged and the rejection message is published as the hint
+     *
+     * @param word The word entered by the player
+     * @return OK with the move's result, or the reason it was rejected
+     * @throws RuntimeException for unexpected errors during processing
+     */
+    public GuessVerdict tryTick(String word) {
+        long start = GameMetrics.startTimer();
+        TickEvent event = new TickEvent();
+        event.begin();
+        GuessVerdict verdict = null;
         try {
-            result = validator.validate(word, this.targetWord, this.dictionary);
-
-            if (!nextPath.isEmpty()) {
-                String lastWord = nextPath.get(nextPath.size() - 1);
-                if (!isOneLetterDifferent(lastWord, word)) {
-                    throw new InvalidWordException("Word must differ by exactly one letter from the previous word.");
-                }
-            } else {
-                throw new InvalidWordException("Game state error: Path is empty before the first player input step.");
+            verdict = session.tryTick(word, validator, dictionary);
+            if (!verdict.isOk()) {
+                GameMetrics.TICK_REJECTED.increment();
+                notifyUpdate(verdict.getMessage(), null);
+                return verdict;
             }
-
-            nextPath.add(word);
-            nextResultsPath.add(result);
-            this.currentPath = nextPath;
-            this.resultsPath = nextResultsPath;
-            this.isWon = result.getValid();
+            ValidationResult result = verdict.getResult();
 
             String message = result.getMessage();
             String runtimeWarning = null;
 
-            if (this.isWon && (message == null || message.isEmpty() || !message.equalsIgnoreCase("You won the game!"))) {
+            if (result.getValid() && (message == null || message.isEmpty() || !message.equalsIgnoreCase("You won the game!"))) {
                 message = "You won the game!";
             }
 
             notifyUpdate(message, runtimeWarning);
-            return result;
-
-        } catch (InvalidWordException e) {
-            this.isWon = false;
-            String message = e.getMessage();
-            String runtimeWarning = null;
-            notifyUpdate(message, runtimeWarning);
-            throw e;
+            return verdict;
 
         } catch (RuntimeException e) {
-            this.isWon = false;
             String message = null;
             String runtimeWarning = "An unexpected error occurred during tick: " + e.getMessage();
             System.err.println(runtimeWarning);
             notifyUpdate(message, runtimeWarning);
             throw e;
-        }
-    }
-
-    /**
-     * Checks if two words of equal length differ by exactly one letter.
-     *
-     * @pre.    word1 ≠ null ∧ word2 ≠ null
-     *          word1.length() == word2.length()
-     * @post.   returns true iff exactly one character differs between the words
-     *
-     * @param word1 First word
-     * @param word2 Second word
-     * @return true if words differ by exactly one letter
-     */
-    private boolean isOneLetterDifferent(String word1, String word2) {
-        if (word1 == null || word2 == null || word1.length() != word2.length()) {
-            return false;
-        }
-
-        int diffCount = 0;
-        for (int i = 0; i < word1.length(); i++) {
-            if (word1.charAt(i) != word2.charAt(i)) {
-                diffCount++;
+        } finally {
+            GameMetrics.TICK.recordSince(start);
+            if (event.shouldCommit()) {
+                event.initialWord = session.getInitialWord();
+                event.targetWord = session.getTargetWord();
+                event.guess = word;
+                event.verdict = verdict != null ? verdict.getStatus().name() : "ERROR";
+                event.step = session.getCurrentStep();
+                event.commit();
             }
         }
-        return diffCount == 1;
     }
 
     /**
-     * Notifies observers about current game state.
+     * Publishes the current game state on the event bus.
      * Conditionally sets hint and warning messages based on showErrorsFlag.
+     * The snapshot is taken once and shared by all subscribers; nothing is built if there are none.
      *
      * @pre.    currentState ≠ null
      *          messageToSend may be null
      *          warningToSend may be null
-     * @post.   observers are notified with Notification object containing:
+     * @post.   subscribers receive one Notification object containing:
      *          - gameState
      *          - messageToSend (based on showErrorsFlag)
      *          - warningToSend (if any)
@@ -232,36 +240,50 @@ public class WeaverModel extends Observable {
      * @param runtimeWarning Optional warning message
      */
     private void notifyUpdate(String hint, String runtimeWarning) {
-        setChanged();
-        GameState currentState = new GameState(this.initialWord, this.targetWord, this.currentPath, this.resultsPath, this.isWon);
+        if (!eventBus.hasSubscribers()) {
+            return;
+        }
+        long start = GameMetrics.startTimer();
+        GameState currentState = session.snapshot();
 
         String messageToSend = null;
         String warningToSend = null;
 
-        if (this.showErrorsFlag) {
+        if (session.isShowErrorsFlag()) {
             warningToSend = runtimeWarning;
             if (hint != null && !hint.isEmpty()) {
                 messageToSend = hint;
-            } else if (this.isWon) {
+            } else if (currentState.isWon()) {
                 messageToSend = "You won the game!";
             } else {
                 messageToSend = "Continue playing.";
             }
         }
 
-        Notification notification = new Notification(currentState, messageToSend, warningToSend);
-        notifyObservers(notification);
+        eventBus.publish(new Notification(currentState, messageToSend, warningToSend));
+        GameMetrics.NOTIFY.recordSince(start);
     }
 
     /**
-     * Triggers a notification to observers with current game state.
+     * Gets the bus on which the model publishes a {@link Notification} after every state change.
+     * Views subscribe synchronously; spectators and loggers can subscribe asynchronously and receive
+     * only the latest state when they fall behind.
+     *
+     * @return The model's event bus
+     */
+    public GameEventBus<Notification> getEventBus() {
+        return eventBus;
+    }
+
+    /**
+     * Publishes a notification to subscribers with current game state.
      * Used when view needs updating without player input.
      *
      * @pre.    none
-     * @post.   observers are notified with current game state
+     * @post.   subscribers are notified with current game state
      *          no custom message or warning is sent
      */
-    public void notifyObserversWithCurrentState() {
+    public void publishCurrentState() {
         notifyUpdate(null, null);
     }
 
@@ -270,25 +292,25 @@ public class WeaverModel extends Observable {
      * @return true if showing errors is enabled
      */
     public boolean isShowErrorsFlag() {
-        return showErrorsFlag;
+        return session.isShowErrorsFlag();
     }
 
     /**
      * Sets the show errors flag and updates validator accordingly.
-     * Notifies observers for GUI update.
+     * Notifies subscribers for GUI update.
      *
      * @pre.    showErrorsFlag is either true or false
      * @post.   this.showErrorsFlag == showErrorsFlag
      *          validator is updated based on new setting
-     *          observers are notified
+     *          subscribers are notified
      *
      * @param showErrorsFlag New value for the flag
      */
     public void setShowErrorsFlag(boolean showErrorsFlag) {
-        if (this.showErrorsFlag != showErrorsFlag) {
-            this.showErrorsFlag = showErrorsFlag;
+        if (session.isShowErrorsFlag() != showErrorsFlag) {
+            session.setShowErrorsFlag(showErrorsFlag);
             updateValidator();
-            notifyObserversWithCurrentState();
+            publishCurrentState();
         }
     }
 
@@ -297,7 +319,7 @@ public class WeaverModel extends Observable {
      * @return true if using random word generation
      */
     public boolean isShowPathFlag() {
-        return showPathFlag;
+        return session.isShowPathFlag();
     }
 
     /**
@@ -307,7 +329,7 @@ public class WeaverModel extends Observable {
      * @param showPathFlag New value for the flag
      */
     public void setShowPathFlag(boolean showPathFlag) {
-        this.showPathFlag = showPathFlag;
+        session.setShowPathFlag(showPathFlag);
     }
 
     /**
@@ -315,7 +337,7 @@ public class WeaverModel extends Observable {
      * @return true if using random word generation
      */
     public boolean isRandomWordFlag() {
-        return randomWordFlag;
+        return session.isRandomWordFlag();
     }
 
     /**
@@ -329,8 +351,8 @@ public class WeaverModel extends Observable {
      * @param randomWordFlag New value for the flag
      */
     public void setRandomWordFlag(boolean randomWordFlag) {
-        if (this.randomWordFlag != randomWordFlag) {
-            this.randomWordFlag = randomWordFlag;
+        if (session.isRandomWordFlag() != randomWordFlag) {
+            session.setRandomWordFlag(randomWordFlag);
             updateStrategy();
         }
     }
@@ -341,12 +363,16 @@ public class WeaverModel extends Observable {
      *
      * @pre.    dictionary is non-null and sufficient for fixed strategy
      * @post.   wordGenerationStrategy is updated with correct factory
-     *          if randomWordFlag is true: uses RandomStrategyFactory
+     *          if randomWordFlag is true and a ladder length range is set: uses LadderLengthStrategyFactory
+     *          if randomWordFlag is true otherwise: uses RandomStrategyFactory
      *          if randomWordFlag is false: uses FixedStrategyFactory with default words
      */
     public void updateStrategy() {
+        boolean randomWordFlag = session.isRandomWordFlag();
         StrategyFactory factory;
-        if (randomWordFlag) {
+        if (randomWordFlag && minLadderLength > 0) {
+            factory = new LadderLengthStrategyFactory(getLadderPairIndex(), minLadderLength, maxLadderLength);
+        } else if (randomWordFlag) {
             factory = new RandomStrategyFactory();
         } else {
             if (dictionary == null || dictionary.size() < 2) {
@@ -358,7 +384,7 @@ public class WeaverModel extends Observable {
         }
 
         WordGenerationStrategy base = factory.createStrategy(dictionary);
-        this.wordGenerationStrategy = randomWordFlag ? new WithPath(base) : base;
+        this.wordGenerationStrategy = randomWordFlag ? new WithPath(base, wordGraph) : base;
     }
 
     /**
@@ -371,27 +397,89 @@ public class WeaverModel extends Observable {
      */
     public void updateValidator() {
         this.validator = this.baseValidator;
-        if (showErrorsFlag) {
+        if (session.isShowErrorsFlag()) {
             this.validator = new WithWarning(this.validator);
         }
     }
 
     /**
      * Resets game state, keeping the same initial and target words.
-     * Clears the path and notifies observers.
+     * Clears the path and notifies subscribers. The cleared moves can still be redone.
      *
      * @pre.    initialWord and targetWord are valid and non-null
      * @post.   currentPath contains only initialWord
      *          resultsPath is cleared
      *          isWon == false
-     *          observers are notified with reset message
+     *          subscribers are notified with reset message
      */
     public void resetGame() {
-        this.isWon = false;
-        currentPath = new ArrayList<>();
-        currentPath.add(initialWord);
-        resultsPath = new ArrayList<>();
+        long start = GameMetrics.startTimer();
+        session.reset();
         notifyUpdate("Game reset. Enter your first word.", null);
+        GameMetrics.RESET.recordSince(start);
+    }
+
+    /**
+     * Takes back the last move of the path. Earlier words are not re-validated.
+     *
+     * @post.   if a move was undone: the last word and result are removed from the path,
+     *          they can be restored with redo(), isWon reflects the new last step
+     *          and subscribers are notified once
+     *
+     * @return true if a move was undone, false if the path holds only the initial word
+     */
+    public boolean undo() {
+        return navigated(session.undo());
+    }
+
+    /**
+     * Replays the next undone move.
+     *
+     * @post.   if a move was redone: the next word on the timeline is appended to the path,
+     *          isWon reflects the new last step and subscribers are notified once
+     *
+     * @return true if a move was redone, false if there is nothing to redo
+     */
+    public boolean redo() {
+        return navigated(session.redo());
+    }
+
+    /**
+     * Moves to a step of the game's timeline, keeping later steps available for redo.
+     *
+     * @pre.    0 ≤ step ≤ getLastStep()
+     * @post.   if moved: getCurrentStep() == step ∧ subscribers are notified once
+     *
+     * @param step The step to move to; 0 is the initial word
+     * @return true if the step exists, false otherwise
+     */
+    public boolean jumpTo(int step) {
+        return navigated(session.jumpTo(step));
+    }
+
+    private boolean navigated(boolean moved) {
+        if (moved) {
+            notifyUpdate("Step " + session.getCurrentStep() + " of " + session.getLastStep() + ".", null);
+        }
+        return moved;
+    }
+
+    /**
+     * Gets the step the game is at.
+     *
+     * @return The number of moves in the current path
+     */
+    public int getCurrentStep() {
+        return session.getCurrentStep();
+    }
+
+    /**
+     * Gets the furthest step that can be reached with redo() or jumpTo().
+     *
+     * @return The last step on the timeline
+     */
+    public int getLastStep() {
+        return session.getLastStep();
     }
 
     /**
@@ -399,7 +487,7 @@ public class WeaverModel extends Observable {
      * @return The starting word
      */
     public String getInitialWord() {
-        return initialWord;
+        return session.getInitialWord();
     }
 
     /**
@@ -407,7 +495,7 @@ public class WeaverModel extends Observable {
      * @return The goal word
      */
     public String getTargetWord() {
-        return targetWord;
+        return session.getTargetWord();
     }
 
     /**
@@ -417,7 +505,7 @@ public class WeaverModel extends Observable {
      * @return A list of words in the current path
      */
     public ArrayList<String> getCurrentPath() {
-        return new ArrayList<>(currentPath);
+        return session.getCurrentPath();
     }
 
     /**
@@ -427,7 +515,7 @@ public class WeaverModel extends Observable {
      * @return List of ValidationResult objects
      */
     public ArrayList<ValidationResult> getResultsPath() {
-        return new ArrayList<>(resultsPath);
+        return session.getResultsPath();
     }
 
     /**
@@ -435,29 +523,175 @@ public class WeaverModel extends Observable {
      * @return true if player reached the target word
      */
     public boolean isWon() {
-        return isWon;
+        return session.isWon();
     }
 
     /**
      * Gets the dictionary used in the game.
-     * Returns a copy to prevent external modification.
+     * The dictionary is immutable and shared by every model in the process, so it is returned without copying.
      *
-     * @return The list of valid words
+     * @return The dictionary of valid words
      */
-    public ArrayList<String> getDictionary() {
-        return new ArrayList<>(dictionary);
+    public WordDictionary getDictionary() {
+        return dictionary;
     }
 
     /**
      * Gets the full solution path from initial to target word.
-     * Uses PathFinder.findPathByBFS internally.
+     * Uses PathFinder.findPathByBFS over the prebuilt word graph internally.
+     * If a distance oracle is enabled, unsolvable pairs return immediately without searching.
      *
      * @post.   returned path contains all steps from initial to target
-     *          or null if no path exists
+     *          or is empty if no path exists
      *
      * @return Full solution path as an ArrayList
      */
     public ArrayList<String> getFullSolutionPath() {
-        return PathFinder.findPathByBFS(this.initialWord, this.targetWord, this.dictionary);
+        return getFullSolutionPath(session.getInitialWord(), session.getTargetWord());
+    }
+
+    /**
+     * Gets the full solution path between two words, e.g. the words of a game captured earlier.
+     * Only the immutable word graph and distance oracle are read, so this can run on a background
+     * thread while the game is played.
+     *
+     * @pre.    initial ≠ null ∧ target ≠ null
+     * @post.   returned path contains all steps from initial to target
+     *          or is empty if no path exists
+     *
+     * @param initial The initial word
+     * @param target  The target word
+     * @return Full solution path as an ArrayList
+     */
+    public ArrayList<String> getFullSolutionPath(String initial, String target) {
+        long start = GameMetrics.startTimer();
+        ArrayList<String> path;
+        DistanceOracle oracle = distanceOracle;
+        if (oracle != null && !oracle.isSolvable(initial, target)) {
+            path = new ArrayList<>();
+        } else {
+            path = PathFinder.findPathByBFS(initial, target, this.wordGraph);
+        }
+        GameMetrics.SOLUTION_PATH.recordSince(start);
+        return path;
+    }
+
+    /**
+     * Gets the par of the current game: the minimum number of moves from initial to target word.
+     * Answered in O(1) from the distance oracle when enabled, otherwise by a path search.
+     *
+     * @pre.    initialWord ≠ null ∧ targetWord ≠ null
+     * @post.   returns -1 iff no ladder connects the two words
+     *
+     * @return The par, or -1 if the game is unsolvable
+     */
+    public int getPar() {
+        if (distanceOracle != null) {
+            return distanceOracle.distance(session.getInitialWord(), session.getTargetWord());
+        }
+        return PathFinder.findPathByBFS(session.getInitialWord(), session.getTargetWord(), this.wordGraph).size() - 1;
+    }
+
+    /**
+     * Gets the word graph of the dictionary.
+     *
+     * @return The shared, immutable word-ladder graph
+     */
+    public WordGraph getWordGraph() {
+        return wordGraph;
+    }
+
+    /**
+     * Enables the precomputed all-pairs distance table, mapping it from the cache file next to the
+     * dictionary or building (in parallel) and persisting it on first use.
+     *
+     * @post.   getDistanceOracle() ≠ null
+     */
+    public void enableDistanceOracle() {
+        if (distanceOracle == null) {
+            setDistanceOracle(DistanceOracle.loadOrBuild(wordGraph));
+        }
+    }
+
+    /**
+     * Sets the distance oracle used for O(1) solvability and par lookups.
+     *
+     * @pre.    distanceOracle is null or distanceOracle.getGraph() == getWordGraph()
+     *
+     * @param distanceOracle The oracle, or null to disable it
+     * @throws IllegalArgumentException if the oracle belongs to a different word graph
+     */
+    public void setDistanceOracle(DistanceOracle distanceOracle) {
+        if (distanceOracle != null && distanceOracle.getGraph() != wordGraph) {
+            throw new IllegalArgumentException("Distance oracle was built for a different dictionary.");
+        }
+        this.distanceOracle = distanceOracle;
+        this.ladderPairIndex = null;
+    }
+
+    /**
+     * Restricts random games to word pairs whose shortest ladder length lies in [min, max] moves,
+     * e.g. 2–3 for easy or 7–20 for hard. Enables the distance oracle on first use.
+     * Takes effect on the next new game, like {@link #setRandomWordFlag(boolean)}.
+     *
+     * @pre.    1 ≤ min ≤ max
+     * @post.   random games draw pairs with min ≤ par ≤ max
+     *
+     * @param min Minimum ladder length in moves (inclusive)
+     * @param max Maximum ladder length in moves (inclusive)
+     * @throws IllegalArgumentException if the range is empty or below 1
+     */
+    public void setLadderLengthRange(int min, int max) {
+        if (min < 1 || min > max) {
+            throw new IllegalArgumentException("Ladder length range must satisfy 1 <= min <= max");
+        }
+        this.minLadderLength = min;
+        this.maxLadderLength = max;
+        updateStrategy();
+    }
+
+    /**
+     * Removes any ladder length restriction, so random games use uniformly random pairs again.
+     */
+    public void clearLadderLengthRange() {
+        this.minLadderLength = 0;
+        this.maxLadderLength = 0;
+        updateStrategy();
+    }
+
+    /**
+     * Gets the index of word pairs bucketed by ladder length, building it (and the distance oracle) on first use.
+     *
+     * @return The ladder pair index
+     */
+    private LadderPairIndex getLadderPairIndex() {
+        if (ladderPairIndex == null) {
+            enableDistanceOracle();
+            ladderPairIndex = new LadderPairIndex(distanceOracle);
+        }
+        return ladderPairIndex;
+    }
+
+    /**
+     * Switches scoring to the precomputed guess×target feedback table, mapping it from the cache file
+     * next to the dictionary or building (in parallel) and persisting it on first use.
+     * Results are identical to the default {@link BasicValidator}.
+     *
+     * @post.   the base validator is a {@link FeedbackTableValidator} for the current dictionary
+     */
+    public void enableFeedbackTable() {
+        if (!(baseValidator instanceof FeedbackTableValidator)) {
+            this.baseValidator = new FeedbackTableValidator(FeedbackTable.loadOrBuild(dictionary));
+            updateValidator();
+        }
+    }
+
+    /**
+     * Gets the distance oracle, if enabled.
+     *
+     * @return The oracle, or null if not enabled
+     */
+    public DistanceOracle getDistanceOracle() {
+        return distanceOracle;
     }
 }
\ No newline at end of file
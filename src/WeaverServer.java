@@ -0,0 +1,451 @@
+import exceptions.WordGameException;
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Function;
+
+/**
+ * A non-blocking Weaver game server. A single thread multiplexes all client connections with an NIO
+ * {@link Selector}; each connection plays one {@link GameSession} of a shared {@link WeaverEngine}.
+ *
+ * <p>The protocol is line based (ASCII, {@code \n}-terminated, case-insensitive commands); every
+ * request gets exactly one response line, starting with {@code OK} or {@code ERR <message>}:</p>
+ * <ul>
+ *   <li>{@code NEW} or {@code NEW <initial> <target>} — starts a random or fixed game;
+ *       responds {@code OK <initial> <target>}</li>
+ *   <li>{@code TICK <word>} — plays a word; responds {@code OK <states>} or {@code OK <states> WIN},
+ *       with one letter per position: {@code C} correct position, {@code W} wrong position,
+ *       {@code N} not in word. After a win, moves are refused until {@code RESET} or {@code NEW}</li>
+ *   <li>{@code RESET} — restarts the game with the same words; responds {@code OK <initial> <target>}</li>
+ *   <li>{@code PATH} — responds {@code OK <word> <word> ...} with a shortest solution path</li>
+ *   <li>{@code QUIT} — responds {@code OK} and closes the connection</li>
+ * </ul>
+ *
+ * <p>Requests of a connection are answered in order. Shortest-path searches ({@code PATH}) and random
+ * pair generation ({@code NEW}) run on a {@link SessionExecutor} so they never stall the selector; the
+ * connection reads no further requests until the reply has been posted back to the selector thread.
+ * While a connection has unsent output it is not read either, and a connection whose unsent output
+ * exceeds {@value #MAX_PENDING_OUTPUT_BYTES} bytes is disconnected, so a client that never reads its
+ * socket cannot grow the server's memory. A failure while serving one connection disconnects only
+ * that connection, and a failure to accept a connection closes only the channel being accepted.</p>
+ *
+ * <p>Usage: {@code java WeaverServer [port]} (binds to localhost, default port {@value #DEFAULT_PORT})</p>
+ */
+public class WeaverServer implements Runnable, Closeable {
+
+    /** Port used when none is given on the command line. */
+    public static final int DEFAULT_PORT = 7878;
+
+    /** Unsent output a connection may accumulate before it is disconnected. */
+    public static final int MAX_PENDING_OUTPUT_BYTES = 64 * 1024;
+
+    private static final int MAX_LINE_BYTES = 256;
+
+    private final WeaverEngine engine;
+    private final SessionExecutor executor;
+    private final Selector selector;
+    private final ServerSocketChannel serverChannel;
+    private final Queue<Runnable> completions = new ConcurrentLinkedQueue<>(); // Replies of offloaded requests
+    private volatile boolean running = true;
+
+    /**
+     * Opens the server socket and registers it with a new selector. Connections are accepted once
+     * {@link #run()} is called.
+     *
+     * @pre.    engine ≠ null ∧ address ≠ null
+     *
+     * @param engine  The engine whose sessions the clients play
+     * @param address The address to bind to (port 0 picks a free port)
+     * @throws IOException if the socket cannot be bound
+     */
+    public WeaverServer(WeaverEngine engine, InetSocketAddress address) throws IOException {
+        this.engine = engine;
+        this.executor = new SessionExecutor(engine);
+        this.selector = Selector.open();
+        this.serverChannel = ServerSocketChannel.open();
+        serverChannel.bind(address, 1024);
+        serverChannel.configureBlocking(false);
+        serverChannel.register(selector, SelectionKey.OP_ACCEPT);
+    }
+
+    /**
+     * Starts a server on localhost and serves until the process is stopped.
+     *
+     * @param args Optional port number
+     * @throws IOException if the dictionary cannot be loaded or the socket cannot be bound
+     */
+    public static void main(String[] args) throws IOException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_PORT;
+        WeaverServer server = new WeaverServer(new WeaverEngine(),
+                new InetSocketAddress(InetAddress.getLoopbackAddress(), port));
+        System.out.println("Weaver server listening on port " + server.getLocalPort());
+        server.run();
+    }
+
+    /**
+     * Gets the port the server is bound to.
+     *
+     * @return The local port
+     */
+    public int getLocalPort() {
+        return serverChannel.socket().getLocalPort();
+    }
+
+    /**
+     * Runs the selector loop until {@link #close()} is called.
+     */
+    @Override
+    public void run() {
+        try {
+            while (running) {
+                selector.select();
+                Runnable completion;
+                while ((completion = completions.poll()) != null) {
+                    completion.run();
+                }
+                Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    SelectionKey key = keys.next();
+                    keys.remove();
+                    if (!key.isValid()) {
+                        continue;
+                    }
+                    if (key.isAcceptable()) {
+                        accept();
+                        continue;
+                    }
+                    try {
+                        if (key.isReadable()) {
+                            read(key);
+                        }
+                        if (key.isValid() && key.isWritable()) {
+                            write(key);
+                        }
+                    } catch (IOException e) {
+                        disconnect(key);
+                    } catch (RuntimeException e) {
+                        System.err.println("Weaver server dropped a connection: " + e);
+                        disconnect(key);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            System.err.println("Weaver server stopped: " + e.getMessage());
+        } finally {
+            for (SelectionKey key : selector.keys()) {
+                disconnect(key);
+            }
+            executor.close();
+            try {
+                selector.close();
+            } catch (IOException e) {
+                // Already shutting down
+            }
+        }
+    }
+
+    /**
+     * Stops the selector loop and closes all connections.
+     */
+    @Override
+    public void close() {
+        running = false;
+        selector.wakeup();
+    }
+
+    /**
+     * Accepts a pending connection. A failure (e.g. too many open files) is logged and closes only the
+     * channel being accepted; the server socket stays registered, so later connections are still accepted.
+     */
+    private void accept() {
+        SocketChannel channel = null;
+        try {
+            channel = acceptChannel();
+            if (channel == null) {
+                return;
+            }
+            channel.configureBlocking(false);
+            channel.socket().setTcpNoDelay(true);
+            channel.register(selector, SelectionKey.OP_READ, new Connection());
+        } catch (IOException | RuntimeException e) {
+            System.err.println("Weaver server could not accept a connection: " + e);
+            if (channel != null) {
+                try {
+                    channel.close();
+                } catch (IOException closeFailure) {
+                    // Nothing more to release
+                }
+            }
+        }
+    }
+
+    /**
+     * Accepts the next pending connection from the server socket.
+     *
+     * @return The accepted channel, or null if none is pending
+     * @throws IOException if the connection cannot be accepted
+     */
+    SocketChannel acceptChannel() throws IOException {
+        return serverChannel.accept();
+    }
+
+    private void read(SelectionKey key) throws IOException {
+        SocketChannel channel = (SocketChannel) key.channel();
+        Connection connection = (Connection) key.attachment();
+        if (channel.read(connection.in) < 0) {
+            disconnect(key);
+            return;
+        }
+        processLines(key, connection);
+    }
+
+    /**
+     * Answers the complete request lines buffered for a connection, stopping at a request that was
+     * offloaded or that closes the connection; the rest stays buffered. Then flushes the output.
+     */
+    private void processLines(SelectionKey key, Connection connection) throws IOException {
+        ByteBuffer in = connection.in;
+        in.flip();
+        int lineStart = in.position();
+        for (int i = in.position(); i < in.limit() && !connection.busy && !connection.closeAfterWrite; i++) {
+            if (in.get(i) == '\n') {
+                int end = (i > lineStart && in.get(i - 1) == '\r') ? i - 1 : i;
+                String line = new String(in.array(), lineStart, end - lineStart, StandardCharsets.US_ASCII);
+                lineStart = i + 1;
+                String response = handle(key, connection, line.trim());
+                if (response != null) {
+                    connection.respond(response);
+                }
+            }
+        }
+        in.position(lineStart);
+        in.compact();
+        if (!in.hasRemaining() && !connection.busy && !connection.closeAfterWrite) {
+            connection.respond("ERR Line too long.");
+            connection.closeAfterWrite = true;
+            in.clear();
+        }
+        write(key);
+    }
+
+    /**
+     * Sends as much pending output as the socket accepts. A connection is read only while it has no
+     * unsent output and no offloaded request, so a client must read its replies to send more requests.
+     */
+    private void write(SelectionKey key) throws IOException {
+        SocketChannel channel = (SocketChannel) key.channel();
+        Connection connection = (Connection) key.attachment();
+        ByteBuffer out = connection.out;
+        out.flip();
+        channel.write(out);
+        boolean pending = out.hasRemaining();
+        out.compact();
+        if (pending) {
+            key.interestOps(SelectionKey.OP_WRITE);
+        } else if (connection.closeAfterWrite) {
+            disconnect(key);
+        } else if (connection.busy) {
+            key.interestOps(0);
+        } else {
+            key.interestOps(SelectionKey.OP_READ);
+        }
+    }
+
+    private void disconnect(SelectionKey key) {
+        Object attachment = key.attachment();
+        if (attachment instanceof Connection) {
+            Connection connection = (Connection) attachment;
+            connection.closed = true;
+            if (connection.sessionId != null) {
+                executor.closeSession(connection.sessionId);
+                connection.sessionId = null;
+            }
+        }
+        key.cancel();
+        try {
+            key.channel().close();
+        } catch (IOException e) {
+            // Nothing left to release
+        }
+    }
+
+    /**
+     * Executes one request line for a connection.
+     *
+     * @param key        The connection's selection key
+     * @param connection The client connection
+     * @param line       The request, without the line terminator
+     * @return The response line, without the line terminator, or null if the request was offloaded
+     *         and its response will be posted later
+     */
+    private String handle(SelectionKey key, Connection connection, String line) {
+        String[] parts = line.split("\\s+");
+        String command = parts[0].toUpperCase();
+        try {
+            switch (command) {
+                case "NEW":
+                    if (parts.length == 3) {
+                        return replaceSession(connection, engine.createSession(parts[1], parts[2]));
+                    } else if (parts.length == 1) {
+                        offload(key, connection, executor.createSession(), id -> replaceSession(connection, id));
+                        return null;
+                    }
+                    return "ERR Usage: NEW [initial target]";
+                case "TICK":
+                    if (parts.length != 2) {
+                        return "ERR Usage: TICK word";
+                    }
+                    GuessVerdict verdict = engine.tryTick(requireSession(connection), parts[1]);
+                    return verdict.isOk() ? describeResult(verdict.getResult()) : "ERR " + verdict.getMessage();
+                case "RESET":
+                    engine.reset(requireSession(connection));
+                    return describeGame(connection.sessionId);
+                case "PATH":
+                    offload(key, connection, executor.solutionPath(requireSession(connection)),
+                            path -> "OK " + String.join(" ", path));
+                    return null;
+                case "QUIT":
+                    connection.closeAfterWrite = true;
+                    return "OK";
+                default:
+                    return "ERR Unknown command: " + command;
+            }
+        } catch (WordGameException | IllegalArgumentException | IllegalStateException e) {
+            return "ERR " + e.getMessage();
+        }
+    }
+
+    /**
+     * Makes a newly created session the connection's game, closing its previous one.
+     *
+     * @return The NEW response
+     */
+    private String replaceSession(Connection connection, String sessionId) {
+        String previous = connection.sessionId;
+        connection.sessionId = sessionId;
+        if (previous != null) {
+            executor.closeSession(previous);
+        }
+        return describeGame(sessionId);
+    }
+
+    /**
+     * Answers a request once work running off the selector thread completes. The connection reads no
+     * further requests until then; the reply is formatted and sent on the selector thread.
+     *
+     * @param key        The connection's selection key
+     * @param connection The client connection
+     * @param work       The offloaded work
+     * @param reply      Formats the work's result as the response; runs on the selector thread
+     */
+    private <T> void offload(SelectionKey key, Connection connection, CompletableFuture<T> work, Function<T, String> reply) {
+        connection.busy = true;
+        work.whenComplete((value, error) -> {
+            completions.add(() -> complete(key, connection, value, error, reply));
+            selector.wakeup();
+        });
+    }
+
+    private <T> void complete(SelectionKey key, Connection connection, T value, Throwable error, Function<T, String> reply) {
+        connection.busy = false;
+        String response;
+        try {
+            if (error != null) {
+                Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+                response = "ERR " + cause.getMessage();
+            } else {
+                response = reply.apply(value);
+            }
+        } catch (WordGameException | IllegalArgumentException | IllegalStateException e) {
+            response = "ERR " + e.getMessage();
+        }
+        if (connection.closed) {
+            // The client left while the work ran; release a session it may have created
+            if (connection.sessionId != null) {
+                executor.closeSession(connection.sessionId);
+                connection.sessionId = null;
+            }
+            return;
+        }
+        try {
+            connection.respond(response);
+            processLines(key, connection);
+        } catch (IOException | RuntimeException e) {
+            disconnect(key);
+        }
+    }
+
+    private static String requireSession(Connection connection) {
+        if (connection.sessionId == null) {
+            throw new IllegalStateException("No game started; send NEW first.");
+        }
+        return connection.sessionId;
+    }
+
+    private String describeGame(String sessionId) {
+        GameSession session = engine.getSession(sessionId);
+        return "OK " + session.getInitialWord() + " " + session.getTargetWord();
+    }
+
+    private static String describeResult(ValidationResult result) {
+        StringBuilder response = new StringBuilder("OK ");
+        for (int i = 0; i < result.length(); i++) {
+            LetterState state = result.getLetterState(i);
+            if (state == LetterState.CORRECT_POSITION) {
+                response.append('C');
+            } else if (state == LetterState.WRONG_POSITION) {
+                response.append('W');
+            } else {
+                response.append('N');
+            }
+        }
+        if (result.getValid()) {
+            response.append(" WIN");
+        }
+        return response.toString();
+    }
+
+    /**
+     * Per-connection buffers and the connection's game session, accessed on the selector thread only.
+     */
+    private static final class Connection {
+        final ByteBuffer in = ByteBuffer.allocate(MAX_LINE_BYTES);
+        ByteBuffer out = ByteBuffer.allocate(MAX_LINE_BYTES);
+        String sessionId;
+        boolean closeAfterWrite;
+        boolean busy;   // A request is running off the selector thread
+        boolean closed;
+
+        /**
+         * Queues a response line.
+         *
+         * @throws IOException if the unsent output would exceed {@link WeaverServer#MAX_PENDING_OUTPUT_BYTES}
+         */
+        void respond(String line) throws IOException {
+            byte[] bytes = (line + "\n").getBytes(StandardCharsets.US_ASCII);
+            if (out.position() + bytes.length > MAX_PENDING_OUTPUT_BYTES) {
+                throw new IOException("Client is not reading its responses");
+            }
+            if (out.remaining() < bytes.length) {
+                ByteBuffer larger = ByteBuffer.allocate(Math.min(MAX_PENDING_OUTPUT_BYTES,
+                        Math.max(out.capacity() * 2, out.position() + bytes.length)));
+                out.flip();
+                larger.put(out);
+                out = larger;
+            }
+            out.put(bytes);
+        }
+    }
+}
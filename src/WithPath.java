@@ -1,20 +1,37 @@
 import exceptions.WordGenerationException;
+import profiling.PairRepairEvent;
 import java.util.ArrayList;
+import java.util.Random;
 
 /**
  * A decorator for WordGenerationStrategy that ensures a valid transformation path exists
  * between the generated start word and target word.
  *
- * <p>This class wraps another word generation strategy (e.g., RandomWordStrategy) and attempts to find
- * a valid transformation path using BFS. If no path is found after multiple attempts, it throws an exception.</p>
+ * <p>This class wraps another word generation strategy (e.g., RandomWordStrategy) and keeps its start word,
+ * but guarantees the pair is solvable using the connected-component labels of a {@link WordGraph}:
+ * if the base target is not reachable, a replacement target is sampled uniformly from the start word's
+ * component, and an isolated start word is replaced by a random word that has at least one ladder.
+ * No BFS is needed to check reachability, so generation takes constant time and never retries.</p>
+ *
+ * <p>The solution path itself is computed lazily, on the first call to {@link #getPath()}.</p>
  */
 public class WithPath extends WordGenerationStrategyDecorator {
 
-    // Stores the solution path from start word to target word
+    // Stores the solution path from start word to target word, computed on demand
     private ArrayList<String> path;
 
+    // Most recently generated pair
+    private String[] wordsPair;
+
+    // Word-ladder graph of the dictionary, obtained lazily if not supplied
+    private WordGraph graph;
+
+    private final Random random = new Random();
+
     /**
      * Constructs a new WithPath decorator that wraps the given base strategy.
+     * The word-ladder graph of the dictionary is obtained on the first call to generateWords
+     * (the shared graph for the bundled dictionary, otherwise a newly built one).
      *
      * @param baseStrategy The underlying word generation strategy to decorate
      */
@@ -22,35 +39,93 @@ public class WithPath extends WordGenerationStrategyDecorator {
         super(baseStrategy);
     }
 
+    /**
+     * Constructs a new WithPath decorator that uses a shared, prebuilt word-ladder graph.
+     *
+     * @param baseStrategy The underlying word generation strategy to decorate
+     * @param graph        The word-ladder graph of the dictionary the base strategy draws from
+     */
+    public WithPath(WordGenerationStrategy baseStrategy, WordGraph graph) {
+        super(baseStrategy);
+        this.graph = graph;
+    }
+
     /**
      * Generates a pair of words [startWord, targetWord] such that a valid transformation path exists.
-     * Tries up to 20 times to generate such a pair before throwing an exception.
      *
-     * @param dictionary The list of valid words used for validation
+     * @pre.    dictionary ≠ null ∧ the base strategy returns words from dictionary
+     * @post.   returned words are distinct and in the same connected component of the word graph
+     *
+     * @param dictionary The dictionary of valid words used for validation
      * @return An array containing [startWord, targetWord] with a valid path
-     * @throws WordGenerationException if no valid path can be found after max attempts
+     * @throws WordGenerationException if no two words of the dictionary are connected
      */
     @Override
-    public String[] generateWords(ArrayList<String> dictionary) {
-        int maxAttempt = 20;
-        for (int i = 0; i < maxAttempt; i++) {
-            String[] wordsPair = this.getBaseStrategy().generateWords(dictionary);
-            this.path = PathFinder.findPathByBFS(wordsPair[0], wordsPair[1], dictionary);
-
-            if (!path.isEmpty()) {
-                return wordsPair;
-            }
+    public String[] generateWords(WordDictionary dictionary) {
+        if (this.graph == null) {
+            this.graph = CompiledDictionary.graphOf(dictionary);
+        }
+        if (graph.pairableCount() == 0) {
+            throw new WordGenerationException("No path found between any generated word pairs.");
         }
-        throw new WordGenerationException("No path found between any generated word pairs.");
+
+        String[] basePair = this.getBaseStrategy().generateWords(dictionary);
+        PairRepairEvent event = new PairRepairEvent();
+        event.begin();
+        int startId = graph.indexOf(basePair[0]);
+        int targetId = graph.indexOf(basePair[1]);
+        boolean startReplaced = false;
+        boolean repaired = false;
+
+        if (startId < 0 || graph.componentSize(graph.componentOf(startId)) < 2) {
+            startId = graph.pairableAt(random.nextInt(graph.pairableCount()));
+            startReplaced = true;
+            repaired = true;
+        }
+        if (targetId < 0 || targetId == startId || !graph.isConnected(startId, targetId)) {
+            targetId = sampleOtherMember(startId);
+            repaired = true;
+        }
+
+        this.wordsPair = new String[]{graph.wordAt(startId), graph.wordAt(targetId)};
+        if (repaired && event.shouldCommit()) {
+            event.baseStart = basePair[0];
+            event.baseTarget = basePair[1];
+            event.start = wordsPair[0];
+            event.target = wordsPair[1];
+            event.startReplaced = startReplaced;
+            event.commit();
+        }
+        this.path = null;
+        return new String[]{wordsPair[0], wordsPair[1]};
     }
 
     /**
-     * Gets the solution path found during word generation.
-     * Returns an empty list if no path was found.
+     * Picks a word uniformly from the start word's component, excluding the start word itself.
+     *
+     * @pre.    componentSize(componentOf(startId)) ≥ 2
+     *
+     * @param startId The start word ID
+     * @return A different word ID connected to startId
+     */
+    private int sampleOtherMember(int startId) {
+        int componentId = graph.componentOf(startId);
+        int size = graph.componentSize(componentId);
+        int candidate = graph.componentMember(componentId, random.nextInt(size - 1));
+        // The start word takes one slot; swap it for the last member, which was excluded from the draw
+        return candidate != startId ? candidate : graph.componentMember(componentId, size - 1);
+    }
+
+    /**
+     * Gets the solution path for the most recently generated pair.
+     * Returns an empty list if no pair has been generated yet.
      *
      * @return An ArrayList of strings representing the transformation steps
      */
     public ArrayList<String> getPath() {
+        if (this.path == null && this.wordsPair != null) {
+            this.path = PathFinder.findPathByBFS(wordsPair[0], wordsPair[1], graph);
+        }
         return (this.path != null) ? this.path : new ArrayList<>();
     }
-}
\ No newline at end of file
+}
@@ -1,5 +1,3 @@
-import java.util.ArrayList;
-
 /**
  * A validator decorator that adds informative messages to validation results.
  * This class enhances the base validator by providing feedback such as:
@@ -27,16 +25,33 @@ public class WithWarning extends ValidatorDecorator {
      * @param word       The player's guessed word
      * @param target     The target word to match
      * @param dictionary The dictionary of valid words
-     * @return A ValidationResult object with updated message
+     * @return A copy of the base ValidationResult with the feedback message
      */
     @Override
-    public ValidationResult validate(String word, String target, ArrayList<String> dictionary) {
-        ValidationResult result = this.getBaseValidator().validate(word, target, dictionary);
+    public ValidationResult validate(String word, String target, WordDictionary dictionary) {
+        return evaluate(word, target, dictionary).getResultOrThrow();
+    }
+
+    /**
+     * Checks the guessed word using the base validator without throwing,
+     * then adds the feedback message to an accepted guess's result.
+     *
+     * @param word       The player's guessed word
+     * @param target     The target word to match
+     * @param dictionary The dictionary of valid words
+     * @return The base verdict, with the message added if the guess was accepted
+     */
+    @Override
+    public GuessVerdict evaluate(String word, String target, WordDictionary dictionary) {
+        GuessVerdict verdict = this.getBaseValidator().evaluate(word, target, dictionary);
+        if (!verdict.isOk()) {
+            return verdict;
+        }
+        ValidationResult result = verdict.getResult();
         if (!result.getValid()) {
-            result.setMessage("Continue");
+            return GuessVerdict.ok(result.withMessage("Continue"));
         } else {
-            result.setMessage("You win the game!");
+            return GuessVerdict.ok(result.withMessage("You win the game!"));
         }
-        return result;
     }
 }
\ No newline at end of file
@@ -0,0 +1,339 @@
+import java.nio.IntBuffer;
+import java.util.AbstractList;
+import java.util.Collection;
+import java.util.RandomAccess;
+
+/**
+ * An immutable dictionary of 4-letter words with constant-time, allocation-free membership checks.
+ * Each word is packed into a 20-bit int (5 bits per letter, 'A' = 0 .. 'Z' = 25, first letter in the
+ * highest bits, so numeric order equals alphabetical order) and indexed in an open-addressed int table.
+ *
+ * <p>The dictionary is also a read-only {@link java.util.List} of its words; a word's index in that list
+ * is its word ID, which {@link WordGraph} and other precomputed indexes share. All mutators throw
+ * {@link UnsupportedOperationException}, so the same instance can be handed out without copying.</p>
+ *
+ * <p>The codes and the probe table are int buffers: heap arrays for a dictionary built in memory, or
+ * read-only views of a file mapped by {@link CompiledDictionary}, whose pages every process mapping the
+ * same file shares through the page cache.</p>
+ *
+ * <p><b>Class Invariant:</b>
+ * <ul>
+ *   <li>{@code words.length == codes.limit()} ∧ {@code codes.get(i) == encode(words[i])}</li>
+ *   <li>all codes are distinct and non-negative</li>
+ *   <li>{@code table.limit()} is a power of two ≥ 2 × size(); a slot holds 0 (empty) or word ID + 1,
+ *       and every code is found by probing from its hash</li>
+ * </ul>
+ */
+public final class WordDictionary extends AbstractList<String> implements RandomAccess {
+
+    /** Length of every word in the dictionary. */
+    public static final int WORD_LENGTH = 4;
+
+    /** Number of bits used to encode one letter. */
+    public static final int BITS_PER_LETTER = 5;
+
+    private static final int LETTER_MASK = (1 << BITS_PER_LETTER) - 1;
+
+    private final String[] words;
+    private final IntBuffer codes;
+    private final IntBuffer table;
+    private final int tableMask;
+    private final long fingerprint;
+
+    private WordDictionary(String[] words, IntBuffer codes, IntBuffer table) {
+        this.words = words;
+        this.codes = codes;
+        this.table = table;
+        this.tableMask = table.limit() - 1;
+        long hash = 0xCBF29CE484222325L;
+        for (int id = 0; id < words.length; id++) {
+            hash = (hash ^ codes.get(id)) * 0x100000001B3L;
+        }
+        this.fingerprint = hash ^ words.length;
+    }
+
+    private WordDictionary(String[] words, int[] codes) {
+        this(words, IntBuffer.wrap(codes), IntBuffer.wrap(probeTable(codes)));
+    }
+
+    /**
+     * Gets the probe table capacity of a dictionary.
+     *
+     * @param size The number of words
+     * @return A power of two of at least 2 × size slots (and at least 4)
+     */
+    static int tableCapacity(int size) {
+        return Integer.highestOneBit(Math.max(2, size) * 2 - 1) << 1;
+    }
+
+    private static int[] probeTable(int[] codes) {
+        int[] table = new int[tableCapacity(codes.length)];
+        int mask = table.length - 1;
+        for (int id = 0; id < codes.length; id++) {
+            int slot = hash(codes[id]) & mask;
+            while (table[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            table[slot] = id + 1;
+        }
+        return table;
+    }
+
+    /**
+     * Builds a dictionary from a collection of words, keeping the order in which they first appear.
+     * Words that are not exactly 4 uppercase letters A–Z, and repeated words, are skipped.
+     *
+     * @pre.    words ≠ null
+     * @post.   returned dictionary contains every encodable word of words exactly once
+     *
+     * @param words The candidate words
+     * @return A new immutable WordDictionary
+     */
+    public static WordDictionary of(Collection<String> words) {
+        String[] accepted = new String[words.size()];
+        int[] acceptedCodes = new int[words.size()];
+        long[] seen = new long[(1 << (BITS_PER_LETTER * WORD_LENGTH)) / Long.SIZE];
+        int count = 0;
+        for (String word : words) {
+            int code = encode(word);
+            if (code >= 0 && (seen[code >>> 6] & (1L << code)) == 0) {
+                seen[code >>> 6] |= 1L << code;
+                accepted[count] = word;
+                acceptedCodes[count] = code;
+                count++;
+            }
+        }
+        String[] trimmedWords = new String[count];
+        int[] trimmedCodes = new int[count];
+        System.arraycopy(accepted, 0, trimmedWords, 0, count);
+        System.arraycopy(acceptedCodes, 0, trimmedCodes, 0, count);
+        return new WordDictionary(trimmedWords, trimmedCodes);
+    }
+
+    /**
+     * Builds a dictionary directly from packed codes, as stored by {@link CompiledDictionary}.
+     * Word IDs follow the order of the codes.
+     *
+     * @pre.    codes ≠ null
+     * @post.   codeAt(i) == codes[i] for every i
+     *
+     * @param codes Distinct 20-bit codes; the array is copied
+     * @return A new immutable WordDictionary
+     * @throws IllegalArgumentException if a code is out of range or repeated
+     */
+    public static WordDictionary ofCodes(int[] codes) {
+        int[] copy = codes.clone();
+        return new WordDictionary(decodeAll(IntBuffer.wrap(copy)), copy);
+    }
+
+    /**
+     * Creates a dictionary over existing code and probe table buffers, such as read-only views of a
+     * file mapped by {@link CompiledDictionary}, without copying them.
+     *
+     * @pre.    codes and table are not modified afterwards
+     * @post.   codeAt(i) == codes.get(i) for every i
+     *
+     * @param codes Distinct 20-bit codes, one per word, from index 0 to the limit
+     * @param table The probe table written by {@link #tableBuffer()} for the same codes
+     * @return A new immutable WordDictionary backed by the buffers
+     * @throws IllegalArgumentException if a code is out of range or repeated, or the table does not index the codes
+     */
+    static WordDictionary ofBuffers(IntBuffer codes, IntBuffer table) {
+        String[] decoded = decodeAll(codes);
+        if (table.limit() != tableCapacity(decoded.length)) {
+            throw new IllegalArgumentException("Probe table has " + table.limit() + " slots for " + decoded.length + " words");
+        }
+        int used = 0;
+        for (int slot = 0; slot < table.limit(); slot++) {
+            int entry = table.get(slot);
+            if (entry < 0 || entry > decoded.length) {
+                throw new IllegalArgumentException("Probe table refers to unknown word ID " + (entry - 1));
+            }
+            used += entry != 0 ? 1 : 0;
+        }
+        // With one entry per word the table is at most half full, so every probe reaches an empty slot
+        if (used != decoded.length) {
+            throw new IllegalArgumentException("Probe table holds " + used + " entries for " + decoded.length + " words");
+        }
+        WordDictionary dictionary = new WordDictionary(decoded, codes, table);
+        for (int id = 0; id < decoded.length; id++) {
+            if (dictionary.indexOfCode(codes.get(id)) != id) {
+                throw new IllegalArgumentException("Probe table does not index word ID " + id);
+            }
+        }
+        return dictionary;
+    }
+
+    private static String[] decodeAll(IntBuffer codes) {
+        String[] decoded = new String[codes.limit()];
+        long[] seen = new long[(1 << (BITS_PER_LETTER * WORD_LENGTH)) / Long.SIZE];
+        for (int id = 0; id < decoded.length; id++) {
+            int code = codes.get(id);
+            if (code < 0 || code >= (1 << (BITS_PER_LETTER * WORD_LENGTH)) || !isEncodable(code)
+                    || (seen[code >>> 6] & (1L << code)) != 0) {
+                throw new IllegalArgumentException("Invalid or repeated word code: " + code);
+            }
+            seen[code >>> 6] |= 1L << code;
+            decoded[id] = decode(code);
+        }
+        return decoded;
+    }
+
+    private static boolean isEncodable(int code) {
+        for (int i = 0; i < WORD_LENGTH; i++) {
+            if (((code >>> (i * BITS_PER_LETTER)) & LETTER_MASK) > 'Z' - 'A') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Packs a word into its 20-bit code without allocating.
+     *
+     * @param word The word to encode (may be null)
+     * @return The packed code, or -1 if word is null or not exactly 4 uppercase letters A–Z
+     */
+    public static int encode(CharSequence word) {
+        if (word == null || word.length() != WORD_LENGTH) {
+            return -1;
+        }
+        int code = 0;
+        for (int i = 0; i < WORD_LENGTH; i++) {
+            char c = word.charAt(i);
+            if (c < 'A' || c > 'Z') {
+                return -1;
+            }
+            code = (code << BITS_PER_LETTER) | (c - 'A');
+        }
+        return code;
+    }
+
+    /**
+     * Unpacks a 20-bit code back into its word.
+     *
+     * @pre.    code was produced by {@link #encode(CharSequence)} and is ≥ 0
+     *
+     * @param code The packed code
+     * @return The decoded uppercase word
+     */
+    public static String decode(int code) {
+        char[] letters = new char[WORD_LENGTH];
+        for (int i = WORD_LENGTH - 1; i >= 0; i--) {
+            letters[i] = (char) ('A' + (code & LETTER_MASK));
+            code >>>= BITS_PER_LETTER;
+        }
+        return new String(letters);
+    }
+
+    /**
+     * Looks up the word ID of a packed code.
+     *
+     * @param code The packed code
+     * @return The word ID, or -1 if the code is not in the dictionary
+     */
+    public int indexOfCode(int code) {
+        if (code < 0) {
+            return -1;
+        }
+        int slot = hash(code) & tableMask;
+        int entry;
+        while ((entry = table.get(slot)) != 0) {
+            if (codes.get(entry - 1) == code) {
+                return entry - 1;
+            }
+            slot = (slot + 1) & tableMask;
+        }
+        return -1;
+    }
+
+    /**
+     * Looks up the word ID of a word without allocating.
+     *
+     * @param word The word to look up
+     * @return The word ID, or -1 if the word is not in the dictionary
+     */
+    public int indexOf(String word) {
+        return indexOfCode(encode(word));
+    }
+
+    /**
+     * Checks whether the word is in the dictionary in constant time without allocating.
+     *
+     * @param word The word to check
+     * @return true if the word is in the dictionary
+     */
+    public boolean contains(String word) {
+        return indexOf(word) >= 0;
+    }
+
+    /**
+     * Gets the packed code of the word with the given ID.
+     *
+     * @pre.    0 ≤ id < size()
+     *
+     * @param id The word ID
+     * @return The word's 20-bit code
+     */
+    public int codeAt(int id) {
+        return codes.get(id);
+    }
+
+    /**
+     * Gets a 64-bit fingerprint of the words and their ID order.
+     * Precomputed indexes persisted to disk store it so that a cache built for a different
+     * dictionary is detected and rebuilt instead of being misread.
+     *
+     * @return The fingerprint
+     */
+    public long fingerprint() {
+        return fingerprint;
+    }
+
+    /**
+     * Gets a read-only view of the packed codes, in word ID order, e.g. to store them in a file.
+     *
+     * @return The codes, from index 0 to size()
+     */
+    IntBuffer codeBuffer() {
+        return codes.asReadOnlyBuffer();
+    }
+
+    /**
+     * Gets a read-only view of the probe table, e.g. to store it in a file.
+     *
+     * @return The table of {@link #tableCapacity(int)} slots
+     */
+    IntBuffer tableBuffer() {
+        return table.asReadOnlyBuffer();
+    }
+
+    @Override
+    public int indexOf(Object o) {
+        return (o instanceof String) ? indexOf((String) o) : -1;
+    }
+
+    @Override
+    public int lastIndexOf(Object o) {
+        return indexOf(o);
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return indexOf(o) >= 0;
+    }
+
+    @Override
+    public String get(int id) {
+        return words[id];
+    }
+
+    @Override
+    public int size() {
+        return words.length;
+    }
+
+    private static int hash(int code) {
+        return (code * 0x9E3779B9) >>> 11;
+    }
+}
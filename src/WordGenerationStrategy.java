@@ -14,7 +14,7 @@ public interface WordGenerationStrategy {
      * @param dictionary The list of valid words that can be used for generation
      * @return An array containing two words: [initialWord, targetWord]
      */
-    String[] generateWords(ArrayList<String> dictionary);
+    String[] generateWords(WordDictionary dictionary);
     /**
      * Gets the solution path from the initial word to the target word, if available.
      *
@@ -1,11 +1,9 @@
-import java.util.ArrayList;
-
 /**
  * A base class for decorating a word generation strategy.
  * This abstract class wraps another {@link WordGenerationStrategy} and allows subclasses
  * to modify or enhance its behavior.
  *
- * <p>Subclasses should override the {@link #generateWords(ArrayList)} method
+ * <p>Subclasses should override the {@link #generateWords(WordDictionary)} method
  * to provide extended functionality.</p>
  */
 public abstract class WordGenerationStrategyDecorator implements WordGenerationStrategy {
@@ -39,5 +37,5 @@ public abstract class WordGenerationStrategyDecorator implements WordGenerationS
      * @return An array containing [initialWord, targetWord]
      */
     @Override
-    public abstract String[] generateWords(ArrayList<String> dictionary);
+    public abstract String[] generateWords(WordDictionary dictionary);
 }
\ No newline at end of file
@@ -0,0 +1,434 @@
+import profiling.GraphBuildEvent;
+import java.nio.IntBuffer;
+import java.util.Arrays;
+
+/**
+ * An immutable word-ladder graph built once over a dictionary.
+ * Word IDs are the indices of the {@link WordDictionary}, and two words are adjacent
+ * when they differ in exactly one position.
+ *
+ * <p>Adjacency is stored in compressed sparse row (CSR) form: the neighbors of word {@code id}
+ * are {@code neighbors[offsets[id]] .. neighbors[offsets[id + 1] - 1]}. Path queries therefore
+ * only traverse two flat int buffers and never rebuild wildcard buckets or concatenate strings. The
+ * buffers are heap arrays for a graph built in memory, or read-only views of a file mapped by
+ * {@link CompiledDictionary}, shared through the page cache by every process mapping it.</p>
+ *
+ * <p>Connected components are labelled once at build time with union-find over the edges, so whether
+ * two words are connected by some ladder is an O(1) label comparison, and the members of a component
+ * are stored contiguously (also in CSR form) for uniform sampling.</p>
+ *
+ * <p><b>Class Invariant:</b>
+ * <ul>
+ *   <li>{@code offsets.limit() == dictionary.size() + 1} ∧ {@code offsets} is non-decreasing</li>
+ *   <li>{@code offsets.get(dictionary.size()) == neighbors.limit()}</li>
+ *   <li>adjacency is symmetric: j is a neighbor of i iff i is a neighbor of j</li>
+ *   <li>{@code component[i] == component[j]} iff a path exists between words i and j</li>
+ *   <li>{@code pairable} holds exactly the words whose component has at least two members</li>
+ * </ul>
+ */
+public final class WordGraph {
+    private final WordDictionary dictionary;
+    private final IntBuffer offsets;
+    private final IntBuffer neighbors;
+    private final int[] component;
+    private final int[] componentOffsets;
+    private final int[] componentMembers;
+    private final int[] pairable;
+
+    private WordGraph(WordDictionary dictionary, IntBuffer offsets, IntBuffer neighbors) {
+        this.dictionary = dictionary;
+        this.offsets = offsets;
+        this.neighbors = neighbors;
+
+        int wordCount = dictionary.size();
+        int[] root = unionFind(wordCount, offsets, neighbors);
+
+        // Relabel union-find roots as dense component IDs 0..componentCount-1
+        int[] label = new int[wordCount];
+        Arrays.fill(label, -1);
+        this.component = new int[wordCount];
+        int componentCount = 0;
+        for (int id = 0; id < wordCount; id++) {
+            if (label[root[id]] < 0) {
+                label[root[id]] = componentCount++;
+            }
+            component[id] = label[root[id]];
+        }
+
+        this.componentOffsets = new int[componentCount + 1];
+        for (int id = 0; id < wordCount; id++) {
+            componentOffsets[component[id] + 1]++;
+        }
+        int pairableCount = 0;
+        for (int c = 0; c < componentCount; c++) {
+            if (componentOffsets[c + 1] > 1) {
+                pairableCount += componentOffsets[c + 1];
+            }
+            componentOffsets[c + 1] += componentOffsets[c];
+        }
+        this.componentMembers = new int[wordCount];
+        this.pairable = new int[pairableCount];
+        int[] fill = Arrays.copyOf(componentOffsets, componentCount);
+        int nextPairable = 0;
+        for (int id = 0; id < wordCount; id++) {
+            componentMembers[fill[component[id]]++] = id;
+            if (componentSize(component[id]) > 1) {
+                pairable[nextPairable++] = id;
+            }
+        }
+    }
+
+    /**
+     * Runs union-find (union by size, path halving) over all edges.
+     *
+     * @param wordCount Number of vertices
+     * @param offsets   CSR offsets
+     * @param neighbors CSR neighbor IDs
+     * @return For every word, the root of its set
+     */
+    private static int[] unionFind(int wordCount, IntBuffer offsets, IntBuffer neighbors) {
+        int[] parent = new int[wordCount];
+        int[] setSize = new int[wordCount];
+        for (int id = 0; id < wordCount; id++) {
+            parent[id] = id;
+            setSize[id] = 1;
+        }
+        for (int id = 0; id < wordCount; id++) {
+            for (int k = offsets.get(id); k < offsets.get(id + 1); k++) {
+                int a = find(parent, id);
+                int b = find(parent, neighbors.get(k));
+                if (a != b) {
+                    if (setSize[a] < setSize[b]) {
+                        int swap = a;
+                        a = b;
+                        b = swap;
+                    }
+                    parent[b] = a;
+                    setSize[a] += setSize[b];
+                }
+            }
+        }
+        for (int id = 0; id < wordCount; id++) {
+            parent[id] = find(parent, id);
+        }
+        return parent;
+    }
+
+    private static int find(int[] parent, int id) {
+        while (parent[id] != id) {
+            parent[id] = parent[parent[id]];
+            id = parent[id];
+        }
+        return id;
+    }
+
+    /**
+     * Builds the word-ladder graph for the given dictionary.
+     * For each letter position, words are sorted by their packed code with that letter masked out;
+     * each run of equal keys is one wildcard bucket (e.g. "E*ST"), and every pair of words
+     * sharing a bucket becomes an edge.
+     *
+     * @pre.    dictionary ≠ null
+     * @post.   returned graph has one vertex per dictionary word, with matching IDs
+     *
+     * @param dictionary The dictionary of valid words
+     * @return A new immutable WordGraph
+     */
+    public static WordGraph build(WordDictionary dictionary) {
+        GraphBuildEvent event = new GraphBuildEvent();
+        event.begin();
+        int wordCount = dictionary.size();
+        int letterMask = (1 << WordDictionary.BITS_PER_LETTER) - 1;
+
+        // Sorted (bucket key, word ID) entries for each letter position
+        long[][] buckets = new long[WordDictionary.WORD_LENGTH][wordCount];
+        int[] degrees = new int[wordCount];
+        for (int i = 0; i < WordDictionary.WORD_LENGTH; i++) {
+            int shift = (WordDictionary.WORD_LENGTH - 1 - i) * WordDictionary.BITS_PER_LETTER;
+            long[] entries = buckets[i];
+            for (int id = 0; id < wordCount; id++) {
+                long key = dictionary.codeAt(id) | (letterMask << shift);
+                entries[id] = (key << 32) | id;
+            }
+            Arrays.sort(entries);
+            forEachRun(entries, (runStart, runEnd) -> {
+                for (int k = runStart; k < runEnd; k++) {
+                    degrees[(int) entries[k]] += runEnd - runStart - 1;
+                }
+            });
+        }
+
+        int[] offsets = new int[wordCount + 1];
+        for (int id = 0; id < wordCount; id++) {
+            offsets[id + 1] = offsets[id] + degrees[id];
+        }
+        int[] neighbors = new int[offsets[wordCount]];
+        int[] fill = Arrays.copyOf(offsets, wordCount);
+        for (long[] entries : buckets) {
+            forEachRun(entries, (runStart, runEnd) -> {
+                for (int k = runStart; k < runEnd; k++) {
+                    int id = (int) entries[k];
+                    for (int j = runStart; j < runEnd; j++) {
+                        if (j != k) {
+                            neighbors[fill[id]++] = (int) entries[j];
+                        }
+                    }
+                }
+            });
+        }
+
+        return committed(event, new WordGraph(dictionary, IntBuffer.wrap(offsets), IntBuffer.wrap(neighbors)), false);
+    }
+
+    /**
+     * Creates the graph from a prebuilt CSR adjacency, as stored by {@link CompiledDictionary}.
+     * Connected components are labelled as in {@link #build(WordDictionary)}.
+     *
+     * @pre.    dictionary ≠ null ∧ offsets and neighbors describe the dictionary's one-letter adjacency
+     * @post.   returned graph is equal to build(dictionary)
+     *
+     * @param dictionary The dictionary of valid words
+     * @param offsets    CSR offsets, one per word plus one
+     * @param neighbors  CSR neighbor IDs
+     * @return A new immutable WordGraph that takes ownership of the arrays
+     * @throws IllegalArgumentException if the arrays are not a well-formed adjacency for the dictionary
+     */
+    public static WordGraph fromAdjacency(WordDictionary dictionary, int[] offsets, int[] neighbors) {
+        return fromAdjacency(dictionary, IntBuffer.wrap(offsets), IntBuffer.wrap(neighbors));
+    }
+
+    /**
+     * Creates the graph over existing CSR buffers, such as read-only views of a file mapped by
+     * {@link CompiledDictionary}, without copying them.
+     *
+     * @pre.    dictionary ≠ null ∧ offsets and neighbors describe the dictionary's one-letter adjacency
+     *          ∧ the buffers are not modified afterwards
+     * @post.   returned graph is equal to build(dictionary)
+     *
+     * @param dictionary The dictionary of valid words
+     * @param offsets    CSR offsets, one per word plus one, from index 0 to the limit
+     * @param neighbors  CSR neighbor IDs, from index 0 to the limit
+     * @return A new immutable WordGraph backed by the buffers
+     * @throws IllegalArgumentException if the buffers are not a well-formed adjacency for the dictionary
+     */
+    public static WordGraph fromAdjacency(WordDictionary dictionary, IntBuffer offsets, IntBuffer neighbors) {
+        GraphBuildEvent event = new GraphBuildEvent();
+        event.begin();
+        int wordCount = dictionary.size();
+        if (offsets.limit() != wordCount + 1 || offsets.get(0) != 0 || offsets.get(wordCount) != neighbors.limit()) {
+            throw new IllegalArgumentException("Adjacency does not match a dictionary of " + wordCount + " words");
+        }
+        for (int id = 0; id < wordCount; id++) {
+            if (offsets.get(id) > offsets.get(id + 1)) {
+                throw new IllegalArgumentException("Adjacency offsets are not non-decreasing at word " + id);
+            }
+        }
+        for (int k = 0; k < neighbors.limit(); k++) {
+            int neighbor = neighbors.get(k);
+            if (neighbor < 0 || neighbor >= wordCount) {
+                throw new IllegalArgumentException("Adjacency refers to unknown word ID " + neighbor);
+            }
+        }
+        return committed(event, new WordGraph(dictionary, offsets, neighbors), true);
+    }
+
+    private static WordGraph committed(GraphBuildEvent event, WordGraph graph, boolean fromAdjacency) {
+        if (event.shouldCommit()) {
+            event.wordCount = graph.size();
+            event.edgeCount = graph.neighbors.limit() / 2;
+            event.componentCount = graph.componentCount();
+            event.fromAdjacency = fromAdjacency;
+            event.commit();
+        }
+        return graph;
+    }
+
+    /**
+     * Invokes the consumer for every maximal run of entries sharing the same bucket key.
+     *
+     * @param entries Sorted (key &lt;&lt; 32 | id) entries
+     * @param run     Receives [runStart, runEnd) index ranges
+     */
+    private static void forEachRun(long[] entries, IntBinaryConsumer run) {
+        int runStart = 0;
+        for (int k = 1; k <= entries.length; k++) {
+            if (k == entries.length || (entries[k] >>> 32) != (entries[runStart] >>> 32)) {
+                run.accept(runStart, k);
+                runStart = k;
+            }
+        }
+    }
+
+    private interface IntBinaryConsumer {
+        void accept(int first, int second);
+    }
+
+    /**
+     * Gets the dictionary whose words are the vertices of this graph.
+     *
+     * @return The dictionary
+     */
+    public WordDictionary getDictionary() {
+        return dictionary;
+    }
+
+    /**
+     * Gets the number of words (vertices) in the graph.
+     *
+     * @return The word count
+     */
+    public int size() {
+        return dictionary.size();
+    }
+
+    /**
+     * Looks up the ID of a word.
+     *
+     * @param word The word to look up
+     * @return The word's ID, or -1 if the word is not in the graph
+     */
+    public int indexOf(String word) {
+        return dictionary.indexOf(word);
+    }
+
+    /**
+     * Gets the word with the given ID.
+     *
+     * @pre.    0 ≤ id < size()
+     *
+     * @param id The word ID
+     * @return The word
+     */
+    public String wordAt(int id) {
+        return dictionary.get(id);
+    }
+
+    /**
+     * Gets the index into {@link #neighborAt(int)} of the first neighbor of a word.
+     *
+     * @pre.    0 ≤ id < size()
+     *
+     * @param id The word ID
+     * @return The inclusive start of the word's adjacency range
+     */
+    public int neighborStart(int id) {
+        return offsets.get(id);
+    }
+
+    /**
+     * Gets the index into {@link #neighborAt(int)} just past the last neighbor of a word.
+     *
+     * @pre.    0 ≤ id < size()
+     *
+     * @param id The word ID
+     * @return The exclusive end of the word's adjacency range
+     */
+    public int neighborEnd(int id) {
+        return offsets.get(id + 1);
+    }
+
+    /**
+     * Gets a neighbor ID from the flat adjacency array.
+     *
+     * @pre.    neighborStart(id) ≤ index < neighborEnd(id) for some word id
+     *
+     * @param index Position in the adjacency array
+     * @return The neighbor's word ID
+     */
+    public int neighborAt(int index) {
+        return neighbors.get(index);
+    }
+
+    /**
+     * Gets the number of words one letter away from the given word.
+     *
+     * @pre.    0 ≤ id < size()
+     *
+     * @param id The word ID
+     * @return The word's degree
+     */
+    public int degree(int id) {
+        return offsets.get(id + 1) - offsets.get(id);
+    }
+
+    /**
+     * Gets the connected-component label of a word.
+     *
+     * @pre.    0 ≤ id < size()
+     *
+     * @param id The word ID
+     * @return The component ID, in [0, componentCount())
+     */
+    public int componentOf(int id) {
+        return component[id];
+    }
+
+    /**
+     * Gets the number of connected components, counting isolated words as components of size one.
+     *
+     * @return The component count
+     */
+    public int componentCount() {
+        return componentOffsets.length - 1;
+    }
+
+    /**
+     * Gets the number of words in a connected component.
+     *
+     * @pre.    0 ≤ componentId < componentCount()
+     *
+     * @param componentId The component ID
+     * @return The component's size
+     */
+    public int componentSize(int componentId) {
+        return componentOffsets[componentId + 1] - componentOffsets[componentId];
+    }
+
+    /**
+     * Gets the k-th word of a connected component.
+     *
+     * @pre.    0 ≤ componentId < componentCount() ∧ 0 ≤ k < componentSize(componentId)
+     *
+     * @param componentId The component ID
+     * @param k           Index within the component
+     * @return The word ID
+     */
+    public int componentMember(int componentId, int k) {
+        return componentMembers[componentOffsets[componentId] + k];
+    }
+
+    /**
+     * Checks in O(1) whether any word ladder connects two words.
+     *
+     * @pre.    0 ≤ a < size() ∧ 0 ≤ b < size()
+     *
+     * @param a First word ID
+     * @param b Second word ID
+     * @return true if both words are in the same connected component
+     */
+    public boolean isConnected(int a, int b) {
+        return component[a] == component[b];
+    }
+
+    /**
+     * Gets the number of words that belong to a component with at least one other word,
+     * i.e. the words that can start a solvable puzzle.
+     *
+     * @return The pairable word count
+     */
+    public int pairableCount() {
+        return pairable.length;
+    }
+
+    /**
+     * Gets the k-th pairable word.
+     *
+     * @pre.    0 ≤ k < pairableCount()
+     *
+     * @param k Index among pairable words
+     * @return The word ID
+     */
+    public int pairableAt(int k) {
+        return pairable[k];
+    }
+}
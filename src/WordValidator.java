@@ -1,9 +1,13 @@
-import java.util.ArrayList;
+import exceptions.InvalidWordException;
 
 /**
  * An interface for validating a guessed word against a target word.
  * Implementing classes define the rules for how words are checked,
  * such as letter positions, dictionary validity, and transformation rules.
+ *
+ * <p>Validators offer two equivalent APIs: {@link #validate} throws {@link InvalidWordException} for a
+ * rejected guess, while {@link #evaluate} reports it as a {@link GuessVerdict} without throwing. The
+ * validators of this game implement {@code evaluate} directly and make {@code validate} a wrapper.</p>
  */
 public interface WordValidator {
     /**
@@ -11,10 +15,32 @@ public interface WordValidator {
      *
      * @param word       The guessed word to validate
      * @param target     The target word to compare against
-     * @param dictionary A list of valid words that can be used in validation
+     * @param dictionary The dictionary of valid words; membership checks against it are constant-time
      * @return A ValidationResult object containing:
      *         - Letter-by-letter match states (correct position, wrong position, not in word)
      *         - Optional message (e.g., "You win!" or "Invalid input")
      */
-    ValidationResult validate(String word, String target, ArrayList<String> dictionary);
+    ValidationResult validate(String word, String target, WordDictionary dictionary);
+
+    /**
+     * Checks the given word against the target word without throwing for a rejected guess.
+     * The default implementation calls {@link #validate} and converts its exception; validators on hot
+     * paths override it to avoid the exception altogether.
+     *
+     * @pre.    word ≠ null ∧ target ≠ null ∧ dictionary ≠ null
+     * @post.   returned.isOk() iff validate would return, and then returned.getResult() equals its result;
+     *          otherwise returned.getMessage() equals the message validate would throw
+     *
+     * @param word       The guessed word to validate
+     * @param target     The target word to compare against
+     * @param dictionary The dictionary of valid words
+     * @return The verdict
+     */
+    default GuessVerdict evaluate(String word, String target, WordDictionary dictionary) {
+        try {
+            return GuessVerdict.ok(validate(word, target, dictionary));
+        } catch (InvalidWordException e) {
+            return GuessVerdict.rejected(e.getMessage());
+        }
+    }
 }
\ No newline at end of file
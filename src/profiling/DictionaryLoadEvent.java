@@ -0,0 +1,28 @@
+package profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event for loading a dictionary and its word graph, either by mapping the compiled file or by
+ * compiling the text dictionary.
+ */
+@Name("weaver.DictionaryLoad")
+@Label("Dictionary Load")
+@Category({"Weaver", "Dictionary"})
+@Description("Loading of a word dictionary and its word-ladder graph")
+public class DictionaryLoadEvent extends jdk.jfr.Event {
+
+    @Label("Source")
+    @Description("URL of the text dictionary")
+    public String source;
+
+    @Label("Word Count")
+    public int wordCount;
+
+    @Label("Compiled")
+    @Description("True if the text was parsed and compiled, false if the compiled file was mapped")
+    public boolean compiled;
+}
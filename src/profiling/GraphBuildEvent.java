@@ -0,0 +1,30 @@
+package profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event for creating a word-ladder graph, including the labelling of its connected components.
+ */
+@Name("weaver.GraphBuild")
+@Label("Word Graph Build")
+@Category({"Weaver", "Dictionary"})
+@Description("Construction of a word-ladder graph from a dictionary or a stored adjacency")
+public class GraphBuildEvent extends jdk.jfr.Event {
+
+    @Label("Word Count")
+    public int wordCount;
+
+    @Label("Edge Count")
+    @Description("Number of one-letter ladders between two words")
+    public int edgeCount;
+
+    @Label("Component Count")
+    public int componentCount;
+
+    @Label("From Adjacency")
+    @Description("True if the adjacency was loaded from the compiled file instead of being computed")
+    public boolean fromAdjacency;
+}
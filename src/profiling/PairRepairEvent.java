@@ -0,0 +1,35 @@
+package profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event for a generated word pair that had no ladder and was repaired by drawing a new start or
+ * target word from the start word's connected component.
+ */
+@Name("weaver.PairRepair")
+@Label("Word Pair Repair")
+@Category({"Weaver", "Game"})
+@Description("An unsolvable generated word pair replaced by a solvable one")
+public class PairRepairEvent extends jdk.jfr.Event {
+
+    @Label("Base Start")
+    @Description("Start word drawn by the base strategy")
+    public String baseStart;
+
+    @Label("Base Target")
+    @Description("Target word drawn by the base strategy")
+    public String baseTarget;
+
+    @Label("Start")
+    public String start;
+
+    @Label("Target")
+    public String target;
+
+    @Label("Start Replaced")
+    @Description("True if the start word had no ladder and was replaced")
+    public boolean startReplaced;
+}
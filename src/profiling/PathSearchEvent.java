@@ -0,0 +1,35 @@
+package profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event for one shortest-path search of the solver.
+ */
+@Name("weaver.PathSearch")
+@Label("Path Search")
+@Category({"Weaver", "Solver"})
+@Description("One shortest-path search between two words")
+@StackTrace(false)
+public class PathSearchEvent extends jdk.jfr.Event {
+
+    @Label("Source")
+    public String source;
+
+    @Label("Target")
+    public String target;
+
+    @Label("Mode")
+    public String mode;
+
+    @Label("Visited Count")
+    @Description("Number of distinct words visited by the search")
+    public int visitedCount;
+
+    @Label("Path Length")
+    @Description("Moves in the shortest path, or -1 if the target is unreachable")
+    public int pathLength;
+}
@@ -0,0 +1,36 @@
+package profiling;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event for one move of a game: validating the guess, updating the path and notifying subscribers.
+ */
+@Name("weaver.Tick")
+@Label("Tick")
+@Category({"Weaver", "Game"})
+@Description("One player move, from validation to notification")
+@StackTrace(false)
+public class TickEvent extends jdk.jfr.Event {
+
+    @Label("Initial Word")
+    @Description("Start word of the game, identifying it together with the target")
+    public String initialWord;
+
+    @Label("Target Word")
+    public String targetWord;
+
+    @Label("Guess")
+    public String guess;
+
+    @Label("Verdict")
+    @Description("OK, the reason the move was rejected, or ERROR if it failed unexpectedly")
+    public String verdict;
+
+    @Label("Step")
+    @Description("Step of the game after the move")
+    public int step;
+}
@@ -0,0 +1,101 @@
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class CompiledDictionaryTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private static void assertSameGraph(WordGraph expected, WordGraph actual) {
+        assertEquals(expected.getDictionary(), actual.getDictionary());
+        for (int id = 0; id < expected.size(); id++) {
+            assertEquals(expected.neighborStart(id), actual.neighborStart(id));
+            assertEquals(expected.neighborEnd(id), actual.neighborEnd(id));
+        }
+        for (int k = 0; k < expected.neighborEnd(expected.size() - 1); k++) {
+            assertEquals(expected.neighborAt(k), actual.neighborAt(k));
+        }
+    }
+
+    @Test
+    public void testCompiledFileRoundTrip() throws IOException {
+        Path text = folder.getRoot().toPath().resolve("words.txt");
+        Files.write(text, List.of("east", "WAST", "west", "vest", "toolong", "abc"));
+        Path compiledFile = folder.getRoot().toPath().resolve("words.bin");
+
+        CompiledDictionary compiled = CompiledDictionary.loadOrCompile(text.toUri().toURL(), compiledFile);
+        assertTrue(Files.isRegularFile(compiledFile));
+        assertEquals(4, compiled.getDictionary().size());
+        assertTrue(compiled.getDictionary().contains("EAST"));
+        assertFalse(compiled.getDictionary().contains("TOOLONG"));
+
+        CompiledDictionary loaded = CompiledDictionary.load(compiledFile);
+        assertSameGraph(compiled.getGraph(), loaded.getGraph());
+        WordGraph graph = loaded.getGraph();
+        assertTrue(graph.isConnected(graph.indexOf("EAST"), graph.indexOf("VEST")));
+
+        // The loaded dictionary searches the mapped file rather than a heap copy of it
+        assertTrue(loaded.getDictionary().codeBuffer().isDirect());
+        assertTrue(loaded.getDictionary().tableBuffer().isDirect());
+        assertEquals(graph.indexOf("WEST"), loaded.getDictionary().indexOf("WEST"));
+    }
+
+    @Test
+    public void testCorruptProbeTableIsRejected() throws IOException {
+        Path text = folder.getRoot().toPath().resolve("words.txt");
+        Files.write(text, List.of("EAST", "WAST", "WEST"));
+        Path compiledFile = folder.getRoot().toPath().resolve("words.bin");
+        CompiledDictionary.loadOrCompile(text.toUri().toURL(), compiledFile);
+
+        // Clear every probe table slot, so no word can be found through it
+        byte[] bytes = Files.readAllBytes(compiledFile);
+        int tableStart = 32 + 4 * 3;
+        Arrays.fill(bytes, tableStart, tableStart + 4 * WordDictionary.tableCapacity(3), (byte) 0);
+        Files.write(compiledFile, bytes);
+        try {
+            CompiledDictionary.load(compiledFile);
+            fail("A probe table that does not index the codes must be rejected");
+        } catch (IOException expected) {
+            // Malformed
+        }
+    }
+
+    @Test
+    public void testStaleOrDamagedFileIsRecompiled() throws IOException {
+        Path text = folder.getRoot().toPath().resolve("words.txt");
+        Files.write(text, List.of("EAST", "WAST", "WEST"));
+        URL source = text.toUri().toURL();
+        Path compiledFile = folder.getRoot().toPath().resolve("words.bin");
+        CompiledDictionary.loadOrCompile(source, compiledFile);
+
+        // An up-to-date file is loaded, not rewritten
+        FileTime old = FileTime.fromMillis(0);
+        Files.setLastModifiedTime(compiledFile, old);
+        assertEquals(3, CompiledDictionary.loadOrCompile(source, compiledFile).getDictionary().size());
+        assertEquals(old, Files.getLastModifiedTime(compiledFile));
+
+        // An edited dictionary is not shadowed by the file compiled from its old text
+        Files.write(text, List.of("EAST", "WAST", "WEST", "VEST"));
+        CompiledDictionary edited = CompiledDictionary.loadOrCompile(source, compiledFile);
+        assertTrue(edited.getDictionary().contains("VEST"));
+        assertNotEquals(old, Files.getLastModifiedTime(compiledFile));
+        assertTrue(CompiledDictionary.load(compiledFile).getDictionary().contains("VEST"));
+
+        // A damaged file is recompiled instead of being misread
+        Files.write(compiledFile, new byte[] {'W', 'V', 'D', 'B', 0, 0, 0, 1});
+        CompiledDictionary repaired = CompiledDictionary.loadOrCompile(source, compiledFile);
+        assertEquals(4, repaired.getDictionary().size());
+        assertSameGraph(repaired.getGraph(), CompiledDictionary.load(compiledFile).getGraph());
+    }
+}
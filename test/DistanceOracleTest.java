@@ -0,0 +1,72 @@
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class DistanceOracleTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testDistancesMatchBreadthFirstSearch() throws Exception {
+        WordGraph graph = new WeaverModel().getWordGraph();
+        DistanceOracle oracle = DistanceOracle.build(graph);
+        WordDictionary dictionary = graph.getDictionary();
+        Random random = new Random(3);
+        for (int i = 0; i < 300; i++) {
+            String initial = dictionary.get(random.nextInt(dictionary.size()));
+            String target = dictionary.get(random.nextInt(dictionary.size()));
+            ArrayList<String> path = PathFinder.findPathByBFS(initial, target, graph);
+            assertEquals(initial + " -> " + target, path.size() - 1, oracle.distance(initial, target));
+            assertEquals(oracle.distance(initial, target), oracle.distance(target, initial));
+        }
+        assertEquals(0, oracle.distance("EAST", "EAST"));
+        assertEquals(-1, oracle.distance("EAST", "ZZZZ"));
+    }
+
+    @Test
+    public void testSavedTableIsMapped() throws IOException {
+        WordGraph graph = WordGraph.build(WordDictionary.of(List.of("EAST", "WAST", "WEST", "VEST", "ABCD")));
+        Path file = folder.getRoot().toPath().resolve("words.dist");
+        DistanceOracle.build(graph).save(file);
+
+        DistanceOracle loaded = DistanceOracle.load(file, graph);
+        assertEquals(3, loaded.distance("EAST", "VEST"));
+        assertEquals(-1, loaded.distance("EAST", "ABCD"));
+        assertFalse(loaded.isSolvable("ABCD", "WEST"));
+    }
+
+    @Test
+    public void testMismatchedCacheIsRebuilt() throws IOException {
+        WordGraph stale = WordGraph.build(WordDictionary.of(List.of("EAST", "WAST", "WEST", "ABCD")));
+        WordGraph graph = WordGraph.build(WordDictionary.of(List.of("EAST", "WAST", "WEST", "VEST")));
+        Path file = folder.getRoot().toPath().resolve("words.dist");
+
+        // Same word count, different dictionary: the fingerprint does not match
+        DistanceOracle.build(stale).save(file);
+        try {
+            DistanceOracle.load(file, graph);
+            fail("A table of another dictionary must not be loaded");
+        } catch (IOException expected) {
+            // Rejected by the fingerprint check
+        }
+        assertEquals(3, DistanceOracle.loadOrBuild(graph, file).distance("EAST", "VEST"));
+        assertEquals(3, DistanceOracle.load(file, graph).distance("EAST", "VEST"));
+
+        // A truncated file is rebuilt instead of being misread
+        byte[] bytes = Files.readAllBytes(file);
+        Files.write(file, Arrays.copyOf(bytes, bytes.length - 1));
+        assertEquals(3, DistanceOracle.loadOrBuild(graph, file).distance("EAST", "VEST"));
+        assertEquals(bytes.length, Files.size(file));
+    }
+}
@@ -0,0 +1,50 @@
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class FeedbackTableValidatorTest {
+    WordDictionary dictionary;
+    FeedbackTableValidator tableValidator;
+
+    @Before
+    public void setUp() throws Exception {
+        // Build the feedback table of the bundled dictionary in memory
+        dictionary = new WeaverModel().getDictionary();
+        tableValidator = new FeedbackTableValidator(FeedbackTable.build(dictionary));
+    }
+
+    @Test
+    public void testMatchesBasicValidator() {
+        // Every sampled guess row must score exactly like BasicValidator
+        BasicValidator basic = new BasicValidator();
+        Random random = new Random(7);
+        for (int i = 0; i < 20; i++) {
+            String word = dictionary.get(random.nextInt(dictionary.size()));
+            for (String target : dictionary) {
+                ValidationResult expected = basic.validate(word, target, dictionary);
+                ValidationResult actual = tableValidator.validate(word, target, dictionary);
+                assertEquals(word + "/" + target, expected.getPackedStates(), actual.getPackedStates());
+                assertEquals(expected.getValid(), actual.getValid());
+            }
+        }
+    }
+
+    @Test
+    public void testRepeatedLetters() {
+        // Only one of the guess's two Es can be credited against the single E in the target
+        ValidationResult result = tableValidator.validate("EASE", "SEAT", dictionary);
+        assertEquals(LetterState.WRONG_POSITION, result.getLetterState(0));
+        assertEquals(LetterState.WRONG_POSITION, result.getLetterState(1));
+        assertEquals(LetterState.WRONG_POSITION, result.getLetterState(2));
+        assertEquals(LetterState.NOT_IN_WORD, result.getLetterState(3));
+        assertTrue(tableValidator.validate("SEAT", "SEAT", dictionary).getValid());
+    }
+
+    @Test(expected = exceptions.InvalidWordException.class)
+    public void testRejectsUnknownWord() {
+        tableValidator.validate("AAAA", "SEAT", dictionary);
+    }
+}
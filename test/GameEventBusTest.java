@@ -0,0 +1,152 @@
+import org.junit.Test;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.junit.Assert.*;
+
+public class GameEventBusTest {
+
+    /**
+     * An executor that queues its tasks until the test runs them.
+     */
+    static class ManualExecutor implements Executor {
+        final Queue<Runnable> tasks = new ArrayDeque<>();
+
+        @Override
+        public void execute(Runnable task) {
+            tasks.add(task);
+        }
+
+        void runAll() {
+            Runnable task;
+            while ((task = tasks.poll()) != null) {
+                task.run();
+            }
+        }
+    }
+
+    @Test
+    public void testAsyncSubscriberGetsLatestEventPerKey() {
+        GameEventBus<String> bus = new GameEventBus<>(event -> event.charAt(0));
+        ManualExecutor executor = new ManualExecutor();
+        List<String> received = new ArrayList<>();
+        bus.subscribeAsync(received::add, executor);
+
+        bus.publish("A1");
+        bus.publish("B1");
+        bus.publish("A2");
+        bus.publish("A3");
+        assertEquals(1, executor.tasks.size()); // One drain is scheduled for the whole burst
+        executor.runAll();
+        assertEquals(2, received.size());
+        assertTrue(received.contains("A3"));
+        assertTrue(received.contains("B1"));
+
+        // Events published after a drain are delivered by a new one
+        bus.publish("B2");
+        executor.runAll();
+        assertEquals("B2", received.get(2));
+    }
+
+    @Test
+    public void testFailingSubscriberDoesNotAffectOthers() {
+        GameEventBus<String> bus = new GameEventBus<>();
+        ManualExecutor executor = new ManualExecutor();
+        List<String> sync = new ArrayList<>();
+        List<String> async = new ArrayList<>();
+        bus.subscribe(event -> {
+            throw new IllegalStateException("Subscriber failure for the test");
+        });
+        bus.subscribe(sync::add);
+        bus.subscribeAsync(event -> {
+            throw new IllegalStateException("Subscriber failure for the test");
+        }, executor);
+        bus.subscribeAsync(async::add, executor);
+
+        bus.publish("A");
+        executor.runAll();
+        bus.publish("B");
+        executor.runAll();
+        assertEquals(List.of("A", "B"), sync);
+        assertEquals(List.of("A", "B"), async);
+    }
+
+    @Test
+    public void testRejectedDrainIsRescheduledByLaterEvent() {
+        GameEventBus<String> bus = new GameEventBus<>();
+        ManualExecutor executor = new ManualExecutor();
+        boolean[] rejecting = {true};
+        List<String> received = new ArrayList<>();
+        bus.subscribeAsync(received::add, task -> {
+            if (rejecting[0]) {
+                throw new RejectedExecutionException("Rejected for the test");
+            }
+            executor.execute(task);
+        });
+
+        bus.publish("A");
+        assertTrue(executor.tasks.isEmpty());
+        rejecting[0] = false;
+        bus.publish("B");
+        executor.runAll();
+        assertEquals(List.of("B"), received);
+    }
+
+    @Test
+    public void testUnsubscribe() {
+        GameEventBus<String> bus = new GameEventBus<>();
+        ManualExecutor executor = new ManualExecutor();
+        List<String> sync = new ArrayList<>();
+        List<String> async = new ArrayList<>();
+        GameEventBus.Subscription syncSubscription = bus.subscribe(sync::add);
+        GameEventBus.Subscription asyncSubscription = bus.subscribeAsync(async::add, executor);
+        assertTrue(bus.hasSubscribers());
+
+        bus.publish("A");
+        executor.runAll();
+        syncSubscription.close();
+        asyncSubscription.close();
+        assertFalse(bus.hasSubscribers());
+        bus.publish("B");
+        executor.runAll();
+        assertEquals(List.of("A"), sync);
+        assertEquals(List.of("A"), async);
+    }
+
+    @Test
+    public void testEngineEventsFollowSessionChanges() throws Exception {
+        WeaverEngine engine = new WeaverEngine();
+        CopyOnWriteArrayList<SessionEvent> received = new CopyOnWriteArrayList<>();
+        engine.getEventBus().subscribe(received::add);
+        String id = engine.createSession("EAST", "WEST");
+
+        // Concurrent changes to one session are published in the order they were made
+        Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            threads[t] = new Thread(() -> {
+                for (int i = 0; i < 200; i++) {
+                    engine.tryTick(id, "WAST");
+                    engine.reset(id);
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        long last = 0;
+        for (SessionEvent event : received) {
+            assertEquals(id, event.getSessionId());
+            assertTrue(event.getSequence() > last);
+            last = event.getSequence();
+        }
+        assertEquals(engine.getState(id).getPath(), received.get(received.size() - 1).getState().getPath());
+    }
+}
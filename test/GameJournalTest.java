@@ -0,0 +1,110 @@
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.*;
+
+public class GameJournalTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testRecoverSessions() throws IOException {
+        Path directory = folder.getRoot().toPath();
+        WeaverEngine engine = new WeaverEngine();
+        GameJournal journal = GameJournal.open(directory, 1, 5); // Snapshot every 5 records
+        engine.attachJournal(journal);
+
+        String won = engine.createSession("EAST", "WEST");
+        engine.tick(won, "WAST");
+        engine.tick(won, "WEST");
+        String reset = engine.createSession("EAST", "WEST");
+        engine.tick(reset, "WAST");
+        journal.sync();
+        engine.reset(reset);
+        String closed = engine.createSession("EAST", "WEST");
+        engine.closeSession(closed);
+        String playing = engine.createSession("EAST", "WEST");
+        engine.tick(playing, "WAST");
+        journal.close();
+
+        WeaverEngine recovered = new WeaverEngine();
+        GameJournal reopened = GameJournal.open(directory);
+        recovered.attachJournal(reopened);
+        assertEquals(3, recovered.sessionCount());
+        assertEquals(List.of("EAST", "WAST", "WEST"), recovered.getState(won).getPath());
+        assertTrue(recovered.getState(won).isWon());
+        assertEquals(List.of("EAST"), recovered.getState(reset).getPath());
+        assertEquals(List.of("EAST", "WAST"), recovered.getState(playing).getPath());
+
+        // New sessions do not reuse recovered IDs, and later moves are journaled after the recovered ones
+        String next = recovered.createSession("EAST", "WEST");
+        assertNotEquals(playing, next);
+        recovered.tick(playing, "WEST");
+        reopened.close();
+
+        WeaverEngine again = new WeaverEngine();
+        again.attachJournal(GameJournal.open(directory));
+        assertEquals(4, again.sessionCount());
+        assertTrue(again.getState(playing).isWon());
+    }
+
+    @Test
+    public void testRejectedMoveAfterWinIsRecovered() throws IOException {
+        Path directory = folder.getRoot().toPath();
+        WeaverEngine engine = new WeaverEngine();
+        GameJournal journal = GameJournal.open(directory);
+        engine.attachJournal(journal);
+
+        String id = engine.createSession("EAST", "WEST");
+        engine.tick(id, "WAST");
+        engine.tick(id, "WEST");
+        assertFalse(engine.tryTick(id, "ZZZZ").isOk());
+        GameState live = engine.getState(id);
+        journal.close();
+
+        WeaverEngine recovered = new WeaverEngine();
+        recovered.attachJournal(GameJournal.open(directory));
+        assertEquals(live.getPath(), recovered.getState(id).getPath());
+        assertEquals(live.isWon(), recovered.getState(id).isWon());
+        assertTrue(recovered.getState(id).isWon());
+    }
+
+    @Test
+    public void testTornTailIsCutOff() throws IOException {
+        Path directory = folder.getRoot().toPath();
+        WeaverEngine engine = new WeaverEngine();
+        GameJournal journal = GameJournal.open(directory);
+        engine.attachJournal(journal);
+        String id = engine.createSession("EAST", "WEST");
+        journal.sync();
+        engine.tick(id, "WAST");
+        journal.close();
+
+        // Simulate a crash in the middle of writing a batch
+        Path segment;
+        try (Stream<Path> files = Files.list(directory)) {
+            List<Path> segments = files.filter(file -> file.toString().endsWith(".wvj")).sorted().collect(Collectors.toList());
+            segment = segments.get(0);
+        }
+        long length = Files.size(segment);
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+            channel.truncate(length - 2);
+        }
+
+        WeaverEngine recovered = new WeaverEngine();
+        recovered.attachJournal(GameJournal.open(directory));
+        assertEquals(List.of("EAST"), recovered.getState(id).getPath());
+        assertTrue(Files.size(segment) < length - 2);
+    }
+}
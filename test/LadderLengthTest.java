@@ -0,0 +1,78 @@
+import exceptions.WordGenerationException;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class LadderLengthTest {
+
+    @Test
+    public void testIndexCountsAndSamplesPairsByLength() {
+        // EAST-WAST-WEST-VEST is a chain; ABCD is isolated
+        WordGraph graph = WordGraph.build(WordDictionary.of(List.of("EAST", "WAST", "WEST", "VEST", "ABCD")));
+        DistanceOracle oracle = DistanceOracle.build(graph);
+        LadderPairIndex index = new LadderPairIndex(oracle, 2, new Random(1));
+        assertEquals(3, index.getMaxLength());
+        assertEquals(3, index.countPairs(1));
+        assertEquals(2, index.countPairs(2));
+        assertEquals(1, index.countPairs(3));
+        assertEquals(0, index.countPairs(4));
+
+        Random random = new Random(2);
+        for (int i = 0; i < 100; i++) {
+            String[] pair = index.sample(2, 3, random);
+            int distance = oracle.distance(pair[0], pair[1]);
+            assertTrue(distance >= 2 && distance <= 3);
+        }
+        assertNull(index.sample(4, 10, random));
+    }
+
+    @Test
+    public void testStrategyDrawsPairsInRange() {
+        WordGraph graph = WordGraph.build(WordDictionary.of(List.of("EAST", "WAST", "WEST", "VEST", "ABCD")));
+        DistanceOracle oracle = DistanceOracle.build(graph);
+        LadderPairIndex index = new LadderPairIndex(oracle);
+        LadderLengthWordStrategy strategy = new LadderLengthWordStrategy(index, 3, 3);
+        for (int i = 0; i < 20; i++) {
+            String[] pair = strategy.generateWords(graph.getDictionary());
+            assertEquals(3, oracle.distance(pair[0], pair[1]));
+        }
+        try {
+            new LadderLengthWordStrategy(index, 4, 6).generateWords(graph.getDictionary());
+            fail("No pair has a ladder of 4 to 6 moves");
+        } catch (WordGenerationException expected) {
+            // Empty range
+        }
+    }
+
+    @Test
+    public void testModelGamesHaveParInRange() throws Exception {
+        WeaverModel model = new WeaverModel();
+        model.setRandomWordFlag(true);
+        model.setLadderLengthRange(4, 6);
+        for (int i = 0; i < 20; i++) {
+            model.initialize();
+            int par = model.getPar();
+            assertTrue("par " + par, par >= 4 && par <= 6);
+            assertEquals(par + 1, model.getFullSolutionPath().size());
+        }
+
+        int longest = new LadderPairIndex(model.getDistanceOracle(), 1, new Random()).getMaxLength();
+        model.setLadderLengthRange(longest + 1, longest + 5);
+        try {
+            model.initialize();
+            fail("No pair has a ladder longer than " + longest + " moves");
+        } catch (WordGenerationException expected) {
+            // Empty range
+        }
+
+        try {
+            model.setLadderLengthRange(3, 2);
+            fail("An inverted range must be rejected");
+        } catch (IllegalArgumentException expected) {
+            // Rejected before any game is drawn
+        }
+    }
+}
@@ -0,0 +1,64 @@
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class PathFinderTest {
+    WordGraph graph;
+
+    @Before
+    public void setUp() throws Exception {
+        // Build the word graph of the bundled dictionary
+        graph = WordGraph.build(new WeaverModel().getDictionary());
+    }
+
+    @Test
+    public void testBidirectionalMatchesBreadthFirstLength() {
+        // Both modes must agree on the shortest-path length for random pairs
+        WordDictionary dictionary = graph.getDictionary();
+        Random random = new Random(1);
+        for (int i = 0; i < 200; i++) {
+            String initial = dictionary.get(random.nextInt(dictionary.size()));
+            String target = dictionary.get(random.nextInt(dictionary.size()));
+            ArrayList<String> bfs = PathFinder.findPath(initial, target, graph, PathFinder.SearchMode.BREADTH_FIRST);
+            ArrayList<String> bidirectional = PathFinder.findPath(initial, target, graph, PathFinder.SearchMode.BIDIRECTIONAL);
+            assertEquals(bfs.size(), bidirectional.size());
+            assertValidLadder(initial, target, bidirectional);
+        }
+    }
+
+    @Test
+    public void testFixedPairPath() {
+        // EAST → WEST needs exactly one intermediate word in either mode
+        for (PathFinder.SearchMode mode : PathFinder.SearchMode.values()) {
+            ArrayList<String> path = PathFinder.findPath("EAST", "WEST", graph, mode);
+            assertEquals(3, path.size());
+            assertValidLadder("EAST", "WEST", path);
+        }
+
+        // Same word, and words outside the dictionary
+        assertEquals(1, PathFinder.findPathByBFS("EAST", "EAST", graph).size());
+        assertTrue(PathFinder.findPathByBFS("EAST", "ZZZZ", graph).isEmpty());
+        assertTrue(PathFinder.findPathByBFS("ZZZZ", "WEST", graph).isEmpty());
+    }
+
+    private static void assertValidLadder(String initial, String target, ArrayList<String> path) {
+        if (path.isEmpty()) {
+            return;
+        }
+        assertEquals(initial, path.get(0));
+        assertEquals(target, path.get(path.size() - 1));
+        for (int i = 1; i < path.size(); i++) {
+            int diff = 0;
+            for (int c = 0; c < path.get(i).length(); c++) {
+                if (path.get(i).charAt(c) != path.get(i - 1).charAt(c)) {
+                    diff++;
+                }
+            }
+            assertEquals(1, diff);
+        }
+    }
+}
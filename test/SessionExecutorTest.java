@@ -0,0 +1,127 @@
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+
+public class SessionExecutorTest {
+    WeaverEngine engine;
+    SessionExecutor executor;
+
+    /**
+     * An error thrown by a failing validator, standing in for e.g. an OutOfMemoryError in a command.
+     */
+    static class CommandError extends Error {
+        private static final long serialVersionUID = 1L;
+
+        CommandError() {
+            super("Command failure for the test");
+        }
+    }
+
+    @Before
+    public void setUp() throws Exception {
+        WordGraph graph = new WeaverModel().getWordGraph();
+        BasicValidator basic = new BasicValidator();
+        // "ZZZZ" makes the validator throw an Error instead of rejecting the word
+        engine = new WeaverEngine(graph, (word, target, dictionary) -> {
+            if ("ZZZZ".equals(word)) {
+                throw new CommandError();
+            }
+            return basic.validate(word, target, dictionary);
+        });
+        executor = new SessionExecutor(engine, 2);
+    }
+
+    @After
+    public void tearDown() {
+        executor.close();
+    }
+
+    @Test
+    public void testCommandsOfASessionRunInOrder() throws Exception {
+        // WEST is only one letter from WAST, so every move fails if run before the one queued ahead of it
+        List<String> ids = new ArrayList<>();
+        List<CompletableFuture<?>> futures = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            String id = engine.createSession("EAST", "WEST");
+            ids.add(id);
+            futures.add(executor.tick(id, "WAST"));
+            futures.add(executor.tick(id, "WEST"));
+            futures.add(executor.reset(id));
+            futures.add(executor.tick(id, "WAST"));
+        }
+        for (CompletableFuture<?> future : futures) {
+            future.get(10, TimeUnit.SECONDS);
+        }
+        for (String id : ids) {
+            assertEquals(List.of("EAST", "WAST"), engine.getState(id).getPath());
+        }
+        assertEquals(200, executor.getCompletedCommands());
+
+        ArrayList<String> path = executor.solutionPath(ids.get(0)).get(10, TimeUnit.SECONDS);
+        assertEquals(List.of("EAST", "WAST", "WEST"), path);
+        assertTrue(executor.closeSession(ids.get(0)).get(10, TimeUnit.SECONDS));
+        assertEquals(49, engine.sessionCount());
+    }
+
+    @Test
+    public void testFailedCommandDoesNotBlockTheSession() throws Exception {
+        String id = engine.createSession("EAST", "WEST");
+        CompletableFuture<ValidationResult> failed = executor.tick(id, "ZZZZ");
+        CompletableFuture<ValidationResult> next = executor.tick(id, "WAST");
+        try {
+            failed.get(10, TimeUnit.SECONDS);
+            fail("The command's error must fail its future");
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof CommandError);
+        }
+        next.get(10, TimeUnit.SECONDS);
+        // Commands posted after the failure are still drained
+        executor.tick(id, "WEST").get(10, TimeUnit.SECONDS);
+        assertTrue(engine.getState(id).isWon());
+    }
+
+    @Test
+    public void testCommandsAfterCloseFail() throws Exception {
+        String id = engine.createSession("EAST", "WEST");
+        executor.close();
+        // Every late command is rejected, not just the first one that found the mailbox idle
+        for (int i = 0; i < 3; i++) {
+            try {
+                executor.tick(id, "WAST").get(10, TimeUnit.SECONDS);
+                fail("A command submitted after close must fail");
+            } catch (ExecutionException e) {
+                assertTrue(e.getCause() instanceof RejectedExecutionException);
+            }
+        }
+        assertEquals(List.of("EAST"), engine.getState(id).getPath());
+    }
+
+    @Test
+    public void testFallsBackToPlatformThreadsWithoutVirtualThreads() throws Exception {
+        boolean available;
+        try {
+            Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            available = true;
+        } catch (NoSuchMethodException e) {
+            available = false;
+        }
+        assertEquals(available, executor.isUsingVirtualThreads());
+        assertTrue(executor.describeMetrics().startsWith(available ? "virtual" : "platform"));
+
+        // Either way, sessions are driven to completion
+        String id = executor.createSession().get(10, TimeUnit.SECONDS);
+        executor.reset(id).get(10, TimeUnit.SECONDS);
+        assertEquals(1, engine.getState(id).getPath().size());
+        assertEquals(1, executor.getCompletedSearches());
+    }
+}
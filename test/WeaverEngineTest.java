@@ -0,0 +1,111 @@
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.Assert.*;
+
+public class WeaverEngineTest {
+
+    @Test
+    public void testConcurrentSessionsStayIndependent() throws Exception {
+        WeaverEngine engine = new WeaverEngine();
+        int threadCount = 8;
+        int sessionsPerThread = 25;
+        ConcurrentHashMap<String, List<String>> expected = new ConcurrentHashMap<>();
+        CopyOnWriteArrayList<Throwable> failures = new CopyOnWriteArrayList<>();
+
+        Thread[] threads = new Thread[threadCount];
+        for (int t = 0; t < threadCount; t++) {
+            threads[t] = new Thread(() -> {
+                try {
+                    // Each thread interleaves the moves of its sessions, while the other threads play theirs
+                    List<String> ids = new ArrayList<>();
+                    List<List<String>> paths = new ArrayList<>();
+                    for (int s = 0; s < sessionsPerThread; s++) {
+                        String id = engine.createSession();
+                        ids.add(id);
+                        paths.add(engine.getSolutionPath(id));
+                    }
+                    for (int step = 1; ; step++) {
+                        boolean moved = false;
+                        for (int s = 0; s < ids.size(); s++) {
+                            List<String> path = paths.get(s);
+                            if (step < path.size()) {
+                                engine.tick(ids.get(s), path.get(step));
+                                moved = true;
+                            }
+                        }
+                        if (!moved) {
+                            break;
+                        }
+                    }
+                    for (int s = 0; s < ids.size(); s++) {
+                        expected.put(ids.get(s), paths.get(s));
+                    }
+                } catch (Throwable e) {
+                    failures.add(e);
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(List.of(), failures);
+        assertEquals(threadCount * sessionsPerThread, expected.size());
+        assertEquals(threadCount * sessionsPerThread, engine.sessionCount());
+        for (String id : expected.keySet()) {
+            GameState state = engine.getState(id);
+            List<String> path = expected.get(id);
+            assertEquals(path, state.getPath());
+            assertTrue(state.isWon());
+        }
+    }
+
+    @Test
+    public void testSharedSessionAppliesEveryMoveOnce() throws Exception {
+        WeaverEngine engine = new WeaverEngine();
+        String shared = engine.createSession("EAST", "WEST");
+        String other = engine.createSession("EAST", "WEST");
+
+        // Racing players submit the same move to one session
+        Thread[] threads = new Thread[4];
+        CopyOnWriteArrayList<String> accepted = new CopyOnWriteArrayList<>();
+        for (int t = 0; t < threads.length; t++) {
+            threads[t] = new Thread(() -> {
+                if (engine.tryTick(shared, "WAST").isOk()) {
+                    accepted.add("WAST");
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        // WAST is not one letter from itself, so only the first racing move is legal
+        assertEquals(1, accepted.size());
+        assertEquals(List.of("EAST", "WAST"), engine.getState(shared).getPath());
+        assertEquals(List.of("EAST"), engine.getState(other).getPath());
+    }
+
+    @Test
+    public void testWonSessionRefusesMovesUntilReset() throws Exception {
+        WeaverEngine engine = new WeaverEngine();
+        String id = engine.createSession("EAST", "WEST");
+        engine.tick(id, "WAST");
+        engine.tick(id, "WEST");
+
+        assertSame(GuessVerdict.GAME_OVER, engine.tryTick(id, "WEST"));
+        assertSame(GuessVerdict.GAME_OVER, engine.tryTick(id, "ZZZZ"));
+        assertEquals(List.of("EAST", "WAST", "WEST"), engine.getState(id).getPath());
+        assertTrue(engine.getState(id).isWon());
+
+        engine.reset(id);
+        assertTrue(engine.tryTick(id, "WAST").isOk());
+    }
+}
@@ -204,4 +204,128 @@ public class WeaverModelTest {
         // Verify path won't be influenced by invalid input
         assertEquals(2, model.getCurrentPath().size());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testTryTickVerdicts() {
+        // Rejected moves come back as shared verdicts with the exception messages, and change nothing
+        model.setRandomWordFlag(false);
+        model.updateStrategy();
+
+        assertSame(GuessVerdict.NOT_IN_DICTIONARY, model.tryTick("AAAA"));
+        assertSame(GuessVerdict.NOT_IN_DICTIONARY, model.tryTick("MODAL"));
+        assertSame(GuessVerdict.NOT_ONE_LETTER, model.tryTick("PURE"));
+        assertEquals("Word must differ by exactly one letter from the previous word.",
+                GuessVerdict.NOT_ONE_LETTER.getMessage());
+        assertSame(GuessVerdict.NOT_ONE_LETTER, GuessVerdict.rejected(GuessVerdict.NOT_ONE_LETTER.getMessage()));
+        // A rejection without a message still explains itself
+        assertEquals(GuessVerdict.Status.INVALID, GuessVerdict.rejected(null).getStatus());
+        assertNotNull(GuessVerdict.rejected(null).getMessage());
+        assertEquals(1, model.getCurrentPath().size());
+
+        GuessVerdict verdict = model.tryTick("wast");
+        assertEquals(GuessVerdict.Status.OK, verdict.getStatus());
+        assertFalse(verdict.getResult().getValid());
+        assertEquals(2, model.getCurrentPath().size());
+    }
+
+    @Test
+    public void testUndoRedoJump() {
+        // Play EAST -> WAST -> WEST, then navigate the timeline
+        model.setRandomWordFlag(false);
+        model.updateStrategy();
+        int[] notifications = new int[1];
+        model.getEventBus().subscribe(notification -> notifications[0]++);
+
+        model.tick("WAST");
+        model.tick("WEST");
+        assertTrue(model.isWon());
+        assertEquals(2, model.getLastStep());
+        assertFalse(model.redo());
+
+        // Undo leaves the win and keeps the undone move for redo
+        notifications[0] = 0;
+        assertTrue(model.undo());
+        assertEquals(1, notifications[0]);
+        assertFalse(model.isWon());
+        assertEquals("WAST", model.getCurrentPath().get(1));
+        assertEquals(2, model.getCurrentPath().size());
+        assertEquals(2, model.getLastStep());
+
+        assertTrue(model.redo());
+        assertTrue(model.isWon());
+        assertEquals("WEST", model.getCurrentPath().get(2));
+
+        assertTrue(model.jumpTo(0));
+        assertEquals(1, model.getCurrentPath().size());
+        assertFalse(model.undo());
+        assertFalse(model.jumpTo(3));
+        assertEquals(3, notifications[0]);
+
+        // A new move drops the steps after the current one
+        assertTrue(model.jumpTo(1));
+        model.tick("WASH");
+        assertEquals(2, model.getLastStep());
+        assertEquals("WASH", model.getCurrentPath().get(2));
+        assertFalse(model.redo());
+    }
+
+    @Test
+    public void testMetrics() {
+        // Nothing is recorded while metrics are off, even if the JVM was started with them on
+        boolean wasEnabled = GameMetrics.isEnabled();
+        GameMetrics.setEnabled(false);
+        GameMetrics.reset();
+        model.tick("WAST");
+        assertEquals(0, GameMetrics.TICK.getCount());
+
+        GameMetrics.setEnabled(true);
+        try {
+            // Either way of starting a game is timed once
+            model.initialize();
+            model.initialize(model.generateWords());
+            assertEquals(2, GameMetrics.INITIALIZE.getCount());
+            model.resetGame();
+            model.tryTick("AAAA");
+            model.tick("WAST");
+            model.tick("WEST");
+            assertEquals(3, model.getFullSolutionPath().size());
+            assertEquals(3, GameMetrics.TICK.getCount());
+            assertEquals(1, GameMetrics.TICK_REJECTED.get());
+            assertEquals(1, GameMetrics.RESET.getCount());
+            assertEquals(1, GameMetrics.SOLUTION_PATH.getCount());
+            assertTrue(GameMetrics.PATH_VISITED.getMax() >= 3);
+            assertTrue(GameMetrics.snapshot().contains("model.tick.rejected"));
+        } finally {
+            GameMetrics.setEnabled(false);
+            GameMetrics.reset();
+        }
+
+        // Percentiles are within the bucket width of the recorded values
+        GameMetrics.Histogram histogram = new GameMetrics.Histogram(false);
+        GameMetrics.setEnabled(true);
+        for (int value = 1; value <= 1000; value++) {
+            histogram.record(value);
+        }
+        GameMetrics.setEnabled(wasEnabled);
+        assertEquals(1000, histogram.getCount());
+        assertEquals(1000, histogram.getMax());
+        assertEquals(500, histogram.getPercentile(50), 500 / 16.0);
+        assertEquals(990, histogram.getPercentile(99), 990 / 16.0);
+    }
+
+    @Test
+    public void testGenerateThenInitialize() {
+        // Generating the next pair leaves the current game alone until it is started
+        model.setRandomWordFlag(true);
+        model.tick("WAST");
+        String[] words = model.generateWords();
+        assertEquals("EAST", model.getInitialWord());
+        assertEquals(2, model.getCurrentPath().size());
+        assertTrue(model.getFullSolutionPath(words[0], words[1]).size() > 1);
+
+        model.initialize(words);
+        assertEquals(words[0], model.getInitialWord());
+        assertEquals(words[1], model.getTargetWord());
+        assertEquals(1, model.getCurrentPath().size());
+    }
+}
@@ -0,0 +1,142 @@
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.Assert.*;
+
+public class WeaverServerTest {
+    WeaverEngine engine;
+    WeaverServer server;
+    Thread serverThread;
+
+    @Before
+    public void setUp() throws Exception {
+        engine = new WeaverEngine();
+        server = new WeaverServer(engine, new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+        serverThread = new Thread(server, "weaver-server-test");
+        serverThread.start();
+    }
+
+    @After
+    public void tearDown() throws InterruptedException {
+        server.close();
+        serverThread.join(5000);
+    }
+
+    private Socket connect() throws IOException {
+        Socket socket = new Socket(InetAddress.getLoopbackAddress(), server.getLocalPort());
+        socket.setSoTimeout(5000);
+        return socket;
+    }
+
+    @Test
+    public void testProtocol() throws Exception {
+        try (Socket socket = connect()) {
+            BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII));
+            OutputStream out = socket.getOutputStream();
+
+            out.write("PATH\nNEW EAST WEST\nTICK WAST\n".getBytes(StandardCharsets.US_ASCII));
+            assertEquals("ERR No game started; send NEW first.", in.readLine());
+            assertEquals("OK EAST WEST", in.readLine());
+            assertEquals("OK CNCC", in.readLine());
+
+            // A rejected NEW keeps the current game
+            out.write("NEW EAST ZZZZ\nPATH\nTICK WEST\n".getBytes(StandardCharsets.US_ASCII));
+            assertEquals("ERR This word is not in the dictionary.", in.readLine());
+            assertEquals("OK EAST WAST WEST", in.readLine());
+            assertEquals("OK CCCC WIN", in.readLine());
+
+            // Offloaded requests are answered in order with the requests pipelined behind them
+            out.write("NEW\nRESET\nBOGUS\n".getBytes(StandardCharsets.US_ASCII));
+            String[] words = in.readLine().split(" ");
+            assertEquals(3, words.length);
+            assertEquals("OK " + words[1] + " " + words[2], in.readLine());
+            assertEquals("ERR Unknown command: BOGUS", in.readLine());
+            // The replaced sessions are closed behind the session's queued commands
+            for (int i = 0; i < 100 && engine.sessionCount() > 1; i++) {
+                Thread.sleep(10);
+            }
+            assertEquals(1, engine.sessionCount());
+
+            // Lines pipelined after QUIT are not executed
+            out.write("QUIT\nNEW EAST WEST\n".getBytes(StandardCharsets.US_ASCII));
+            assertEquals("OK", in.readLine());
+            assertNull(in.readLine());
+        }
+    }
+
+    @Test
+    public void testClientThatDoesNotReadIsThrottled() throws Exception {
+        try (Socket socket = connect(); Socket other = connect()) {
+            // The server stops reading a connection whose responses are not being read, so the
+            // client's writes block once the socket buffers fill, instead of server memory growing
+            byte[] requests = "BOGUS\n".repeat(10_000).getBytes(StandardCharsets.US_ASCII);
+            Thread writer = new Thread(() -> {
+                try {
+                    OutputStream out = socket.getOutputStream();
+                    for (int i = 0; i < 10_000; i++) {
+                        out.write(requests);
+                    }
+                } catch (IOException e) {
+                    // Closed at the end of the test
+                }
+            });
+            writer.setDaemon(true);
+            writer.start();
+            writer.join(2000);
+            assertTrue(writer.isAlive());
+
+            // Other connections are still served
+            BufferedReader in = new BufferedReader(new InputStreamReader(other.getInputStream(), StandardCharsets.US_ASCII));
+            other.getOutputStream().write("NEW EAST WEST\n".getBytes(StandardCharsets.US_ASCII));
+            assertEquals("OK EAST WEST", in.readLine());
+        }
+    }
+
+    @Test
+    public void testServerKeepsAcceptingAfterAnAcceptFailure() throws Exception {
+        AtomicBoolean failed = new AtomicBoolean();
+        WeaverServer failing = new WeaverServer(engine, new InetSocketAddress(InetAddress.getLoopbackAddress(), 0)) {
+            @Override
+            SocketChannel acceptChannel() throws IOException {
+                SocketChannel channel = super.acceptChannel();
+                if (channel != null && failed.compareAndSet(false, true)) {
+                    // As if the process ran out of file descriptors while setting up the connection
+                    channel.close();
+                    throw new IOException("Too many open files");
+                }
+                return channel;
+            }
+        };
+        Thread thread = new Thread(failing, "weaver-server-failing-accept");
+        thread.start();
+        try {
+            try (Socket rejected = new Socket(InetAddress.getLoopbackAddress(), failing.getLocalPort())) {
+                rejected.setSoTimeout(5000);
+                assertEquals(-1, rejected.getInputStream().read());
+            }
+            assertTrue(failed.get());
+
+            try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), failing.getLocalPort())) {
+                socket.setSoTimeout(5000);
+                BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII));
+                socket.getOutputStream().write("NEW EAST WEST\n".getBytes(StandardCharsets.US_ASCII));
+                assertEquals("OK EAST WEST", in.readLine());
+            }
+        } finally {
+            failing.close();
+            thread.join(5000);
+        }
+    }
+}
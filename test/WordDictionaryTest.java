@@ -0,0 +1,79 @@
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class WordDictionaryTest {
+
+    @Test
+    public void testEncodeDecode() {
+        assertEquals(0, WordDictionary.encode("AAAA"));
+        assertEquals(25 * ((1 << 15) | (1 << 10) | (1 << 5) | 1), WordDictionary.encode("ZZZZ")); // 5 bits per letter
+        for (String word : List.of("AAAA", "EAST", "WEST", "ZZZZ", "QXZJ")) {
+            assertEquals(word, WordDictionary.decode(WordDictionary.encode(word)));
+        }
+        // Codes order words alphabetically
+        assertTrue(WordDictionary.encode("EAST") < WordDictionary.encode("EASY"));
+        assertTrue(WordDictionary.encode("AZZZ") < WordDictionary.encode("BAAA"));
+    }
+
+    @Test
+    public void testEncodeRejectsInvalidWords() {
+        for (String word : Arrays.asList(null, "", "EAS", "EASTS", "east", "EA5T", "EAS-", "ÉAST", "EA T")) {
+            assertEquals(String.valueOf(word), -1, WordDictionary.encode(word));
+        }
+    }
+
+    @Test
+    public void testLookups() {
+        WordDictionary dictionary = WordDictionary.of(List.of("WEST", "EAST", "east", "EASTS", "EA5T", "WEST", "WAST"));
+        // Invalid and repeated words are skipped; the others keep their order of first appearance
+        assertEquals(List.of("WEST", "EAST", "WAST"), dictionary);
+        assertEquals(0, dictionary.indexOf("WEST"));
+        assertEquals(2, dictionary.indexOf("WAST"));
+        assertEquals(-1, dictionary.indexOf("VEST"));
+        assertEquals(1, dictionary.indexOfCode(WordDictionary.encode("EAST")));
+        assertEquals(-1, dictionary.indexOfCode(-1));
+        assertEquals(WordDictionary.encode("WAST"), dictionary.codeAt(2));
+
+        assertTrue(dictionary.contains("EAST"));
+        assertFalse(dictionary.contains("east"));
+        assertFalse(dictionary.contains("EA5T"));
+        assertFalse(dictionary.contains("EAS"));
+        assertFalse(dictionary.contains("EASTS"));
+        assertFalse(dictionary.contains((String) null));
+        assertFalse(dictionary.contains((Object) 42));
+        assertEquals(-1, dictionary.indexOf((Object) 42));
+    }
+
+    @Test
+    public void testOfCodes() {
+        WordDictionary dictionary = WordDictionary.of(List.of("WEST", "EAST", "WAST"));
+        int[] codes = {dictionary.codeAt(0), dictionary.codeAt(1), dictionary.codeAt(2)};
+        WordDictionary copy = WordDictionary.ofCodes(codes);
+        assertEquals(dictionary, copy);
+        assertEquals(dictionary.fingerprint(), copy.fingerprint());
+        assertNotEquals(dictionary.fingerprint(), WordDictionary.of(List.of("EAST", "WEST", "WAST")).fingerprint());
+
+        for (int[] invalid : new int[][]{{codes[0], codes[0]}, {-1}, {1 << 20}, {26}}) {
+            try {
+                WordDictionary.ofCodes(invalid);
+                fail("Code array must be rejected: " + Arrays.toString(invalid));
+            } catch (IllegalArgumentException expected) {
+                // Repeated, out of range, or a letter beyond Z
+            }
+        }
+    }
+
+    @Test
+    public void testBundledDictionaryLookups() throws Exception {
+        WordDictionary dictionary = new WeaverModel().getDictionary();
+        for (int id = 0; id < dictionary.size(); id++) {
+            String word = dictionary.get(id);
+            assertEquals(id, dictionary.indexOf(word));
+            assertEquals(WordDictionary.encode(word), dictionary.codeAt(id));
+        }
+    }
+}
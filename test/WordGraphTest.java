@@ -0,0 +1,114 @@
+import org.junit.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.Assert.*;
+
+public class WordGraphTest {
+
+    // EAST-WAST-WEST-VEST is a chain, ABCD-ABCE a pair, and QXZJ is isolated
+    private static final List<String> WORDS = List.of("EAST", "WAST", "QXZJ", "WEST", "ABCD", "VEST", "ABCE");
+
+    private static Set<String> neighborsOf(WordGraph graph, String word) {
+        int id = graph.indexOf(word);
+        Set<String> neighbors = new HashSet<>();
+        for (int k = graph.neighborStart(id); k < graph.neighborEnd(id); k++) {
+            neighbors.add(graph.wordAt(graph.neighborAt(k)));
+        }
+        assertEquals(graph.degree(id), neighbors.size());
+        return neighbors;
+    }
+
+    @Test
+    public void testAdjacency() {
+        WordGraph graph = WordGraph.build(WordDictionary.of(WORDS));
+        assertEquals(WORDS.size(), graph.size());
+        for (int id = 0; id < graph.size(); id++) {
+            assertEquals(id, graph.indexOf(graph.wordAt(id)));
+        }
+        assertEquals(-1, graph.indexOf("ZZZZ"));
+        assertEquals(-1, graph.indexOf("east"));
+
+        assertEquals(Set.of("WAST"), neighborsOf(graph, "EAST"));
+        assertEquals(Set.of("EAST", "WEST"), neighborsOf(graph, "WAST"));
+        assertEquals(Set.of("WAST", "VEST"), neighborsOf(graph, "WEST"));
+        assertEquals(Set.of("ABCE"), neighborsOf(graph, "ABCD"));
+        assertEquals(Set.of(), neighborsOf(graph, "QXZJ"));
+    }
+
+    @Test
+    public void testComponents() {
+        WordGraph graph = WordGraph.build(WordDictionary.of(WORDS));
+        assertEquals(3, graph.componentCount());
+        int chain = graph.componentOf(graph.indexOf("EAST"));
+        assertEquals(4, graph.componentSize(chain));
+        assertEquals(2, graph.componentSize(graph.componentOf(graph.indexOf("ABCD"))));
+        assertEquals(1, graph.componentSize(graph.componentOf(graph.indexOf("QXZJ"))));
+
+        Set<String> members = new HashSet<>();
+        for (int k = 0; k < graph.componentSize(chain); k++) {
+            members.add(graph.wordAt(graph.componentMember(chain, k)));
+        }
+        assertEquals(Set.of("EAST", "WAST", "WEST", "VEST"), members);
+
+        assertTrue(graph.isConnected(graph.indexOf("EAST"), graph.indexOf("VEST")));
+        assertTrue(graph.isConnected(graph.indexOf("QXZJ"), graph.indexOf("QXZJ")));
+        assertFalse(graph.isConnected(graph.indexOf("EAST"), graph.indexOf("ABCD")));
+        assertFalse(graph.isConnected(graph.indexOf("ABCE"), graph.indexOf("QXZJ")));
+    }
+
+    @Test
+    public void testPairableWords() {
+        WordGraph graph = WordGraph.build(WordDictionary.of(WORDS));
+        // Every word except the isolated one can start a solvable puzzle
+        assertEquals(6, graph.pairableCount());
+        Set<String> pairable = new HashSet<>();
+        for (int k = 0; k < graph.pairableCount(); k++) {
+            pairable.add(graph.wordAt(graph.pairableAt(k)));
+        }
+        assertFalse(pairable.contains("QXZJ"));
+        assertEquals(6, pairable.size());
+
+        // No pairable words when every word is isolated, and none in an empty dictionary
+        assertEquals(0, WordGraph.build(WordDictionary.of(List.of("EAST", "ABCD"))).pairableCount());
+        WordGraph empty = WordGraph.build(WordDictionary.of(List.of()));
+        assertEquals(0, empty.size());
+        assertEquals(0, empty.pairableCount());
+        assertEquals(0, empty.componentCount());
+    }
+
+    @Test
+    public void testFromAdjacencyMatchesBuild() throws Exception {
+        WordGraph built = new WeaverModel().getWordGraph();
+        int size = built.size();
+        int[] offsets = new int[size + 1];
+        for (int id = 0; id < size; id++) {
+            offsets[id] = built.neighborStart(id);
+        }
+        offsets[size] = built.neighborEnd(size - 1);
+        int[] neighbors = new int[offsets[size]];
+        for (int k = 0; k < neighbors.length; k++) {
+            neighbors[k] = built.neighborAt(k);
+        }
+        WordGraph copy = WordGraph.fromAdjacency(built.getDictionary(), offsets, neighbors);
+        assertEquals(built.componentCount(), copy.componentCount());
+        assertEquals(built.pairableCount(), copy.pairableCount());
+
+        // Adjacency is symmetric and links words one letter apart
+        for (int id = 0; id < size; id += 37) {
+            for (int k = copy.neighborStart(id); k < copy.neighborEnd(id); k++) {
+                int neighbor = copy.neighborAt(k);
+                assertTrue(neighborsOf(copy, copy.wordAt(neighbor)).contains(copy.wordAt(id)));
+                String a = copy.wordAt(id);
+                String b = copy.wordAt(neighbor);
+                int differences = 0;
+                for (int i = 0; i < a.length(); i++) {
+                    differences += a.charAt(i) != b.charAt(i) ? 1 : 0;
+                }
+                assertEquals(1, differences);
+            }
+        }
+    }
+}